@@ -7,6 +7,7 @@ import com.linkedin.datahub.dao.table.GmsDao;
 import com.linkedin.datahub.dao.table.LineageDao;
 import com.linkedin.datahub.dao.view.BrowseDAO;
 import com.linkedin.datahub.dao.view.CorpUserViewDao;
+import com.linkedin.datahub.dao.view.DatasetPageDao;
 import com.linkedin.datahub.dao.view.DatasetViewDao;
 import com.linkedin.datahub.dao.view.DocumentSearchDao;
 import com.linkedin.datahub.dao.view.OwnerViewDao;
@@ -24,6 +25,7 @@ public class DaoFactory {
   private static BrowseDAO datasetBrowseDao;
   private static OwnerViewDao ownerViewDao;
   private static DatasetViewDao datasetViewDao;
+  private static DatasetPageDao datasetPageDao;
   private static DatasetOwnerDao datasetOwnerDao;
   private static DatasetsDao datasetsDao;
   private static LineageDao lineageDao;
@@ -83,6 +85,14 @@ public class DaoFactory {
     return datasetViewDao;
   }
 
+  public static DatasetPageDao getDatasetPageDao() {
+    if (datasetPageDao == null) {
+      datasetPageDao = new DatasetPageDao(getGmsDao().get_datasets(), getGmsDao().get_ownerships(),
+              getGmsDao().get_corpUsers(), getGmsDao().get_schemas(), getGmsDao().get_lineages());
+    }
+    return datasetPageDao;
+  }
+
   public static DatasetOwnerDao getDatasetOwnerDao() {
     if (datasetOwnerDao == null) {
       datasetOwnerDao = new DatasetOwnerDao(getGmsDao().get_ownerships());
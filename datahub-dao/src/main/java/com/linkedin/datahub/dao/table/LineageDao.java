@@ -33,8 +33,19 @@ public class LineageDao {
   public List<LineageView> getUpstreamLineage(@Nonnull String datasetUrn) throws Exception {
     final UpstreamArray upstreamArray = _lineages.getUpstreamLineage(toDatasetUrn(datasetUrn)).getUpstreams();
     final Map<DatasetUrn, Dataset> datasets = _datasets.batchGet(upstreamArray.stream().map(u -> u.getDataset())
-        .collect(Collectors.toSet()));
+        .collect(Collectors.toSet()), DATASET_VIEW_FIELDS);
+    return toUpstreamLineageViews(upstreamArray, datasets);
+  }
 
+  /**
+   * Converts upstreams of a dataset to LineageViews, given the upstream datasets
+   * @param upstreamArray UpstreamArray
+   * @param datasets upstream datasets by urn
+   * @return List of LineageView
+   */
+  @Nonnull
+  public static List<LineageView> toUpstreamLineageViews(@Nonnull UpstreamArray upstreamArray,
+      @Nonnull Map<DatasetUrn, Dataset> datasets) {
     return upstreamArray.stream()
         .map(us -> toLineageView(datasets.get(us.getDataset()), us.getType().name(), us.getAuditStamp()))
         .collect(Collectors.toList());
@@ -48,8 +59,19 @@ public class LineageDao {
   public List<LineageView> getDownstreamLineage(@Nonnull String datasetUrn) throws Exception {
     final DownstreamArray downstreamArray = _lineages.getDownstreamLineage(toDatasetUrn(datasetUrn)).getDownstreams();
     final Map<DatasetUrn, Dataset> datasets = _datasets.batchGet(downstreamArray.stream().map(u -> u.getDataset())
-        .collect(Collectors.toSet()));
+        .collect(Collectors.toSet()), DATASET_VIEW_FIELDS);
+    return toDownstreamLineageViews(downstreamArray, datasets);
+  }
 
+  /**
+   * Converts downstreams of a dataset to LineageViews, given the downstream datasets
+   * @param downstreamArray DownstreamArray
+   * @param datasets downstream datasets by urn
+   * @return List of LineageView
+   */
+  @Nonnull
+  public static List<LineageView> toDownstreamLineageViews(@Nonnull DownstreamArray downstreamArray,
+      @Nonnull Map<DatasetUrn, Dataset> datasets) {
     return downstreamArray.stream()
         .map(ds -> toLineageView(datasets.get(ds.getDataset()), ds.getType().name(), ds.getAuditStamp()))
         .collect(Collectors.toList());
@@ -21,6 +21,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.linkedin.datahub.util.DatasetUtil.DATASET_VIEW_FIELDS;
 import static com.linkedin.datahub.util.DatasetUtil.toDatasetUrn;
 import static com.linkedin.datahub.util.DatasetUtil.toDatasetView;
 import static com.linkedin.datahub.util.RestliUtil.toJsonNode;
@@ -46,7 +47,7 @@ public class DatasetViewDao {
 
   @Nonnull
   public DatasetView getDatasetView(@Nonnull String datasetUrn) throws Exception {
-    return toDatasetView(_datasets.get(toDatasetUrn(datasetUrn)));
+    return toDatasetView(_datasets.get(toDatasetUrn(datasetUrn), DATASET_VIEW_FIELDS));
   }
 
   @Nonnull
@@ -85,7 +86,16 @@ public class DatasetViewDao {
    */
   @Nullable
   public DatasetSchema getDatasetSchema(@Nonnull String datasetUrn) throws Exception {
-    SchemaMetadata schema = _schemas.getLatestSchemaByDataset(toDatasetUrn(datasetUrn));
+    return toDatasetSchema(_schemas.getLatestSchemaByDataset(toDatasetUrn(datasetUrn)));
+  }
+
+  /**
+   * Convert TMS schema metadata to WH DatasetSchema
+   * @param schema SchemaMetadata, may be null
+   * @return dataset schema, null if there is no schema metadata
+   */
+  @Nullable
+  public static DatasetSchema toDatasetSchema(@Nullable SchemaMetadata schema) {
     if (schema == null) {
       return null;
     }
@@ -129,7 +139,7 @@ public class DatasetViewDao {
   /**
    * Convert TMS schema field array to WH list of DatasetColumn
    */
-  private List<DatasetColumn> toWhDatasetColumns(@Nonnull SchemaFieldArray fields) {
+  private static List<DatasetColumn> toWhDatasetColumns(@Nonnull SchemaFieldArray fields) {
     List<DatasetColumn> columns = new ArrayList<>();
     for (SchemaField field : fields) {
       DatasetColumn col = new DatasetColumn();
@@ -38,7 +38,15 @@ public class OwnerViewDao {
 
     Ownership ownership = _ownerships.getLatestOwnership(urn);
     Map<CorpuserUrn, CorpUser> owners = _corpUsers.batchGet(getOwnerUrns(ownership));
+    return toDatasetOwnership(datasetUrn, ownership, owners);
+  }
 
+  /**
+   * Converts the ownership of a dataset and the corp users owning it to a {@link DatasetOwnership}
+   */
+  @Nonnull
+  public static DatasetOwnership toDatasetOwnership(@Nonnull String datasetUrn, @Nonnull Ownership ownership,
+      @Nonnull Map<CorpuserUrn, CorpUser> owners) {
     DatasetOwnership datasetOwnership = new DatasetOwnership();
     datasetOwnership.setDatasetUrn(datasetUrn);
     datasetOwnership.setFromUpstream(false);
@@ -49,7 +57,7 @@ public class OwnerViewDao {
   }
 
   @Nonnull
-  private List<DatasetOwner> fillDatasetOwner(@Nonnull Ownership ownership,
+  private static List<DatasetOwner> fillDatasetOwner(@Nonnull Ownership ownership,
       @Nonnull Map<CorpuserUrn, CorpUser> owners) {
     final Long modified = ownership.getLastModified().getTime();
     return ownership.getOwners()
@@ -60,7 +68,7 @@ public class OwnerViewDao {
   }
 
   @Nullable
-  private CorpuserUrn getOwnerUrn(@Nonnull Owner owner) {
+  private static CorpuserUrn getOwnerUrn(@Nonnull Owner owner) {
     try {
       return CorpUserUtil.toCorpUserUrn(owner.getOwner().toString());
     } catch (URISyntaxException e) {
@@ -69,10 +77,13 @@ public class OwnerViewDao {
     }
   }
 
+  /**
+   * Gets the urns of the corp users owning a dataset
+   */
   @Nonnull
-  private Set<CorpuserUrn> getOwnerUrns(@Nonnull Ownership ownership) {
+  public static Set<CorpuserUrn> getOwnerUrns(@Nonnull Ownership ownership) {
     return ownership.getOwners().stream()
-        .map(this::getOwnerUrn)
+        .map(OwnerViewDao::getOwnerUrn)
         .collect(Collectors.toSet());
   }
 }
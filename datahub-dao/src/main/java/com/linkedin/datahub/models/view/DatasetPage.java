@@ -0,0 +1,26 @@
+package com.linkedin.datahub.models.view;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+
+/**
+ * Everything the dataset page shows about a dataset, fetched at once.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DatasetPage {
+
+  private DatasetView dataset;
+
+  private DatasetOwnership ownership;
+
+  private DatasetSchema schema;
+
+  private List<LineageView> upstreams;
+
+  private List<LineageView> downstreams;
+}
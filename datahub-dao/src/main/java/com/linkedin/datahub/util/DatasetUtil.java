@@ -3,6 +3,7 @@ package com.linkedin.datahub.util;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.datahub.models.view.DatasetView;
+import com.linkedin.data.schema.PathSpec;
 import com.linkedin.datahub.models.view.LineageView;
 import com.linkedin.dataset.Dataset;
 
@@ -13,6 +14,24 @@ import static com.linkedin.datahub.util.UrnUtil.splitWhUrn;
 
 
 public class DatasetUtil {
+
+  /**
+   * Fields of {@link Dataset} read by {@link #toDatasetView(Dataset)}, so that GMS only loads the aspects they need
+   */
+  public static final PathSpec[] DATASET_VIEW_FIELDS = {
+      Dataset.fields().platform(),
+      Dataset.fields().name(),
+      Dataset.fields().origin(),
+      Dataset.fields().description(),
+      Dataset.fields().tags(),
+      Dataset.fields().platformNativeType(),
+      Dataset.fields().status(),
+      Dataset.fields().deprecation(),
+      Dataset.fields().created(),
+      Dataset.fields().lastModified(),
+      Dataset.fields().properties()
+  };
+
   private DatasetUtil() {
 
   }
@@ -0,0 +1,98 @@
+package com.linkedin.datahub.dao.view;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.datahub.models.view.DatasetPage;
+import com.linkedin.dataset.Dataset;
+import com.linkedin.dataset.DownstreamLineage;
+import com.linkedin.dataset.UpstreamArray;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.dataset.client.Datasets;
+import com.linkedin.dataset.client.Lineages;
+import com.linkedin.dataset.client.Ownerships;
+import com.linkedin.dataset.client.Schemas;
+import com.linkedin.identity.client.CorpUsers;
+import com.linkedin.restli.client.RestLiResponseException;
+import com.linkedin.schema.SchemaMetadata;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.linkedin.datahub.util.DatasetUtil.DATASET_VIEW_FIELDS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class DatasetPageDaoTest {
+    private static final DatasetUrn URN = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+
+    private Datasets _datasets;
+    private Ownerships _ownerships;
+    private Schemas _schemas;
+    private Lineages _lineages;
+    private DatasetPageDao _datasetPageDao;
+
+    @BeforeMethod
+    public void init() {
+        _datasets = mock(Datasets.class);
+        _ownerships = mock(Ownerships.class);
+        _schemas = mock(Schemas.class);
+        _lineages = mock(Lineages.class);
+        _datasetPageDao = new DatasetPageDao(_datasets, _ownerships, mock(CorpUsers.class), _schemas, _lineages);
+
+        CompletableFuture<Ownership> ownership = notFound();
+        CompletableFuture<SchemaMetadata> schema = notFound();
+        CompletableFuture<DownstreamLineage> downstreams = notFound();
+        when(_ownerships.getLatestOwnershipAsync(URN)).thenReturn(ownership);
+        when(_schemas.getLatestSchemaByDatasetAsync(URN)).thenReturn(schema);
+        when(_lineages.getUpstreamLineageAsync(URN)).thenReturn(
+                CompletableFuture.completedFuture(new UpstreamLineage().setUpstreams(new UpstreamArray())));
+        when(_lineages.getDownstreamLineageAsync(URN)).thenReturn(downstreams);
+    }
+
+    @Test
+    public void testMissingSectionsAreDefaulted() throws Exception {
+        Dataset dataset = new Dataset()
+                .setPlatform(new DataPlatformUrn("hive"))
+                .setName("foo")
+                .setOrigin(FabricType.PROD)
+                .setDescription("")
+                .setTags(new StringArray());
+        when(_datasets.getAsync(URN, DATASET_VIEW_FIELDS)).thenReturn(CompletableFuture.completedFuture(dataset));
+
+        DatasetPage page = _datasetPageDao.getDatasetPage(URN.toString());
+
+        assertEquals(page.getDataset().getUri(), URN.toString());
+        assertNull(page.getOwnership());
+        assertNull(page.getSchema());
+        assertTrue(page.getUpstreams().isEmpty());
+        assertTrue(page.getDownstreams().isEmpty());
+        // no upstreams, no need to fetch upstream datasets
+        verify(_datasets).getAsync(URN, DATASET_VIEW_FIELDS);
+        verifyNoMoreInteractions(_datasets);
+    }
+
+    @Test(expectedExceptions = RestLiResponseException.class)
+    public void testMissingDatasetFailsPage() throws Exception {
+        CompletableFuture<Dataset> dataset = notFound();
+        when(_datasets.getAsync(URN, DATASET_VIEW_FIELDS)).thenReturn(dataset);
+
+        _datasetPageDao.getDatasetPage(URN.toString());
+    }
+
+    private static <T> CompletableFuture<T> notFound() {
+        RestLiResponseException e = mock(RestLiResponseException.class);
+        when(e.getStatus()).thenReturn(404);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+}
@@ -9,6 +9,7 @@ import com.linkedin.datahub.dao.DaoFactory;
 import com.linkedin.datahub.dao.table.DataPlatformsDao;
 import com.linkedin.datahub.dao.table.DatasetOwnerDao;
 import com.linkedin.datahub.dao.table.LineageDao;
+import com.linkedin.datahub.dao.view.DatasetPageDao;
 import com.linkedin.datahub.dao.view.DatasetViewDao;
 import com.linkedin.datahub.dao.view.OwnerViewDao;
 import com.linkedin.datahub.models.view.*;
@@ -28,6 +29,7 @@ import java.util.List;
 public class Dataset extends Controller {
 
   private final DatasetViewDao _datasetViewDao;
+  private final DatasetPageDao _datasetPageDao;
   private final OwnerViewDao _ownerViewDao;
   private final DatasetOwnerDao _datasetOwnerDao;
   private final LineageDao _lineageDao;
@@ -37,6 +39,7 @@ public class Dataset extends Controller {
 
   public Dataset() {
     _datasetViewDao = DaoFactory.getDatasetViewDao();
+    _datasetPageDao = DaoFactory.getDatasetPageDao();
     _ownerViewDao = DaoFactory.getOwnerViewDao();
     _datasetOwnerDao = DaoFactory.getDatasetOwnerDao();
     _lineageDao = DaoFactory.getLineageDao();
@@ -61,6 +64,29 @@ public class Dataset extends Controller {
     return ok(Json.toJson(view));
   }
 
+  /**
+   * Gets the dataset view, owners, schema and lineage of a dataset in one response
+   *
+   * @param datasetUrn Dataset Urn
+   */
+  @Security.Authenticated(Secured.class)
+  @Nonnull
+  public Result getDatasetPage(@Nonnull String datasetUrn) {
+    final DatasetPage page;
+    try {
+      page = _datasetPageDao.getDatasetPage(datasetUrn);
+    } catch (Exception e) {
+      if (ControllerUtil.checkErrorCode(e, 404)) {
+        return notFound(EMPTY_RESPONSE);
+      }
+
+      Logger.error("Failed to get dataset page", e);
+      return internalServerError(ControllerUtil.errorResponse(e));
+    }
+
+    return ok(Json.toJson(page));
+  }
+
   @Security.Authenticated(Secured.class)
   @Nonnull
   public Result updateDatasetDeprecation(@Nonnull String datasetUrn) {
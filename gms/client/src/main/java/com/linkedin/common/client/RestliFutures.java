@@ -0,0 +1,40 @@
+package com.linkedin.common.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.restli.client.Client;
+import com.linkedin.restli.client.Request;
+import com.linkedin.restli.client.Response;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Sends Rest.li requests without blocking the calling thread.
+ */
+public final class RestliFutures {
+
+    private RestliFutures() {
+        // Util class
+    }
+
+    /**
+     * Sends a request and returns a future completed with the entity of its response, or with the
+     * {@link com.linkedin.r2.RemoteInvocationException} the request failed with.
+     */
+    @Nonnull
+    public static <T> CompletableFuture<T> sendRequest(@Nonnull Client client, @Nonnull Request<T> request) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        client.sendRequest(request, new Callback<Response<T>>() {
+            @Override
+            public void onError(Throwable e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onSuccess(Response<T> response) {
+                future.complete(response.getEntity());
+            }
+        });
+        return future;
+    }
+}
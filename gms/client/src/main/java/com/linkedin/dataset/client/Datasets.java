@@ -1,17 +1,27 @@
 package com.linkedin.dataset.client;
 
+import com.linkedin.common.client.RestliFutures;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.dataset.Dataset;
 import com.linkedin.dataset.DatasetKey;
+import com.linkedin.dataset.DatasetSnapshotExport;
+import com.linkedin.dataset.DatasetsBatchGetRequestBuilder;
 import com.linkedin.dataset.DatasetsDoAutocompleteRequestBuilder;
 import com.linkedin.dataset.DatasetsDoBrowseRequestBuilder;
+import com.linkedin.dataset.DatasetsDoExportSnapshotsRequestBuilder;
 import com.linkedin.dataset.DatasetsDoGetBrowsePathsRequestBuilder;
+import com.linkedin.dataset.DatasetsDoGetLineageGraphRequestBuilder;
 import com.linkedin.dataset.DatasetsDoGetSnapshotRequestBuilder;
 import com.linkedin.dataset.DatasetsFindByFilterRequestBuilder;
 import com.linkedin.dataset.DatasetsFindBySearchRequestBuilder;
+import com.linkedin.dataset.DatasetsGetRequestBuilder;
 import com.linkedin.dataset.DatasetsRequestBuilders;
+import com.linkedin.dataset.LineageDirection;
+import com.linkedin.dataset.LineageGraph;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.BrowseResult;
 import com.linkedin.metadata.query.IndexFilter;
@@ -22,13 +32,18 @@ import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.BatchGetEntityRequest;
 import com.linkedin.restli.client.Client;
 import com.linkedin.restli.client.GetRequest;
+import com.linkedin.restli.client.response.BatchKVResponse;
 import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
+import com.linkedin.restli.common.EntityResponse;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -37,6 +52,8 @@ import static com.linkedin.metadata.dao.utils.QueryUtils.*;
 
 public class Datasets extends BaseBrowsableClient<Dataset, DatasetUrn> {
     private static final DatasetsRequestBuilders DATASETS_REQUEST_BUILDERS = new DatasetsRequestBuilders();
+    private static final JacksonDataCodec DATA_CODEC = new JacksonDataCodec();
+    private static final int EXPORT_CHUNK_SIZE = 1000;
 
     public Datasets(@Nonnull Client restliClient) {
         super(restliClient);
@@ -59,6 +76,34 @@ public class Datasets extends BaseBrowsableClient<Dataset, DatasetUrn> {
         return _client.sendRequest(getRequest).getResponse().getEntity();
     }
 
+    /**
+     * Gets {@link Dataset} model for the given urn, with only the given fields
+     *
+     * <p>Only the aspects needed by the fields are loaded by GMS.
+     *
+     * @param urn dataset urn
+     * @param fields fields of the model to return
+     * @return {@link Dataset} dataset model
+     * @throws RemoteInvocationException
+     */
+    @Nonnull
+    public Dataset get(@Nonnull DatasetUrn urn, @Nonnull PathSpec... fields)
+            throws RemoteInvocationException {
+        return _client.sendRequest(getRequest(urn, fields)).getResponse().getEntity();
+    }
+
+    /**
+     * Similar to {@link #get(DatasetUrn, PathSpec...)} but does not block while the request is in flight
+     *
+     * @param urn dataset urn
+     * @param fields fields of the model to return
+     * @return future {@link Dataset} dataset model
+     */
+    @Nonnull
+    public CompletableFuture<Dataset> getAsync(@Nonnull DatasetUrn urn, @Nonnull PathSpec... fields) {
+        return RestliFutures.sendRequest(_client, getRequest(urn, fields));
+    }
+
     /**
      * Searches for datasets matching to a given query and filters
      *
@@ -228,6 +273,35 @@ public class Datasets extends BaseBrowsableClient<Dataset, DatasetUrn> {
             );
     }
 
+    /**
+     * Batch gets list of {@link Dataset} models, with only the given fields
+     *
+     * <p>Only the aspects needed by the fields are loaded by GMS.
+     *
+     * @param urns list of dataset urn
+     * @param fields fields of the models to return
+     * @return map of {@link Dataset} models
+     * @throws RemoteInvocationException
+     */
+    @Nonnull
+    public Map<DatasetUrn, Dataset> batchGet(@Nonnull Set<DatasetUrn> urns, @Nonnull PathSpec... fields)
+        throws RemoteInvocationException {
+        return toUrnMap(_client.sendRequest(batchGetRequest(urns, fields)).getResponseEntity());
+    }
+
+    /**
+     * Similar to {@link #batchGet(Set, PathSpec...)} but does not block while the request is in flight
+     *
+     * @param urns list of dataset urn
+     * @param fields fields of the models to return
+     * @return future map of {@link Dataset} models
+     */
+    @Nonnull
+    public CompletableFuture<Map<DatasetUrn, Dataset>> batchGetAsync(@Nonnull Set<DatasetUrn> urns,
+        @Nonnull PathSpec... fields) {
+        return RestliFutures.sendRequest(_client, batchGetRequest(urns, fields)).thenApply(this::toUrnMap);
+    }
+
     /**
      * Gets latest full dataset snapshot given dataset urn
      *
@@ -242,6 +316,118 @@ public class Datasets extends BaseBrowsableClient<Dataset, DatasetUrn> {
         return _client.sendRequest(requestBuilder.build()).getResponse().getEntity();
     }
 
+    /**
+     * Gets a page of the upstream or downstream lineage graph of a dataset
+     *
+     * @param datasetUrn dataset urn to start from
+     * @param direction direction to traverse
+     * @param maxHops maximum number of hops from the dataset
+     * @param maxDatasets maximum number of datasets in the page
+     * @param cursor next cursor of the previous page, null for the first page
+     * @return {@link LineageGraph} page of the lineage graph
+     * @throws RemoteInvocationException
+     */
+    @Nonnull
+    public LineageGraph getLineageGraph(@Nonnull DatasetUrn datasetUrn, @Nonnull LineageDirection direction,
+            int maxHops, int maxDatasets, @Nullable String cursor) throws RemoteInvocationException {
+        DatasetsDoGetLineageGraphRequestBuilder requestBuilder = DATASETS_REQUEST_BUILDERS
+                .actionGetLineageGraph()
+                .urnParam(datasetUrn.toString())
+                .directionParam(direction)
+                .maxHopsParam(maxHops)
+                .maxDatasetsParam(maxDatasets);
+        if (cursor != null) {
+            requestBuilder.cursorParam(cursor);
+        }
+        return _client.sendRequest(requestBuilder.build()).getResponse().getEntity();
+    }
+
+    /**
+     * Gets a chunk of the snapshots of the datasets in the strongly consistent local secondary index, in urn order
+     *
+     * @param indexFilter index filter of the datasets to export, null for all datasets
+     * @param aspectNames aspects to export, null for all aspects
+     * @param cursor next cursor of the previous chunk, null for the first chunk
+     * @param count maximum number of datasets in the chunk
+     * @return {@link DatasetSnapshotExport} chunk of snapshots
+     * @throws RemoteInvocationException
+     */
+    @Nonnull
+    public DatasetSnapshotExport exportSnapshots(@Nullable IndexFilter indexFilter, @Nullable List<String> aspectNames,
+            @Nullable String cursor, int count) throws RemoteInvocationException {
+        DatasetsDoExportSnapshotsRequestBuilder requestBuilder = DATASETS_REQUEST_BUILDERS
+                .actionExportSnapshots()
+                .countParam(count);
+        if (indexFilter != null) {
+            requestBuilder.filterParam(indexFilter);
+        }
+        if (aspectNames != null) {
+            requestBuilder.aspectsParam(new StringArray(aspectNames));
+        }
+        if (cursor != null) {
+            requestBuilder.cursorParam(cursor);
+        }
+        return _client.sendRequest(requestBuilder.build()).getResponse().getEntity();
+    }
+
+    /**
+     * Exports the snapshots of the datasets in the strongly consistent local secondary index as newline-delimited JSON,
+     * one snapshot per line, in urn order
+     *
+     * <p>Snapshots are fetched and written one chunk at a time, so that memory use does not grow with the number of
+     * datasets.
+     *
+     * @param indexFilter index filter of the datasets to export, null for all datasets
+     * @param aspectNames aspects to export, null for all aspects
+     * @param writer writer of the snapshots, which is flushed but not closed
+     * @return number of exported snapshots
+     * @throws RemoteInvocationException
+     * @throws IOException
+     */
+    public long exportSnapshots(@Nullable IndexFilter indexFilter, @Nullable List<String> aspectNames,
+            @Nonnull Writer writer) throws RemoteInvocationException, IOException {
+        long exported = 0;
+        String cursor = null;
+        do {
+            final DatasetSnapshotExport chunk = exportSnapshots(indexFilter, aspectNames, cursor, EXPORT_CHUNK_SIZE);
+            for (DatasetSnapshot snapshot : chunk.getSnapshots()) {
+                writer.write(DATA_CODEC.mapToString(snapshot.data()));
+                writer.write('\n');
+            }
+            writer.flush();
+            exported += chunk.getSnapshots().size();
+            cursor = chunk.getNextCursor();
+        } while (cursor != null);
+        return exported;
+    }
+
+    @Nonnull
+    private GetRequest<Dataset> getRequest(@Nonnull DatasetUrn urn, @Nonnull PathSpec... fields) {
+        DatasetsGetRequestBuilder requestBuilder = DATASETS_REQUEST_BUILDERS.get()
+                .id(new ComplexResourceKey<>(toDatasetKey(urn), new EmptyRecord()));
+        // An empty projection would select no field at all
+        return (fields.length == 0 ? requestBuilder : requestBuilder.fields(fields)).build();
+    }
+
+    @Nonnull
+    private BatchGetEntityRequest<ComplexResourceKey<DatasetKey, EmptyRecord>, Dataset> batchGetRequest(
+        @Nonnull Set<DatasetUrn> urns, @Nonnull PathSpec... fields) {
+        DatasetsBatchGetRequestBuilder requestBuilder = DATASETS_REQUEST_BUILDERS.batchGet()
+            .ids(urns.stream().map(this::getKeyFromUrn).collect(Collectors.toSet()));
+        // An empty projection would select no field at all
+        return (fields.length == 0 ? requestBuilder : requestBuilder.fields(fields)).build();
+    }
+
+    @Nonnull
+    private Map<DatasetUrn, Dataset> toUrnMap(
+        @Nonnull BatchKVResponse<ComplexResourceKey<DatasetKey, EmptyRecord>, EntityResponse<Dataset>> response) {
+        return response.getResults()
+            .entrySet().stream().collect(Collectors.toMap(
+                entry -> getUrnFromKey(entry.getKey()),
+                entry -> entry.getValue().getEntity())
+            );
+    }
+
     @Nonnull
     private ComplexResourceKey<DatasetKey, EmptyRecord> getKeyFromUrn(@Nonnull DatasetUrn urn) {
         return new ComplexResourceKey<>(toDatasetKey(urn), new EmptyRecord());
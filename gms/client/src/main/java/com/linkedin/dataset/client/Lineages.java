@@ -1,6 +1,7 @@
 package com.linkedin.dataset.client;
 
 import com.linkedin.common.client.DatasetsClient;
+import com.linkedin.common.client.RestliFutures;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.dataset.DownstreamLineage;
 import com.linkedin.dataset.DownstreamLineageRequestBuilders;
@@ -15,6 +16,7 @@ import com.linkedin.restli.client.CreateIdRequest;
 import com.linkedin.restli.client.GetRequest;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 
 public class Lineages extends DatasetsClient {
@@ -34,12 +36,7 @@ public class Lineages extends DatasetsClient {
     @Nonnull
     public UpstreamLineage getUpstreamLineage(@Nonnull DatasetUrn datasetUrn, long version)
             throws RemoteInvocationException {
-
-        final GetRequest<UpstreamLineage> request = UPSTREAM_LINEAGE_REQUEST_BUILDERS.get()
-                .datasetKey(new ComplexResourceKey<>(toDatasetKey(datasetUrn), new EmptyRecord()))
-                .id(version)
-                .build();
-        return _client.sendRequest(request).getResponseEntity();
+        return _client.sendRequest(getUpstreamLineageRequest(datasetUrn, version)).getResponseEntity();
     }
 
     /**
@@ -48,9 +45,29 @@ public class Lineages extends DatasetsClient {
     @Nonnull
     public DownstreamLineage getDownstreamLineage(@Nonnull DatasetUrn datasetUrn)
         throws RemoteInvocationException {
+        return _client.sendRequest(getDownstreamLineageRequest(datasetUrn)).getResponseEntity();
+    }
+
+    /**
+     * Similar to {@link #getDownstreamLineage(DatasetUrn)} but does not block while the request is in flight.
+     */
+    @Nonnull
+    public CompletableFuture<DownstreamLineage> getDownstreamLineageAsync(@Nonnull DatasetUrn datasetUrn) {
+        return RestliFutures.sendRequest(_client, getDownstreamLineageRequest(datasetUrn));
+    }
+
+    /**
+     * Gets a page of {@link DownstreamLineage} for the given dataset, ordered by downstream dataset urn.
+     * {@link DownstreamLineage#getNextStart()} is the start of the next page, absent on the last page.
+     */
+    @Nonnull
+    public DownstreamLineage getDownstreamLineage(@Nonnull DatasetUrn datasetUrn, int start, int count)
+        throws RemoteInvocationException {
 
         final GetRequest<DownstreamLineage> request = DOWNSTREAM_LINEAGE_REQUEST_BUILDERS.get()
             .datasetKey(new ComplexResourceKey<>(toDatasetKey(datasetUrn), new EmptyRecord()))
+            .startParam(start)
+            .countParam(count)
             .build();
         return _client.sendRequest(request).getResponseEntity();
     }
@@ -63,6 +80,14 @@ public class Lineages extends DatasetsClient {
         return getUpstreamLineage(datasetUrn, BaseLocalDAO.LATEST_VERSION);
     }
 
+    /**
+     * Similar to {@link #getUpstreamLineage(DatasetUrn)} but does not block while the request is in flight.
+     */
+    @Nonnull
+    public CompletableFuture<UpstreamLineage> getUpstreamLineageAsync(@Nonnull DatasetUrn datasetUrn) {
+        return RestliFutures.sendRequest(_client, getUpstreamLineageRequest(datasetUrn, BaseLocalDAO.LATEST_VERSION));
+    }
+
     /**
      * Sets {@link UpstreamLineage} for a specific dataset.
      */
@@ -94,4 +119,19 @@ public class Lineages extends DatasetsClient {
                 .build();
         return _client.sendRequest(request).getResponseEntity();
     }
+
+    @Nonnull
+    private GetRequest<UpstreamLineage> getUpstreamLineageRequest(@Nonnull DatasetUrn datasetUrn, long version) {
+        return UPSTREAM_LINEAGE_REQUEST_BUILDERS.get()
+                .datasetKey(new ComplexResourceKey<>(toDatasetKey(datasetUrn), new EmptyRecord()))
+                .id(version)
+                .build();
+    }
+
+    @Nonnull
+    private GetRequest<DownstreamLineage> getDownstreamLineageRequest(@Nonnull DatasetUrn datasetUrn) {
+        return DOWNSTREAM_LINEAGE_REQUEST_BUILDERS.get()
+            .datasetKey(new ComplexResourceKey<>(toDatasetKey(datasetUrn), new EmptyRecord()))
+            .build();
+    }
 }
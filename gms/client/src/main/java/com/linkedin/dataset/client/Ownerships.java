@@ -2,6 +2,7 @@ package com.linkedin.dataset.client;
 
 import com.linkedin.common.Ownership;
 import com.linkedin.common.client.DatasetsClient;
+import com.linkedin.common.client.RestliFutures;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.dataset.RawOwnershipRequestBuilders;
@@ -12,6 +13,7 @@ import com.linkedin.restli.client.CreateIdRequest;
 import com.linkedin.restli.client.GetRequest;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -53,13 +55,26 @@ public class Ownerships extends DatasetsClient {
      */
     @Nonnull
     public Ownership getLatestOwnership(@Nonnull DatasetUrn datasetUrn) throws RemoteInvocationException {
+        return _client.sendRequest(getLatestOwnershipRequest(datasetUrn)).getResponse().getEntity();
+    }
+
+    /**
+     * Similar to {@link #getLatestOwnership(DatasetUrn)} but does not block while the request is in flight
+     *
+     * @param datasetUrn DatasetUrn
+     * @return future Ownership
+     */
+    @Nonnull
+    public CompletableFuture<Ownership> getLatestOwnershipAsync(@Nonnull DatasetUrn datasetUrn) {
+        return RestliFutures.sendRequest(_client, getLatestOwnershipRequest(datasetUrn));
+    }
 
-        GetRequest<Ownership> req = RAW_OWNERSHIP_REQUEST_BUILDERS.get()
+    @Nonnull
+    private GetRequest<Ownership> getLatestOwnershipRequest(@Nonnull DatasetUrn datasetUrn) {
+        return RAW_OWNERSHIP_REQUEST_BUILDERS.get()
                 .datasetKey(new ComplexResourceKey<>(toDatasetKey(datasetUrn), new EmptyRecord()))
                 .id(BaseLocalDAO.LATEST_VERSION)
                 .build();
-
-        return _client.sendRequest(req).getResponse().getEntity();
     }
 
     /**
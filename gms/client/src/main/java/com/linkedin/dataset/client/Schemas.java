@@ -1,6 +1,7 @@
 package com.linkedin.dataset.client;
 
 import com.linkedin.common.client.DatasetsClient;
+import com.linkedin.common.client.RestliFutures;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.dataset.SchemaRequestBuilders;
 import com.linkedin.metadata.dao.BaseLocalDAO;
@@ -11,6 +12,7 @@ import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
 import com.linkedin.schema.SchemaMetadata;
 
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -30,11 +32,24 @@ public class Schemas extends DatasetsClient {
      */
     @Nullable
     public SchemaMetadata getLatestSchemaByDataset(@Nonnull DatasetUrn datasetUrn) throws RemoteInvocationException {
-        GetRequest<SchemaMetadata> req = SCHEMA_REQUEST_BUILDERS.get()
+        return _client.sendRequest(getLatestSchemaRequest(datasetUrn)).getResponse().getEntity();
+    }
+
+    /**
+     * Similar to {@link #getLatestSchemaByDataset(DatasetUrn)} but does not block while the request is in flight
+     * @param datasetUrn DatasetUrn
+     * @return future SchemaMetadata
+     */
+    @Nonnull
+    public CompletableFuture<SchemaMetadata> getLatestSchemaByDatasetAsync(@Nonnull DatasetUrn datasetUrn) {
+        return RestliFutures.sendRequest(_client, getLatestSchemaRequest(datasetUrn));
+    }
+
+    @Nonnull
+    private GetRequest<SchemaMetadata> getLatestSchemaRequest(@Nonnull DatasetUrn datasetUrn) {
+        return SCHEMA_REQUEST_BUILDERS.get()
                 .datasetKey(new ComplexResourceKey<>(toDatasetKey(datasetUrn), new EmptyRecord()))
                 .id(BaseLocalDAO.LATEST_VERSION)
                 .build();
-
-        return _client.sendRequest(req).getResponse().getEntity();
     }
 }
@@ -1,5 +1,6 @@
 package com.linkedin.identity.client;
 
+import com.linkedin.common.client.RestliFutures;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.identity.CorpUser;
@@ -20,12 +21,15 @@ import com.linkedin.restli.client.Client;
 import com.linkedin.restli.client.CreateIdRequest;
 import com.linkedin.restli.client.GetAllRequest;
 import com.linkedin.restli.client.GetRequest;
+import com.linkedin.restli.client.response.BatchKVResponse;
 import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
+import com.linkedin.restli.common.EntityResponse;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -69,12 +73,32 @@ public class CorpUsers extends BaseSearchableClient<CorpUser> {
   @Nonnull
   public Map<CorpuserUrn, CorpUser> batchGet(@Nonnull Set<CorpuserUrn> urns)
       throws RemoteInvocationException {
-    BatchGetEntityRequest<ComplexResourceKey<CorpUserKey, EmptyRecord>, CorpUser> batchGetRequest
-        = CORP_USERS_REQUEST_BUILDERS.batchGet()
+    return toUrnMap(_client.sendRequest(batchGetRequest(urns)).getResponseEntity());
+  }
+
+  /**
+   * Similar to {@link #batchGet(Set)} but does not block while the request is in flight
+   *
+   * @param urns list of corp user urn
+   * @return future map of {@link CorpUser} models of the corp users
+   */
+  @Nonnull
+  public CompletableFuture<Map<CorpuserUrn, CorpUser>> batchGetAsync(@Nonnull Set<CorpuserUrn> urns) {
+    return RestliFutures.sendRequest(_client, batchGetRequest(urns)).thenApply(this::toUrnMap);
+  }
+
+  @Nonnull
+  private BatchGetEntityRequest<ComplexResourceKey<CorpUserKey, EmptyRecord>, CorpUser> batchGetRequest(
+      @Nonnull Set<CorpuserUrn> urns) {
+    return CORP_USERS_REQUEST_BUILDERS.batchGet()
         .ids(urns.stream().map(this::getKeyFromUrn).collect(Collectors.toSet()))
         .build();
+  }
 
-    return _client.sendRequest(batchGetRequest).getResponseEntity().getResults()
+  @Nonnull
+  private Map<CorpuserUrn, CorpUser> toUrnMap(
+      @Nonnull BatchKVResponse<ComplexResourceKey<CorpUserKey, EmptyRecord>, EntityResponse<CorpUser>> response) {
+    return response.getResults()
         .entrySet().stream().collect(Collectors.toMap(
             entry -> getUrnFromKey(entry.getKey()),
             entry -> entry.getValue().getEntity())
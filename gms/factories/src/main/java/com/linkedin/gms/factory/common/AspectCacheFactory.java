@@ -0,0 +1,113 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.metadata.dao.cache.AspectCache;
+import com.linkedin.metadata.dao.replica.ReplicaRouter;
+import com.linkedin.mxe.TopicConvention;
+import io.confluent.kafka.serializers.AbstractKafkaAvroSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.PreDestroy;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+
+/**
+ * Builds the {@link AspectCache} shared by the local DAOs.
+ *
+ * <p>The cache is disabled unless {@code GMS_ASPECT_CACHE_MAX_BYTES} is set. Once enabled, aspects written by other GMS
+ * instances are invalidated from MAEs, consumed in a consumer group unique to this instance. The cache statistics are
+ * registered as an MBean under {@link #METRICS_OBJECT_NAME}.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(KafkaProperties.class)
+public class AspectCacheFactory {
+
+  public static final String METRICS_OBJECT_NAME = "com.linkedin.gms:type=AspectCache,name=aspectCache";
+
+  @Value("${GMS_ASPECT_CACHE_MAX_BYTES:0}")
+  private Long maxBytes;
+
+  @Value("${GMS_ASPECT_CACHE_EXPIRE_AFTER_WRITE_SECONDS:600}")
+  private Long expireAfterWriteSeconds;
+
+  @Value("${KAFKA_BOOTSTRAP_SERVER:http://localhost:9092}")
+  private String kafkaBootstrapServers;
+
+  @Value("${KAFKA_SCHEMAREGISTRY_URL:http://localhost:8081}")
+  private String kafkaSchemaRegistryUrl;
+
+  @Autowired
+  ApplicationContext applicationContext;
+
+  private AspectCacheInvalidator invalidator;
+
+  @Bean(name = "aspectCache")
+  @DependsOn({"gmsEbeanReplicaRouter", TopicConventionFactory.TOPIC_CONVENTION_BEAN})
+  protected AspectCache createInstance(KafkaProperties properties) {
+    final AspectCache aspectCache = new AspectCache(maxBytes, expireAfterWriteSeconds);
+    if (!aspectCache.isEnabled()) {
+      return aspectCache;
+    }
+
+    registerMetrics(aspectCache);
+    invalidator = new AspectCacheInvalidator(createConsumer(properties),
+        applicationContext.getBean(TopicConvention.class).getMetadataAuditEventTopicName(), aspectCache,
+        applicationContext.getBean(ReplicaRouter.class));
+    invalidator.start();
+    log.info("Aspect cache enabled with {} bytes, expiring aspects after {} seconds", maxBytes,
+        expireAfterWriteSeconds);
+    return aspectCache;
+  }
+
+  @PreDestroy
+  public void close() {
+    if (invalidator != null) {
+      invalidator.close();
+    }
+  }
+
+  private KafkaConsumer<String, GenericRecord> createConsumer(KafkaProperties properties) {
+    KafkaProperties.Consumer consumerProps = properties.getConsumer();
+
+    consumerProps.setKeyDeserializer(StringDeserializer.class);
+    consumerProps.setValueDeserializer(KafkaAvroDeserializer.class);
+    // Every instance must see all MAEs written from now on
+    consumerProps.setGroupId("gms-aspect-cache-" + UUID.randomUUID());
+    consumerProps.setAutoOffsetReset("latest");
+    consumerProps.setEnableAutoCommit(false);
+
+    // KAFKA_BOOTSTRAP_SERVER has precedence over SPRING_KAFKA_BOOTSTRAP_SERVERS
+    if (kafkaBootstrapServers != null && kafkaBootstrapServers.length() > 0) {
+      consumerProps.setBootstrapServers(Arrays.asList(kafkaBootstrapServers.split(",")));
+    } // else we rely on KafkaProperties which defaults to localhost:9092
+
+    Map<String, Object> props = properties.buildConsumerProperties();
+    props.put(AbstractKafkaAvroSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, kafkaSchemaRegistryUrl);
+
+    return new KafkaConsumer<>(props);
+  }
+
+  private static void registerMetrics(AspectCache aspectCache) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(aspectCache, new ObjectName(METRICS_OBJECT_NAME));
+    } catch (JMException e) {
+      log.warn("Failed to register aspect cache metrics", e);
+    }
+  }
+}
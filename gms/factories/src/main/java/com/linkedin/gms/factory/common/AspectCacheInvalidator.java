@@ -0,0 +1,100 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.dao.cache.AspectCache;
+import com.linkedin.metadata.dao.replica.ReplicaRouter;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import com.linkedin.mxe.MetadataAuditEvent;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.WakeupException;
+
+
+/**
+ * Invalidates the aspects of an {@link AspectCache} written by any GMS instance, from the metadata audit events.
+ *
+ * <p>Written entities are also recorded in the {@link ReplicaRouter} before their aspects are invalidated, so that they
+ * are not cached again from a replica which did not replicate the write yet.
+ *
+ * <p>Each GMS instance must consume all MAEs, so the consumer should be in a consumer group of its own and start from
+ * the latest offset. Events are consumed on a daemon thread until {@link #close()} is called.
+ */
+@Slf4j
+public class AspectCacheInvalidator implements Closeable {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+  private final Consumer<String, GenericRecord> _consumer;
+  private final String _maeTopic;
+  private final AspectCache _aspectCache;
+  private final ReplicaRouter _replicaRouter;
+  private final Thread _thread;
+
+  public AspectCacheInvalidator(@Nonnull Consumer<String, GenericRecord> consumer, @Nonnull String maeTopic,
+      @Nonnull AspectCache aspectCache, @Nonnull ReplicaRouter replicaRouter) {
+    _consumer = consumer;
+    _maeTopic = maeTopic;
+    _aspectCache = aspectCache;
+    _replicaRouter = replicaRouter;
+    _thread = new Thread(this::run, "aspect-cache-invalidator");
+    _thread.setDaemon(true);
+  }
+
+  public void start() {
+    _thread.start();
+  }
+
+  private void run() {
+    try {
+      _consumer.subscribe(Collections.singletonList(_maeTopic));
+      while (true) {
+        for (ConsumerRecord<String, GenericRecord> record : _consumer.poll(POLL_TIMEOUT)) {
+          invalidate(record);
+        }
+      }
+    } catch (WakeupException e) {
+      // Closing
+    } catch (RuntimeException e) {
+      log.error("Stopped invalidating the aspect cache from MAEs", e);
+    } finally {
+      _consumer.close();
+    }
+  }
+
+  private void invalidate(@Nonnull ConsumerRecord<String, GenericRecord> record) {
+    try {
+      final MetadataAuditEvent event = EventUtils.avroToPegasusMAE(record.value());
+      if (!event.hasNewSnapshot()) {
+        return;
+      }
+      final RecordTemplate snapshot = RecordUtils.getSelectedRecordTemplateFromUnion(event.getNewSnapshot());
+      final Urn urn = ModelUtils.getUrnFromSnapshot(snapshot);
+      _replicaRouter.recordWrite(urn);
+      for (RecordTemplate aspect : ModelUtils.getAspectsFromSnapshot(snapshot)) {
+        _aspectCache.invalidate(urn, aspect.getClass());
+      }
+    } catch (Exception e) {
+      log.error("Failed to invalidate the aspect cache from MAE at offset {} of partition {}", record.offset(),
+          record.partition(), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    _consumer.wakeup();
+    try {
+      _thread.join(POLL_TIMEOUT.toMillis() * 5);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
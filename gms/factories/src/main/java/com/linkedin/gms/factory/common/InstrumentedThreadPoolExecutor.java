@@ -0,0 +1,81 @@
+package com.linkedin.gms.factory.common;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+
+
+/**
+ * A fixed size {@link ThreadPoolExecutor} with an unbounded queue that records how long tasks wait in the queue and
+ * how long they run, and exposes these through {@link InstrumentedThreadPoolExecutorMBean}.
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor implements InstrumentedThreadPoolExecutorMBean {
+
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final LongAdder _finishedTasks = new LongAdder();
+  private final LongAdder _queueTimeNanos = new LongAdder();
+  private final LongAdder _executionTimeNanos = new LongAdder();
+
+  public InstrumentedThreadPoolExecutor(int threads, @Nonnull String threadNamePrefix) {
+    super(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+        newDaemonThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * Creates a {@link ThreadFactory} for daemon threads named with the given prefix and a sequence number.
+   */
+  @Nonnull
+  public static ThreadFactory newDaemonThreadFactory(@Nonnull String threadNamePrefix) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    final long enqueuedAt = System.nanoTime();
+    super.execute(() -> {
+      final long startedAt = System.nanoTime();
+      try {
+        command.run();
+      } finally {
+        _queueTimeNanos.add(startedAt - enqueuedAt);
+        _executionTimeNanos.add(System.nanoTime() - startedAt);
+        _finishedTasks.increment();
+      }
+    });
+  }
+
+  @Override
+  public int getQueueDepth() {
+    return getQueue().size();
+  }
+
+  @Override
+  public int getActiveThreadCount() {
+    return getActiveCount();
+  }
+
+  @Override
+  public double getMeanQueueTimeMs() {
+    return meanMillis(_queueTimeNanos.sum());
+  }
+
+  @Override
+  public double getMeanExecutionTimeMs() {
+    return meanMillis(_executionTimeNanos.sum());
+  }
+
+  private double meanMillis(long totalNanos) {
+    final long finishedTasks = _finishedTasks.sum();
+    return finishedTasks == 0 ? 0 : totalNanos / NANOS_PER_MILLI / finishedTasks;
+  }
+}
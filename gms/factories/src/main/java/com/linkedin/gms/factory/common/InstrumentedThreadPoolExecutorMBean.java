@@ -0,0 +1,32 @@
+package com.linkedin.gms.factory.common;
+
+/**
+ * JMX view of an {@link InstrumentedThreadPoolExecutor}.
+ */
+public interface InstrumentedThreadPoolExecutorMBean {
+
+  /**
+   * Number of tasks waiting in the queue.
+   */
+  int getQueueDepth();
+
+  /**
+   * Number of threads actively running tasks.
+   */
+  int getActiveThreadCount();
+
+  /**
+   * Number of tasks that have finished running.
+   */
+  long getCompletedTaskCount();
+
+  /**
+   * Mean time, in milliseconds, a finished task spent in the queue before it started running.
+   */
+  double getMeanQueueTimeMs();
+
+  /**
+   * Mean time, in milliseconds, a finished task spent running.
+   */
+  double getMeanExecutionTimeMs();
+}
@@ -1,16 +1,27 @@
 package com.linkedin.gms.factory.common;
 
+import com.linkedin.metadata.dao.replica.ReplicaRouter;
 import io.ebean.config.ServerConfig;
 import io.ebean.datasource.DataSourceConfig;
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Builds the Ebean configuration of the primary database and, if {@code EBEAN_REPLICA_DATASOURCE_URL} is set, the
+ * {@link ReplicaRouter} sending reads to a read replica. The replica statistics are registered as an MBean under
+ * {@link #REPLICA_METRICS_OBJECT_NAME}.
+ */
 @Slf4j
 @Configuration
 public class LocalEbeanServerConfigFactory {
 
+  public static final String REPLICA_METRICS_OBJECT_NAME = "com.linkedin.gms:type=EbeanReplica,name=replicaRouter";
+
   @Value("${EBEAN_DATASOURCE_USERNAME:datahub}")
   private String ebeanDatasourceUsername;
 
@@ -41,18 +52,28 @@ public class LocalEbeanServerConfigFactory {
   @Value("${EBEAN_AUTOCREATE:false}")
   private Boolean ebeanAutoCreate;
 
+  @Value("${EBEAN_REPLICA_DATASOURCE_URL:}")
+  private String ebeanReplicaDatasourceUrl;
+
+  @Value("${EBEAN_REPLICA_DATASOURCE_USERNAME:${EBEAN_DATASOURCE_USERNAME:datahub}}")
+  private String ebeanReplicaDatasourceUsername;
+
+  @Value("${EBEAN_REPLICA_DATASOURCE_PASSWORD:${EBEAN_DATASOURCE_PASSWORD:datahub}}")
+  private String ebeanReplicaDatasourcePassword;
+
+  @Value("${EBEAN_REPLICA_MAX_CONNECTIONS:${EBEAN_MAX_CONNECTIONS:50}}")
+  private Integer ebeanReplicaMaxConnections;
+
+  @Value("${EBEAN_REPLICA_MAX_LAG_SECONDS:10}")
+  private Long ebeanReplicaMaxLagSeconds;
+
+  @Value("${EBEAN_REPLICA_LAG_CHECK_INTERVAL_SECONDS:5}")
+  private Long ebeanReplicaLagCheckIntervalSeconds;
+
   @Bean(name = "gmsEbeanServiceConfig")
   protected ServerConfig createInstance() {
-    DataSourceConfig dataSourceConfig = new DataSourceConfig();
-    dataSourceConfig.setUsername(ebeanDatasourceUsername);
-    dataSourceConfig.setPassword(ebeanDatasourcePassword);
-    dataSourceConfig.setUrl(ebeanDatasourceUrl);
-    dataSourceConfig.setDriver(ebeanDatasourceDriver);
-    dataSourceConfig.setMinConnections(ebeanMinConnections);
-    dataSourceConfig.setMaxConnections(ebeanMaxConnections);
-    dataSourceConfig.setMaxInactiveTimeSecs(ebeanMaxInactiveTimeSecs);
-    dataSourceConfig.setMaxAgeMinutes(ebeanMaxAgeMinutes);
-    dataSourceConfig.setLeakTimeMinutes(ebeanLeakTimeMinutes);
+    DataSourceConfig dataSourceConfig = createDataSourceConfig(ebeanDatasourceUrl, ebeanDatasourceUsername,
+        ebeanDatasourcePassword, ebeanMaxConnections);
 
     ServerConfig serverConfig = new ServerConfig();
     serverConfig.setName("gmsEbeanServiceConfig");
@@ -61,4 +82,49 @@ public class LocalEbeanServerConfigFactory {
     serverConfig.setDdlRun(ebeanAutoCreate);
     return serverConfig;
   }
+
+  @Bean(name = "gmsEbeanReplicaRouter", destroyMethod = "close")
+  protected ReplicaRouter createReplicaRouter() {
+    if (ebeanReplicaDatasourceUrl == null || ebeanReplicaDatasourceUrl.isEmpty()) {
+      return new ReplicaRouter();
+    }
+
+    DataSourceConfig dataSourceConfig = createDataSourceConfig(ebeanReplicaDatasourceUrl,
+        ebeanReplicaDatasourceUsername, ebeanReplicaDatasourcePassword, ebeanReplicaMaxConnections);
+
+    // Not the default server, as the primary is, and never creates tables
+    ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gmsEbeanReplicaServiceConfig");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDefaultServer(false);
+
+    ReplicaRouter replicaRouter = new ReplicaRouter(serverConfig,
+        ReplicaRouter.mysqlLagProbe(ebeanReplicaDatasourceUrl, ebeanReplicaDatasourceUsername,
+            ebeanReplicaDatasourcePassword), ebeanReplicaMaxLagSeconds, ebeanReplicaLagCheckIntervalSeconds);
+    replicaRouter.start();
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(replicaRouter, new ObjectName(REPLICA_METRICS_OBJECT_NAME));
+    } catch (JMException e) {
+      log.warn("Failed to register replica metrics", e);
+    }
+    log.info("Reading from replica {} while it is less than {} seconds behind", ebeanReplicaDatasourceUrl,
+        ebeanReplicaMaxLagSeconds);
+    return replicaRouter;
+  }
+
+  private DataSourceConfig createDataSourceConfig(String url, String username, String password,
+      Integer maxConnections) {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername(username);
+    dataSourceConfig.setPassword(password);
+    dataSourceConfig.setUrl(url);
+    dataSourceConfig.setDriver(ebeanDatasourceDriver);
+    dataSourceConfig.setMinConnections(ebeanMinConnections);
+    dataSourceConfig.setMaxConnections(maxConnections);
+    dataSourceConfig.setMaxInactiveTimeSecs(ebeanMaxInactiveTimeSecs);
+    dataSourceConfig.setMaxAgeMinutes(ebeanMaxAgeMinutes);
+    dataSourceConfig.setLeakTimeMinutes(ebeanLeakTimeMinutes);
+    return dataSourceConfig;
+  }
 }
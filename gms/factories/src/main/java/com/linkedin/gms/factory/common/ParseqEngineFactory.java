@@ -0,0 +1,65 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.parseq.Engine;
+import com.linkedin.parseq.EngineBuilder;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+
+/**
+ * Builds the ParSeq {@link Engine} used by the Rest.li server.
+ *
+ * <p>Tasks and timers run on separate thread pools. Sizes of 0 are derived from the number of available cores. The
+ * task executor's queue depth and task latencies are registered as an MBean under {@link #METRICS_OBJECT_NAME}.
+ */
+@Slf4j
+@Configuration
+public class ParseqEngineFactory {
+
+  public static final String METRICS_OBJECT_NAME = "com.linkedin.gms:type=ParseqEngine,name=taskExecutor";
+
+  @Value("${PARSEQ_TASK_EXECUTOR_THREADS:0}")
+  private Integer taskExecutorThreads;
+
+  @Value("${PARSEQ_TIMER_THREADS:0}")
+  private Integer timerThreads;
+
+  @Value("${PARSEQ_MAX_CONCURRENT_PLANS:0}")
+  private Integer maxConcurrentPlans;
+
+  @Bean(name = "parseqEngine")
+  protected Engine createInstance() {
+    final int cores = Runtime.getRuntime().availableProcessors();
+    // Resources block on DAO calls, so allow more task threads than cores by default.
+    final int taskThreads = taskExecutorThreads > 0 ? taskExecutorThreads : 2 * cores;
+    final int schedulerThreads = timerThreads > 0 ? timerThreads : Math.max(1, cores / 4);
+
+    final InstrumentedThreadPoolExecutor taskExecutor = new InstrumentedThreadPoolExecutor(taskThreads, "parseq-task");
+    final ScheduledExecutorService timerScheduler = Executors.newScheduledThreadPool(schedulerThreads,
+        InstrumentedThreadPoolExecutor.newDaemonThreadFactory("parseq-timer"));
+    registerMetrics(taskExecutor);
+
+    final EngineBuilder builder = new EngineBuilder().setTaskExecutor(taskExecutor).setTimerScheduler(timerScheduler);
+    if (maxConcurrentPlans > 0) {
+      builder.setEngineProperty(Engine.MAX_CONCURRENT_PLANS, maxConcurrentPlans);
+    }
+    log.info("ParSeq engine using {} task threads, {} timer threads and max concurrent plans {}", taskThreads,
+        schedulerThreads, maxConcurrentPlans > 0 ? maxConcurrentPlans : "default");
+    return builder.build();
+  }
+
+  private static void registerMetrics(InstrumentedThreadPoolExecutor taskExecutor) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(taskExecutor, new ObjectName(METRICS_OBJECT_NAME));
+    } catch (JMException e) {
+      log.warn("Failed to register ParSeq engine metrics", e);
+    }
+  }
+}
@@ -3,7 +3,10 @@ package com.linkedin.gms.factory.dashboard;
 import com.linkedin.common.urn.ChartUrn;
 import com.linkedin.metadata.aspect.ChartAspect;
 import com.linkedin.metadata.dao.EbeanLocalDAO;
+import com.linkedin.metadata.dao.cache.AspectCache;
 import com.linkedin.metadata.dao.producer.KafkaMetadataEventProducer;
+import com.linkedin.metadata.dao.replica.ReplicaRouter;
+import com.linkedin.metadata.dao.replica.ReplicaRoutingEbeanLocalDAO;
 import com.linkedin.metadata.snapshot.ChartSnapshot;
 import io.ebean.config.ServerConfig;
 import javax.annotation.Nonnull;
@@ -21,13 +24,14 @@ public class ChartDaoFactory {
   ApplicationContext applicationContext;
 
   @Bean(name = "chartDAO")
-  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer"})
+  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer", "aspectCache", "gmsEbeanReplicaRouter"})
   @Nonnull
   protected EbeanLocalDAO createInstance() {
     KafkaMetadataEventProducer<ChartSnapshot, ChartAspect, ChartUrn> producer =
         new KafkaMetadataEventProducer(ChartSnapshot.class, ChartAspect.class,
             applicationContext.getBean(Producer.class));
-    return new EbeanLocalDAO<>(ChartAspect.class, producer, applicationContext.getBean(ServerConfig.class),
-        ChartUrn.class);
+    return new ReplicaRoutingEbeanLocalDAO<>(ChartAspect.class, producer,
+        applicationContext.getBean(ServerConfig.class), ChartUrn.class,
+        applicationContext.getBean(AspectCache.class), applicationContext.getBean(ReplicaRouter.class));
   }
 }
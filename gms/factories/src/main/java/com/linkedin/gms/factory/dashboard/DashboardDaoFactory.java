@@ -3,7 +3,10 @@ package com.linkedin.gms.factory.dashboard;
 import com.linkedin.common.urn.DashboardUrn;
 import com.linkedin.metadata.aspect.DashboardAspect;
 import com.linkedin.metadata.dao.EbeanLocalDAO;
+import com.linkedin.metadata.dao.cache.AspectCache;
 import com.linkedin.metadata.dao.producer.KafkaMetadataEventProducer;
+import com.linkedin.metadata.dao.replica.ReplicaRouter;
+import com.linkedin.metadata.dao.replica.ReplicaRoutingEbeanLocalDAO;
 import com.linkedin.metadata.snapshot.DashboardSnapshot;
 import io.ebean.config.ServerConfig;
 import javax.annotation.Nonnull;
@@ -21,13 +24,14 @@ public class DashboardDaoFactory {
   ApplicationContext applicationContext;
 
   @Bean(name = "dashboardDAO")
-  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer"})
+  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer", "aspectCache", "gmsEbeanReplicaRouter"})
   @Nonnull
   protected EbeanLocalDAO createInstance() {
     KafkaMetadataEventProducer<DashboardSnapshot, DashboardAspect, DashboardUrn> producer =
         new KafkaMetadataEventProducer(DashboardSnapshot.class, DashboardAspect.class,
             applicationContext.getBean(Producer.class));
-    return new EbeanLocalDAO<>(DashboardAspect.class, producer, applicationContext.getBean(ServerConfig.class),
-        DashboardUrn.class);
+    return new ReplicaRoutingEbeanLocalDAO<>(DashboardAspect.class, producer,
+        applicationContext.getBean(ServerConfig.class), DashboardUrn.class,
+        applicationContext.getBean(AspectCache.class), applicationContext.getBean(ReplicaRouter.class));
   }
 }
@@ -6,8 +6,11 @@ import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.metadata.aspect.DatasetAspect;
 import com.linkedin.metadata.dao.BaseLocalDAO;
 import com.linkedin.metadata.dao.EbeanLocalDAO;
+import com.linkedin.metadata.dao.cache.AspectCache;
 import com.linkedin.metadata.dao.producer.KafkaMetadataEventProducer;
 import com.linkedin.metadata.dao.producer.KafkaProducerCallback;
+import com.linkedin.metadata.dao.replica.ReplicaRouter;
+import com.linkedin.metadata.dao.replica.ReplicaRoutingEbeanLocalDAO;
 import com.linkedin.metadata.snapshot.DatasetSnapshot;
 import com.linkedin.metadata.urn.dataset.DatasetUrnPathExtractor;
 import com.linkedin.mxe.TopicConvention;
@@ -31,7 +34,8 @@ public class DatasetDaoFactory {
   ApplicationContext applicationContext;
 
   @Bean(name = "datasetDao")
-  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer", TopicConventionFactory.TOPIC_CONVENTION_BEAN})
+  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer", "aspectCache", "gmsEbeanReplicaRouter",
+      TopicConventionFactory.TOPIC_CONVENTION_BEAN})
   protected BaseLocalDAO<DatasetAspect, DatasetUrn> createInstance() {
     KafkaMetadataEventProducer<DatasetSnapshot, DatasetAspect, DatasetUrn> producer =
         new KafkaMetadataEventProducer(DatasetSnapshot.class, DatasetAspect.class,
@@ -39,9 +43,10 @@ public class DatasetDaoFactory {
             new KafkaProducerCallback());
 
     final EbeanLocalDAO<DatasetAspect, DatasetUrn> dao =
-        new EbeanLocalDAO<>(producer, applicationContext.getBean(ServerConfig.class),
+        new ReplicaRoutingEbeanLocalDAO<>(producer, applicationContext.getBean(ServerConfig.class),
             LocalDAOStorageConfigFactory.getStorageConfig(DatasetAspect.class, DatasetDaoFactory.class,
-                "datasetStorageConfig.json"), DatasetUrn.class);
+                "datasetStorageConfig.json"), DatasetUrn.class, applicationContext.getBean(AspectCache.class),
+            applicationContext.getBean(ReplicaRouter.class));
     dao.setUrnPathExtractor(new DatasetUrnPathExtractor());
     dao.enableLocalSecondaryIndex(enableSCSI);
     return dao;
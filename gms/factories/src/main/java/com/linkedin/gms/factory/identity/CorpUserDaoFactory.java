@@ -4,8 +4,10 @@ import com.linkedin.gms.factory.common.TopicConventionFactory;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.metadata.aspect.CorpUserAspect;
 import com.linkedin.metadata.dao.BaseLocalDAO;
-import com.linkedin.metadata.dao.EbeanLocalDAO;
+import com.linkedin.metadata.dao.cache.AspectCache;
 import com.linkedin.metadata.dao.producer.KafkaMetadataEventProducer;
+import com.linkedin.metadata.dao.replica.ReplicaRouter;
+import com.linkedin.metadata.dao.replica.ReplicaRoutingEbeanLocalDAO;
 import com.linkedin.metadata.snapshot.CorpUserSnapshot;
 import com.linkedin.mxe.TopicConvention;
 import io.ebean.config.ServerConfig;
@@ -25,13 +27,15 @@ public class CorpUserDaoFactory {
   ApplicationContext applicationContext;
 
   @Bean(name = "corpUserDao")
-  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer", TopicConventionFactory.TOPIC_CONVENTION_BEAN})
+  @DependsOn({"gmsEbeanServiceConfig", "kafkaEventProducer", "aspectCache", "gmsEbeanReplicaRouter",
+      TopicConventionFactory.TOPIC_CONVENTION_BEAN})
   @Nonnull
   protected BaseLocalDAO<CorpUserAspect, CorpuserUrn> createInstance() {
     KafkaMetadataEventProducer<CorpUserSnapshot, CorpUserAspect, CorpuserUrn> producer =
         new KafkaMetadataEventProducer(CorpUserSnapshot.class, CorpUserAspect.class,
             applicationContext.getBean(Producer.class), applicationContext.getBean(TopicConvention.class));
-    return new EbeanLocalDAO<>(CorpUserAspect.class, producer, applicationContext.getBean(ServerConfig.class),
-        CorpuserUrn.class);
+    return new ReplicaRoutingEbeanLocalDAO<>(CorpUserAspect.class, producer,
+        applicationContext.getBean(ServerConfig.class), CorpuserUrn.class,
+        applicationContext.getBean(AspectCache.class), applicationContext.getBean(ReplicaRouter.class));
   }
 }
\ No newline at end of file
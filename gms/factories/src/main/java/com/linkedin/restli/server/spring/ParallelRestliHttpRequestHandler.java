@@ -42,13 +42,24 @@ public class ParallelRestliHttpRequestHandler implements HttpRequestHandler {
 
   public ParallelRestliHttpRequestHandler(RestLiConfig config, SpringInjectResourceFactory injectResourceFactory,
       FilterChain filterChain) {
-    RestLiServer restLiServer = new RestLiServer(config, injectResourceFactory, getDefaultParseqEngine());
+    this(config, injectResourceFactory, filterChain, getDefaultParseqEngine());
+  }
+
+  public ParallelRestliHttpRequestHandler(RestLiConfig config, SpringInjectResourceFactory injectResourceFactory,
+      Engine engine) {
+    this(config, injectResourceFactory, FilterChains.empty(), engine);
+  }
+
+  public ParallelRestliHttpRequestHandler(RestLiConfig config, SpringInjectResourceFactory injectResourceFactory,
+      FilterChain filterChain, Engine engine) {
+    RestLiServer restLiServer = new RestLiServer(config, injectResourceFactory, engine);
     _r2Servlet = new RAPServlet(
         new FilterChainDispatcher(new DelegatingTransportDispatcher(restLiServer, restLiServer), filterChain));
   }
 
-  public Engine getDefaultParseqEngine() {
-    final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+  public static Engine getDefaultParseqEngine() {
+    final ScheduledExecutorService scheduler =
+        Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
     Engine engine = new EngineBuilder().setTaskExecutor(scheduler).setTimerScheduler(scheduler).build();
     return engine;
   }
@@ -0,0 +1,230 @@
+package com.linkedin.metadata.dao.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.dao.AspectKey;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * A bounded cache of the latest version of aspects, shared by the local DAOs of all entities.
+ *
+ * <p>The size of the cache is bounded by the total length of the cached aspects serialized as JSON. Aspects which do
+ * not exist are cached as well, since snapshots of most entities only have some of their aspects. Cached aspects are
+ * copied in and out of the cache, so callers are free to modify them.
+ *
+ * <p>An aspect must be invalidated through {@link #invalidate(Urn, Class)} once it has been written. Each key belongs
+ * to one of a fixed number of stripes, whose epoch is incremented on every invalidation: an aspect read from the
+ * database is only cached if no aspect of its stripe was invalidated during the read, so that a read racing with a
+ * write never caches the value from before the write.
+ *
+ * <p>A cache with a maximum size of 0 is disabled and reads all aspects from the database.
+ */
+public class AspectCache implements AspectCacheMBean {
+
+  private static final int STRIPES = 1024;
+  // Approximate size of an aspect cached as absent, on top of its key
+  private static final int ABSENT_WEIGHT = 16;
+
+  private final boolean _enabled;
+  private final Cache<String, CachedAspect> _cache;
+  private final AtomicLongArray _epochs = new AtomicLongArray(STRIPES);
+  private final LongAdder _invalidations = new LongAdder();
+  private final LongAdder _weightBytes = new LongAdder();
+
+  /**
+   * @param maxWeightBytes maximum total size of the cached aspects, 0 to disable the cache
+   * @param expireAfterWriteSeconds time after which a cached aspect is read again from the database, as a safety net
+   *     for missed invalidations, 0 to never expire aspects
+   */
+  public AspectCache(long maxWeightBytes, long expireAfterWriteSeconds) {
+    _enabled = maxWeightBytes > 0;
+    final CacheBuilder<String, CachedAspect> builder = CacheBuilder.newBuilder()
+        .maximumWeight(maxWeightBytes)
+        .weigher((String key, CachedAspect value) -> value._weight)
+        .removalListener(this::onRemoval)
+        .recordStats();
+    if (expireAfterWriteSeconds > 0) {
+      builder.expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS);
+    }
+    _cache = builder.build();
+  }
+
+  public boolean isEnabled() {
+    return _enabled;
+  }
+
+  /**
+   * Gets the latest version of the given aspects, reading the ones which are not cached through the loader and caching
+   * them.
+   *
+   * @param keys keys of the aspects to get, all of them for their latest version
+   * @param loader reads aspects from the database
+   */
+  @Nonnull
+  public <URN extends Urn> Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> getAll(
+      @Nonnull Set<AspectKey<URN, ? extends RecordTemplate>> keys,
+      @Nonnull Function<Set<AspectKey<URN, ? extends RecordTemplate>>, Map<AspectKey<URN, ? extends RecordTemplate>,
+          Optional<? extends RecordTemplate>>> loader) {
+    if (!_enabled) {
+      return loader.apply(keys);
+    }
+
+    final Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> results = new HashMap<>();
+    // Epoch of the stripe of each missing aspect before it is read
+    final Map<AspectKey<URN, ? extends RecordTemplate>, Long> misses = new HashMap<>();
+    for (AspectKey<URN, ? extends RecordTemplate> key : keys) {
+      final String cacheKey = toCacheKey(key.getUrn(), key.getAspectClass());
+      final CachedAspect cached = _cache.getIfPresent(cacheKey);
+      if (cached != null) {
+        results.put(key, cached.toAspect(key.getAspectClass()));
+      } else {
+        misses.put(key, _epochs.get(stripe(cacheKey)));
+      }
+    }
+    if (misses.isEmpty()) {
+      return results;
+    }
+
+    final Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> loaded =
+        loader.apply(misses.keySet());
+    for (Map.Entry<AspectKey<URN, ? extends RecordTemplate>, Long> miss : misses.entrySet()) {
+      final AspectKey<URN, ? extends RecordTemplate> key = miss.getKey();
+      final Optional<? extends RecordTemplate> aspect = loaded.get(key);
+      if (aspect == null) {
+        continue;
+      }
+      results.put(key, aspect);
+      put(toCacheKey(key.getUrn(), key.getAspectClass()), CachedAspect.of(aspect.orElse(null)), miss.getValue());
+    }
+    return results;
+  }
+
+  /**
+   * Removes an aspect from the cache, and prevents reads which started before from caching it.
+   */
+  public void invalidate(@Nonnull Urn urn, @Nonnull Class<? extends RecordTemplate> aspectClass) {
+    if (!_enabled) {
+      return;
+    }
+    final String cacheKey = toCacheKey(urn, aspectClass);
+    _epochs.incrementAndGet(stripe(cacheKey));
+    _cache.invalidate(cacheKey);
+  }
+
+  private void put(@Nonnull String cacheKey, @Nonnull CachedAspect value, long epoch) {
+    final int stripe = stripe(cacheKey);
+    if (_epochs.get(stripe) != epoch) {
+      return;
+    }
+    value._weight += cacheKey.length();
+    _weightBytes.add(value._weight);
+    _cache.put(cacheKey, value);
+    // The aspect may have been invalidated between the check and the put
+    if (_epochs.get(stripe) != epoch) {
+      _cache.invalidate(cacheKey);
+    }
+  }
+
+  private void onRemoval(@Nonnull RemovalNotification<String, CachedAspect> notification) {
+    _weightBytes.add(-notification.getValue()._weight);
+    if (notification.getCause() == RemovalCause.EXPLICIT) {
+      _invalidations.increment();
+    }
+  }
+
+  @Nonnull
+  private static String toCacheKey(@Nonnull Urn urn, @Nonnull Class<? extends RecordTemplate> aspectClass) {
+    return aspectClass.getName() + " " + urn.toString();
+  }
+
+  private static int stripe(@Nonnull String cacheKey) {
+    return Math.floorMod(cacheKey.hashCode(), STRIPES);
+  }
+
+  @Override
+  public long getHitCount() {
+    return _cache.stats().hitCount();
+  }
+
+  @Override
+  public long getMissCount() {
+    return _cache.stats().missCount();
+  }
+
+  @Override
+  public double getHitRate() {
+    return _cache.stats().hitRate();
+  }
+
+  @Override
+  public long getEvictionCount() {
+    return _cache.stats().evictionCount();
+  }
+
+  @Override
+  public long getInvalidationCount() {
+    return _invalidations.sum();
+  }
+
+  @Override
+  public long getEntryCount() {
+    return _cache.size();
+  }
+
+  @Override
+  public long getWeightBytes() {
+    return _weightBytes.sum();
+  }
+
+  /**
+   * A copy of the data of an aspect, null if the aspect does not exist.
+   */
+  private static final class CachedAspect {
+
+    private final DataMap _data;
+    private int _weight;
+
+    private CachedAspect(@Nullable DataMap data, int weight) {
+      _data = data;
+      _weight = weight;
+    }
+
+    @Nonnull
+    static CachedAspect of(@Nullable RecordTemplate aspect) {
+      if (aspect == null) {
+        return new CachedAspect(null, ABSENT_WEIGHT);
+      }
+      return new CachedAspect(copy(aspect.data()), RecordUtils.toJsonString(aspect).length());
+    }
+
+    @Nonnull
+    <ASPECT extends RecordTemplate> Optional<ASPECT> toAspect(@Nonnull Class<ASPECT> aspectClass) {
+      return _data == null ? Optional.empty() : Optional.of(RecordUtils.toRecordTemplate(aspectClass, copy(_data)));
+    }
+
+    @Nonnull
+    private static DataMap copy(@Nonnull DataMap data) {
+      try {
+        return data.copy();
+      } catch (CloneNotSupportedException e) {
+        throw new IllegalStateException("Failed to copy aspect " + data, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.linkedin.metadata.dao.cache;
+
+/**
+ * JMX view of an {@link AspectCache}.
+ */
+public interface AspectCacheMBean {
+
+  /**
+   * Number of aspects served from the cache.
+   */
+  long getHitCount();
+
+  /**
+   * Number of aspects which had to be read from the database.
+   */
+  long getMissCount();
+
+  /**
+   * Ratio of aspects served from the cache, 1 if no aspect was requested yet.
+   */
+  double getHitRate();
+
+  /**
+   * Number of aspects evicted to stay under the maximum size or because they expired.
+   */
+  long getEvictionCount();
+
+  /**
+   * Number of aspects removed because they were written, locally or by another instance.
+   */
+  long getInvalidationCount();
+
+  /**
+   * Number of aspects in the cache, including aspects cached as absent.
+   */
+  long getEntryCount();
+
+  /**
+   * Approximate size of the cached aspects, in bytes of serialized JSON.
+   */
+  long getWeightBytes();
+}
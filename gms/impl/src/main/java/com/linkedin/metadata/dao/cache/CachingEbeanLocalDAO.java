@@ -0,0 +1,112 @@
+package com.linkedin.metadata.dao.cache;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.UnionTemplate;
+import com.linkedin.metadata.dao.AspectKey;
+import com.linkedin.metadata.dao.EbeanLocalDAO;
+import com.linkedin.metadata.dao.producer.BaseMetadataEventProducer;
+import com.linkedin.metadata.dao.storage.LocalDAOStorageConfig;
+import io.ebean.config.ServerConfig;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+
+/**
+ * An {@link EbeanLocalDAO} serving the latest version of aspects from an {@link AspectCache}.
+ *
+ * <p>Reads of older versions of aspects always go to the database. Aspects written through this DAO are invalidated
+ * once the write completes, whether it succeeded or not; aspects written by other instances must be invalidated from
+ * their metadata audit events.
+ */
+public class CachingEbeanLocalDAO<ASPECT_UNION extends UnionTemplate, URN extends Urn>
+    extends EbeanLocalDAO<ASPECT_UNION, URN> {
+
+  private final AspectCache _aspectCache;
+  private boolean _localSecondaryIndexEnabled = false;
+
+  public CachingEbeanLocalDAO(@Nonnull Class<ASPECT_UNION> aspectUnionClass,
+      @Nonnull BaseMetadataEventProducer producer, @Nonnull ServerConfig serverConfig, @Nonnull Class<URN> urnClass,
+      @Nonnull AspectCache aspectCache) {
+    super(aspectUnionClass, producer, serverConfig, urnClass);
+    _aspectCache = aspectCache;
+  }
+
+  public CachingEbeanLocalDAO(@Nonnull BaseMetadataEventProducer producer, @Nonnull ServerConfig serverConfig,
+      @Nonnull LocalDAOStorageConfig storageConfig, @Nonnull Class<URN> urnClass, @Nonnull AspectCache aspectCache) {
+    super(producer, serverConfig, storageConfig, urnClass);
+    _aspectCache = aspectCache;
+  }
+
+  @Override
+  public void enableLocalSecondaryIndex(boolean enableLocalSecondaryIndex) {
+    super.enableLocalSecondaryIndex(enableLocalSecondaryIndex);
+    _localSecondaryIndexEnabled = enableLocalSecondaryIndex;
+  }
+
+  /**
+   * Returns whether urns are written to, and can be listed from, the local secondary index.
+   */
+  public boolean hasLocalSecondaryIndex() {
+    return _localSecondaryIndexEnabled;
+  }
+
+  @Override
+  @Nonnull
+  public Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> get(
+      @Nonnull Set<AspectKey<URN, ? extends RecordTemplate>> keys) {
+    if (!_aspectCache.isEnabled()) {
+      return readAspects(keys);
+    }
+
+    final Set<AspectKey<URN, ? extends RecordTemplate>> latestKeys = new HashSet<>();
+    final Set<AspectKey<URN, ? extends RecordTemplate>> versionedKeys = new HashSet<>();
+    for (AspectKey<URN, ? extends RecordTemplate> key : keys) {
+      (key.getVersion() == LATEST_VERSION ? latestKeys : versionedKeys).add(key);
+    }
+
+    final Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> results =
+        new HashMap<>(_aspectCache.getAll(latestKeys, this::readAspects));
+    if (!versionedKeys.isEmpty()) {
+      results.putAll(readAspects(versionedKeys));
+    }
+    return results;
+  }
+
+  /**
+   * Reads aspects from the database without going through the cache, for bulk reads which would evict the entities
+   * being served.
+   */
+  @Nonnull
+  public Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> getUncached(
+      @Nonnull Set<AspectKey<URN, ? extends RecordTemplate>> keys) {
+    return readAspects(keys);
+  }
+
+  /**
+   * Reads aspects which are not cached from the database.
+   */
+  @Nonnull
+  protected Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> readAspects(
+      @Nonnull Set<AspectKey<URN, ? extends RecordTemplate>> keys) {
+    return super.get(keys);
+  }
+
+  @Override
+  @Nonnull
+  public <ASPECT extends RecordTemplate> ASPECT add(@Nonnull URN urn, @Nonnull Class<ASPECT> aspectClass,
+      @Nonnull Function<Optional<ASPECT>, ASPECT> updateLambda, @Nonnull AuditStamp auditStamp,
+      int maxTransactionRetry) {
+    try {
+      return super.add(urn, aspectClass, updateLambda, auditStamp, maxTransactionRetry);
+    } finally {
+      _aspectCache.invalidate(urn, aspectClass);
+    }
+  }
+}
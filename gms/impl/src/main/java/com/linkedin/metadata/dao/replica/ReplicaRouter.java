@@ -0,0 +1,208 @@
+package com.linkedin.metadata.dao.replica;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.common.urn.Urn;
+import io.ebean.config.ServerConfig;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Decides whether reads of the local DAOs can be sent to a read replica of the database.
+ *
+ * <p>The replication lag of the replica is checked every {@code checkIntervalSeconds}. Reads are sent to the primary
+ * while the replica is more than {@code maxLagSeconds} behind, or when its lag could not be checked recently. Reads of
+ * entities written in the last {@code maxLagSeconds + 2 * checkIntervalSeconds} also go to the primary, so that
+ * writers read their own writes.
+ *
+ * <p>A router without replica configuration is disabled and sends all reads to the primary.
+ */
+@Slf4j
+public class ReplicaRouter implements ReplicaRouterMBean, Closeable {
+
+  private static final long MAX_RECENT_WRITES = 100_000;
+
+  /**
+   * Measures the replication lag of the replica.
+   */
+  public interface LagProbe {
+
+    /**
+     * Returns the replication lag in seconds, or null if the replica is not replicating.
+     */
+    @Nullable
+    Long getLagSeconds() throws Exception;
+  }
+
+  private final ServerConfig _replicaConfig;
+  private final LagProbe _lagProbe;
+  private final long _maxLagSeconds;
+  private final long _checkIntervalMillis;
+  private final Cache<String, Boolean> _recentWrites;
+  private final ScheduledExecutorService _scheduler;
+  private final LongAdder _replicaReads = new LongAdder();
+  private final LongAdder _primaryReads = new LongAdder();
+
+  private volatile long _lagSeconds = -1;
+  private volatile long _lastCheckMillis = 0;
+
+  /**
+   * Creates a disabled router.
+   */
+  public ReplicaRouter() {
+    _replicaConfig = null;
+    _lagProbe = null;
+    _maxLagSeconds = 0;
+    _checkIntervalMillis = 0;
+    _recentWrites = null;
+    _scheduler = null;
+  }
+
+  public ReplicaRouter(@Nonnull ServerConfig replicaConfig, @Nonnull LagProbe lagProbe, long maxLagSeconds,
+      long checkIntervalSeconds) {
+    _replicaConfig = replicaConfig;
+    _lagProbe = lagProbe;
+    _maxLagSeconds = maxLagSeconds;
+    _checkIntervalMillis = TimeUnit.SECONDS.toMillis(checkIntervalSeconds);
+    _recentWrites = CacheBuilder.newBuilder()
+        .maximumSize(MAX_RECENT_WRITES)
+        .expireAfterWrite(maxLagSeconds + 2 * checkIntervalSeconds, TimeUnit.SECONDS)
+        .build();
+    _scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "ebean-replica-lag-check");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public boolean isEnabled() {
+    return _replicaConfig != null;
+  }
+
+  /**
+   * Configuration of the replica, null if the router is disabled.
+   */
+  @Nullable
+  public ServerConfig getReplicaConfig() {
+    return _replicaConfig;
+  }
+
+  /**
+   * Starts checking the replication lag.
+   */
+  public void start() {
+    if (isEnabled()) {
+      _scheduler.scheduleWithFixedDelay(this::checkLag, 0, _checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Returns whether the latest version of the aspects of an entity can be read from the replica.
+   */
+  public boolean shouldReadFromReplica(@Nonnull Urn urn) {
+    if (!isEnabled()) {
+      return false;
+    }
+    final boolean replica = isReplicaHealthy() && _recentWrites.getIfPresent(urn.toString()) == null;
+    (replica ? _replicaReads : _primaryReads).increment();
+    return replica;
+  }
+
+  /**
+   * Returns whether reads which are not about a given entity can be sent to the replica.
+   */
+  public boolean shouldReadFromReplica() {
+    if (!isEnabled()) {
+      return false;
+    }
+    final boolean replica = isReplicaHealthy();
+    (replica ? _replicaReads : _primaryReads).increment();
+    return replica;
+  }
+
+  /**
+   * Records that an entity is being or was written, so that it is read from the primary for a while.
+   */
+  public void recordWrite(@Nonnull Urn urn) {
+    if (isEnabled()) {
+      _recentWrites.put(urn.toString(), Boolean.TRUE);
+    }
+  }
+
+  @VisibleForTesting
+  void checkLag() {
+    try {
+      final Long lagSeconds = _lagProbe.getLagSeconds();
+      _lagSeconds = lagSeconds == null ? -1 : lagSeconds;
+      _lastCheckMillis = System.currentTimeMillis();
+      if (!isReplicaHealthy()) {
+        log.warn("Replica is {} seconds behind, reading from the primary", lagSeconds == null ? "unknown" : lagSeconds);
+      }
+    } catch (Exception e) {
+      _lagSeconds = -1;
+      log.error("Failed to check the replication lag, reading from the primary", e);
+    }
+  }
+
+  @Override
+  public long getLagSeconds() {
+    return _lagSeconds;
+  }
+
+  @Override
+  public boolean isReplicaHealthy() {
+    final long lagSeconds = _lagSeconds;
+    // The lag check itself may be stuck
+    final boolean recentlyChecked = System.currentTimeMillis() - _lastCheckMillis <= 3 * _checkIntervalMillis;
+    return isEnabled() && lagSeconds >= 0 && lagSeconds <= _maxLagSeconds && recentlyChecked;
+  }
+
+  @Override
+  public long getReplicaReadCount() {
+    return _replicaReads.sum();
+  }
+
+  @Override
+  public long getPrimaryReadCount() {
+    return _primaryReads.sum();
+  }
+
+  @Override
+  public void close() {
+    if (_scheduler != null) {
+      _scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * Creates a probe reading {@code Seconds_Behind_Master} from {@code SHOW SLAVE STATUS} on a MySQL replica.
+   *
+   * <p>The user needs the {@code REPLICATION CLIENT} privilege.
+   */
+  @Nonnull
+  public static LagProbe mysqlLagProbe(@Nonnull String url, @Nonnull String username, @Nonnull String password) {
+    return () -> {
+      try (Connection connection = DriverManager.getConnection(url, username, password);
+          Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+        if (!resultSet.next()) {
+          return null;
+        }
+        final long lagSeconds = resultSet.getLong("Seconds_Behind_Master");
+        return resultSet.wasNull() ? null : lagSeconds;
+      }
+    };
+  }
+}
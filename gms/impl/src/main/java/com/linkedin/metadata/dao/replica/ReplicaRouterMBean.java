@@ -0,0 +1,27 @@
+package com.linkedin.metadata.dao.replica;
+
+/**
+ * JMX view of a {@link ReplicaRouter}.
+ */
+public interface ReplicaRouterMBean {
+
+  /**
+   * Replication lag of the replica at the last check, in seconds, -1 if unknown.
+   */
+  long getLagSeconds();
+
+  /**
+   * Whether reads are currently sent to the replica.
+   */
+  boolean isReplicaHealthy();
+
+  /**
+   * Number of reads sent to the replica.
+   */
+  long getReplicaReadCount();
+
+  /**
+   * Number of reads sent to the primary because the replica was behind or the entity was recently written.
+   */
+  long getPrimaryReadCount();
+}
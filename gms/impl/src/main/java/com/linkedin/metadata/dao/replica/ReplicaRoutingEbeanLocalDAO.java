@@ -0,0 +1,112 @@
+package com.linkedin.metadata.dao.replica;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.UnionTemplate;
+import com.linkedin.metadata.dao.AspectKey;
+import com.linkedin.metadata.dao.EbeanLocalDAO;
+import com.linkedin.metadata.dao.cache.AspectCache;
+import com.linkedin.metadata.dao.cache.CachingEbeanLocalDAO;
+import com.linkedin.metadata.dao.producer.BaseMetadataEventProducer;
+import com.linkedin.metadata.dao.storage.LocalDAOStorageConfig;
+import com.linkedin.metadata.query.IndexFilter;
+import io.ebean.config.ServerConfig;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * A {@link CachingEbeanLocalDAO} sending reads to a read replica when the {@link ReplicaRouter} allows it.
+ *
+ * <p>Aspects and urns filtered through the local secondary index are read from the replica, unless the replica is
+ * behind or, for aspects, their entity was recently written. Writes, and the reads they make, always go to the
+ * primary.
+ */
+public class ReplicaRoutingEbeanLocalDAO<ASPECT_UNION extends UnionTemplate, URN extends Urn>
+    extends CachingEbeanLocalDAO<ASPECT_UNION, URN> {
+
+  private final ReplicaRouter _replicaRouter;
+  // Reads from the replica, null if the router is disabled
+  private final EbeanLocalDAO<ASPECT_UNION, URN> _replicaDAO;
+
+  public ReplicaRoutingEbeanLocalDAO(@Nonnull Class<ASPECT_UNION> aspectUnionClass,
+      @Nonnull BaseMetadataEventProducer producer, @Nonnull ServerConfig serverConfig, @Nonnull Class<URN> urnClass,
+      @Nonnull AspectCache aspectCache, @Nonnull ReplicaRouter replicaRouter) {
+    super(aspectUnionClass, producer, serverConfig, urnClass, aspectCache);
+    _replicaRouter = replicaRouter;
+    _replicaDAO = replicaRouter.isEnabled()
+        ? new EbeanLocalDAO<>(aspectUnionClass, producer, replicaRouter.getReplicaConfig(), urnClass) : null;
+  }
+
+  public ReplicaRoutingEbeanLocalDAO(@Nonnull BaseMetadataEventProducer producer, @Nonnull ServerConfig serverConfig,
+      @Nonnull LocalDAOStorageConfig storageConfig, @Nonnull Class<URN> urnClass, @Nonnull AspectCache aspectCache,
+      @Nonnull ReplicaRouter replicaRouter) {
+    super(producer, serverConfig, storageConfig, urnClass, aspectCache);
+    _replicaRouter = replicaRouter;
+    _replicaDAO = replicaRouter.isEnabled()
+        ? new EbeanLocalDAO<>(producer, replicaRouter.getReplicaConfig(), storageConfig, urnClass) : null;
+  }
+
+  @Override
+  @Nonnull
+  protected Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> readAspects(
+      @Nonnull Set<AspectKey<URN, ? extends RecordTemplate>> keys) {
+    if (_replicaDAO == null) {
+      return super.readAspects(keys);
+    }
+
+    final Set<AspectKey<URN, ? extends RecordTemplate>> replicaKeys = new HashSet<>();
+    final Set<AspectKey<URN, ? extends RecordTemplate>> primaryKeys = new HashSet<>();
+    for (AspectKey<URN, ? extends RecordTemplate> key : keys) {
+      (_replicaRouter.shouldReadFromReplica(key.getUrn()) ? replicaKeys : primaryKeys).add(key);
+    }
+
+    final Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> results = new HashMap<>();
+    if (!replicaKeys.isEmpty()) {
+      results.putAll(_replicaDAO.get(replicaKeys));
+    }
+    if (!primaryKeys.isEmpty()) {
+      results.putAll(super.readAspects(primaryKeys));
+    }
+    return results;
+  }
+
+  @Override
+  @Nonnull
+  public List<URN> listUrns(@Nonnull IndexFilter indexFilter, @Nullable URN lastUrn, int pageSize) {
+    if (_replicaDAO != null && _replicaRouter.shouldReadFromReplica()) {
+      return _replicaDAO.listUrns(indexFilter, lastUrn, pageSize);
+    }
+    return super.listUrns(indexFilter, lastUrn, pageSize);
+  }
+
+  @Override
+  public void enableLocalSecondaryIndex(boolean enableLocalSecondaryIndex) {
+    super.enableLocalSecondaryIndex(enableLocalSecondaryIndex);
+    if (_replicaDAO != null) {
+      _replicaDAO.enableLocalSecondaryIndex(enableLocalSecondaryIndex);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public <ASPECT extends RecordTemplate> ASPECT add(@Nonnull URN urn, @Nonnull Class<ASPECT> aspectClass,
+      @Nonnull Function<Optional<ASPECT>, ASPECT> updateLambda, @Nonnull AuditStamp auditStamp,
+      int maxTransactionRetry) {
+    // Recorded before the aspect is invalidated from the cache, so that it is not cached again from the replica
+    _replicaRouter.recordWrite(urn);
+    try {
+      return super.add(urn, aspectClass, updateLambda, auditStamp, maxTransactionRetry);
+    } finally {
+      _replicaRouter.recordWrite(urn);
+    }
+  }
+}
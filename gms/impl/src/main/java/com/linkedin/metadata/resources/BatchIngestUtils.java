@@ -0,0 +1,64 @@
+package com.linkedin.metadata.resources;
+
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
+import com.linkedin.metadata.snapshot.IngestResult;
+import com.linkedin.metadata.snapshot.IngestResultArray;
+import com.linkedin.parseq.Task;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Utilities for the batch ingest action of entity resources.
+ */
+public final class BatchIngestUtils {
+
+  public static final String ACTION_BATCH_INGEST = "batchIngest";
+  public static final String PARAM_SNAPSHOTS = "snapshots";
+  public static final int MAX_BATCH_INGEST_SIZE = 1000;
+
+  private BatchIngestUtils() {
+    // Util class
+  }
+
+  /**
+   * Ingests snapshots one after the other, in the given order, and reports the result of each of them.
+   *
+   * <p>A snapshot that fails to be ingested does not prevent the following ones from being ingested.
+   *
+   * @param snapshots snapshots to ingest, at most {@link #MAX_BATCH_INGEST_SIZE}
+   * @param ingest ingests a single snapshot, usually the ingest action of the resource
+   * @return the result of each snapshot, in the given order
+   */
+  @Nonnull
+  public static <SNAPSHOT extends RecordTemplate> Task<BatchIngestResult> batchIngest(@Nonnull SNAPSHOT[] snapshots,
+      @Nonnull Function<SNAPSHOT, Task<Void>> ingest) {
+    if (snapshots.length > MAX_BATCH_INGEST_SIZE) {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST,
+          String.format("At most %d snapshots can be ingested at once", MAX_BATCH_INGEST_SIZE));
+    }
+    if (snapshots.length == 0) {
+      return Task.value(new BatchIngestResult().setResults(new IngestResultArray()));
+    }
+
+    final List<Task<IngestResult>> results = new ArrayList<>(snapshots.length);
+    for (SNAPSHOT snapshot : snapshots) {
+      final IngestResult result = new IngestResult().setUrn(ModelUtils.getUrnFromSnapshot(snapshot));
+      Task<Void> ingestTask;
+      try {
+        ingestTask = ingest.apply(snapshot);
+      } catch (RuntimeException e) {
+        ingestTask = Task.failure(e);
+      }
+      results.add(ingestTask.map(ignored -> result.setSuccess(true))
+          .recover(throwable -> result.setSuccess(false).setError(throwable.toString())));
+    }
+    return Task.par(results).map(list -> new BatchIngestResult().setResults(new IngestResultArray(list)));
+  }
+}
@@ -0,0 +1,64 @@
+package com.linkedin.metadata.resources;
+
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.transform.filter.request.MaskOperation;
+import com.linkedin.data.transform.filter.request.MaskTree;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * Utilities to only load the aspects needed by the fields of a value selected by a Rest.li projection.
+ */
+public final class ProjectionUtils {
+
+  private ProjectionUtils() {
+    // Util class
+  }
+
+  /**
+   * Returns the names of the aspects needed to build the fields of a value selected by a projection.
+   *
+   * <p>All aspects are needed if there is no projection, if it excludes fields or if it selects a field which is not
+   * part of the value.
+   *
+   * @param projection projection of the value, null if all fields are requested
+   * @param valueSchema schema of the value
+   * @param aspectsByField aspect each top-level field of the value is built from, fields which are not built from an
+   *     aspect being absent
+   * @return names of the needed aspects, null if all aspects are needed
+   */
+  @Nullable
+  public static String[] getProjectedAspectNames(@Nullable MaskTree projection, @Nonnull RecordDataSchema valueSchema,
+      @Nonnull Map<String, Class<? extends RecordTemplate>> aspectsByField) {
+    if (projection == null) {
+      return null;
+    }
+    final Map<PathSpec, MaskOperation> operations = projection.getOperations();
+    if (operations.isEmpty()) {
+      return null;
+    }
+
+    final Set<String> aspectNames = new TreeSet<>();
+    for (Map.Entry<PathSpec, MaskOperation> operation : operations.entrySet()) {
+      final List<String> path = operation.getKey().getPathComponents();
+      if (operation.getValue() != MaskOperation.POSITIVE_MASK_OP || path.isEmpty()) {
+        return null;
+      }
+      final String field = path.get(0);
+      final Class<? extends RecordTemplate> aspectClass = aspectsByField.get(field);
+      if (aspectClass != null) {
+        aspectNames.add(aspectClass.getName());
+      } else if (valueSchema.getField(field) == null) {
+        return null;
+      }
+    }
+    return aspectNames.toArray(new String[0]);
+  }
+}
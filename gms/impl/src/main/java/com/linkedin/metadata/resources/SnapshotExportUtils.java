@@ -0,0 +1,168 @@
+package com.linkedin.metadata.resources;
+
+import com.google.common.collect.Lists;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.UnionTemplate;
+import com.linkedin.metadata.dao.AspectKey;
+import com.linkedin.metadata.dao.BaseLocalDAO;
+import com.linkedin.metadata.dao.cache.CachingEbeanLocalDAO;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.query.IndexCriterion;
+import com.linkedin.metadata.query.IndexCriterionArray;
+import com.linkedin.metadata.query.IndexFilter;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.linkedin.metadata.dao.BaseReadDAO.*;
+
+
+/**
+ * Utilities for the snapshot export action of entity resources.
+ */
+public final class SnapshotExportUtils {
+
+  public static final String ACTION_EXPORT_SNAPSHOTS = "exportSnapshots";
+  public static final String PARAM_COUNT = "count";
+  public static final int MAX_EXPORT_COUNT = 2000;
+
+  // Number of entities whose aspects are read from the local DAO at once
+  private static final int READ_BATCH_SIZE = 100;
+
+  private SnapshotExportUtils() {
+    // Util class
+  }
+
+  /**
+   * A chunk of exported snapshots.
+   */
+  public static final class Chunk<URN extends Urn, SNAPSHOT extends RecordTemplate> {
+
+    private final List<SNAPSHOT> _snapshots;
+    private final URN _lastUrn;
+
+    Chunk(@Nonnull List<SNAPSHOT> snapshots, @Nullable URN lastUrn) {
+      _snapshots = snapshots;
+      _lastUrn = lastUrn;
+    }
+
+    /**
+     * Snapshots of the entities of the chunk which have at least one of the exported aspects, in urn order.
+     */
+    @Nonnull
+    public List<SNAPSHOT> getSnapshots() {
+      return _snapshots;
+    }
+
+    /**
+     * Last urn of the chunk to start the next chunk from, null if there are no more entities.
+     */
+    @Nullable
+    public URN getLastUrn() {
+      return _lastUrn;
+    }
+  }
+
+  /**
+   * Returns the filter matching all the entities of an urn type in the local secondary index.
+   */
+  @Nonnull
+  public static IndexFilter getDefaultIndexFilter(@Nonnull Class<? extends Urn> urnClass) {
+    return new IndexFilter().setCriteria(
+        new IndexCriterionArray(new IndexCriterion().setAspect(urnClass.getCanonicalName())));
+  }
+
+  /**
+   * Returns the aspect classes named by the aspects param of the export action, all aspects of the entity if absent.
+   */
+  @Nonnull
+  public static Set<Class<? extends RecordTemplate>> parseAspectNames(
+      @Nonnull Class<? extends UnionTemplate> aspectUnionClass, @Nullable String[] aspectNames) {
+    final Set<Class<? extends RecordTemplate>> validAspects = ModelUtils.getValidAspectTypes(aspectUnionClass);
+    if (aspectNames == null) {
+      return validAspects;
+    }
+
+    final Set<Class<? extends RecordTemplate>> aspectClasses = new LinkedHashSet<>();
+    for (String aspectName : aspectNames) {
+      final Class<? extends RecordTemplate> aspectClass;
+      try {
+        aspectClass = ModelUtils.getAspectClass(aspectName);
+      } catch (RuntimeException e) {
+        throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, "Unknown aspect: " + aspectName);
+      }
+      if (!validAspects.contains(aspectClass)) {
+        throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, "Unknown aspect: " + aspectName);
+      }
+      aspectClasses.add(aspectClass);
+    }
+    return aspectClasses;
+  }
+
+  /**
+   * Exports the snapshots of the entities following an urn in the local secondary index.
+   *
+   * <p>Aspects are read a few entities at a time. They bypass the aspect cache, so that an export does not evict the
+   * entities being served.
+   *
+   * @param localDAO local DAO of the entity, with the local secondary index enabled
+   * @param snapshotClass snapshot class of the entity
+   * @param aspectUnionClass aspect union class of the entity
+   * @param indexFilter filter of the entities to export
+   * @param aspectClasses aspects to export
+   * @param lastUrn last urn of the previous chunk, null for the first chunk
+   * @param count maximum number of entities in the chunk, at most {@link #MAX_EXPORT_COUNT}
+   * @return the chunk of snapshots
+   * @throws RestLiServiceException with a 501 status if the local secondary index of the local DAO is disabled
+   */
+  @Nonnull
+  public static <URN extends Urn, ASPECT_UNION extends UnionTemplate, SNAPSHOT extends RecordTemplate>
+      Chunk<URN, SNAPSHOT> exportSnapshots(@Nonnull BaseLocalDAO<ASPECT_UNION, URN> localDAO,
+      @Nonnull Class<SNAPSHOT> snapshotClass, @Nonnull Class<ASPECT_UNION> aspectUnionClass,
+      @Nonnull IndexFilter indexFilter, @Nonnull Set<Class<? extends RecordTemplate>> aspectClasses,
+      @Nullable URN lastUrn, int count) {
+    if (count < 1 || count > MAX_EXPORT_COUNT) {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST,
+          "count must be between 1 and " + MAX_EXPORT_COUNT);
+    }
+    if (localDAO instanceof CachingEbeanLocalDAO && !((CachingEbeanLocalDAO<?, ?>) localDAO).hasLocalSecondaryIndex()) {
+      throw new RestLiServiceException(HttpStatus.S_501_NOT_IMPLEMENTED,
+          "Snapshots can only be exported when the local secondary index is enabled");
+    }
+
+    final List<URN> urns = localDAO.listUrns(indexFilter, lastUrn, count);
+    final List<SNAPSHOT> snapshots = new ArrayList<>(urns.size());
+    for (List<URN> batch : Lists.partition(urns, READ_BATCH_SIZE)) {
+      final Set<AspectKey<URN, ? extends RecordTemplate>> keys = new HashSet<>();
+      for (URN urn : batch) {
+        for (Class<? extends RecordTemplate> aspectClass : aspectClasses) {
+          keys.add(new AspectKey<>(aspectClass, urn, LATEST_VERSION));
+        }
+      }
+      final Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> aspects =
+          localDAO instanceof CachingEbeanLocalDAO
+              ? ((CachingEbeanLocalDAO<ASPECT_UNION, URN>) localDAO).getUncached(keys) : localDAO.get(keys);
+
+      for (URN urn : batch) {
+        final List<ASPECT_UNION> aspectUnions = new ArrayList<>();
+        for (Class<? extends RecordTemplate> aspectClass : aspectClasses) {
+          aspects.getOrDefault(new AspectKey<>(aspectClass, urn, LATEST_VERSION), Optional.empty())
+              .ifPresent(aspect -> aspectUnions.add(ModelUtils.newAspectUnion(aspectUnionClass, aspect)));
+        }
+        if (!aspectUnions.isEmpty()) {
+          snapshots.add(ModelUtils.newSnapshot(snapshotClass, urn, aspectUnions));
+        }
+      }
+    }
+    return new Chunk<>(snapshots, urns.size() < count ? null : urns.get(urns.size() - 1));
+  }
+}
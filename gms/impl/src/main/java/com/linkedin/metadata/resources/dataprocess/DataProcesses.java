@@ -12,9 +12,11 @@ import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.SearchResultMetadata;
 import com.linkedin.metadata.query.SortCriterion;
+import com.linkedin.metadata.resources.BatchIngestUtils;
 import com.linkedin.metadata.restli.BackfillResult;
 import com.linkedin.metadata.restli.BaseSearchableEntityResource;
 import com.linkedin.metadata.search.DataProcessDocument;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
 import com.linkedin.metadata.snapshot.DataProcessSnapshot;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.ComplexResourceKey;
@@ -190,6 +192,14 @@ public class DataProcesses extends BaseSearchableEntityResource<
     public Task<Void> ingest(@ActionParam(PARAM_SNAPSHOT) @Nonnull DataProcessSnapshot snapshot) {
         return super.ingest(snapshot);
     }
+
+    @Action(name = BatchIngestUtils.ACTION_BATCH_INGEST)
+    @Nonnull
+    public Task<BatchIngestResult> batchIngest(
+            @ActionParam(BatchIngestUtils.PARAM_SNAPSHOTS) @Nonnull DataProcessSnapshot[] snapshots) {
+        return BatchIngestUtils.batchIngest(snapshots, this::ingest);
+    }
+
     @Action(name = ACTION_GET_SNAPSHOT)
     @Override
     @Nonnull
@@ -3,18 +3,24 @@ package com.linkedin.metadata.resources.dataset;
 import com.linkedin.common.InstitutionalMemory;
 import com.linkedin.common.Ownership;
 import com.linkedin.common.Status;
+import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.dataset.Dataset;
 import com.linkedin.dataset.DatasetDeprecation;
 import com.linkedin.dataset.DatasetKey;
 import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.dataset.DatasetSnapshotExport;
+import com.linkedin.dataset.LineageDirection;
+import com.linkedin.dataset.LineageGraph;
 import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.metadata.aspect.DatasetAspect;
 import com.linkedin.metadata.dao.BaseBrowseDAO;
 import com.linkedin.metadata.dao.BaseLocalDAO;
 import com.linkedin.metadata.dao.BaseSearchDAO;
+import com.linkedin.metadata.dao.SearchResult;
 import com.linkedin.metadata.dao.utils.ModelUtils;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.BrowseResult;
@@ -22,15 +28,23 @@ import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.IndexFilter;
 import com.linkedin.metadata.query.SearchResultMetadata;
 import com.linkedin.metadata.query.SortCriterion;
+import com.linkedin.metadata.resources.BatchIngestUtils;
+import com.linkedin.metadata.resources.ProjectionUtils;
+import com.linkedin.metadata.resources.SnapshotExportUtils;
 import com.linkedin.metadata.restli.BackfillResult;
 import com.linkedin.metadata.restli.BaseBrowsableEntityResource;
+import com.linkedin.metadata.restli.RestliUtils;
 import com.linkedin.metadata.search.DatasetDocument;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
 import com.linkedin.metadata.snapshot.DatasetSnapshot;
+import com.linkedin.metadata.snapshot.DatasetSnapshotArray;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
+import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.server.CollectionResult;
 import com.linkedin.restli.server.PagingContext;
+import com.linkedin.restli.server.RestLiServiceException;
 import com.linkedin.restli.server.annotations.Action;
 import com.linkedin.restli.server.annotations.ActionParam;
 import com.linkedin.restli.server.annotations.Finder;
@@ -41,13 +55,18 @@ import com.linkedin.restli.server.annotations.RestLiCollection;
 import com.linkedin.restli.server.annotations.RestMethod;
 import com.linkedin.schema.SchemaMetadata;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.neo4j.driver.Driver;
 
 import static com.linkedin.metadata.restli.RestliConstants.*;
 
@@ -62,6 +81,33 @@ public final class Datasets extends BaseBrowsableEntityResource<
         DatasetDocument> {
     // @formatter:on
 
+  private static final String ACTION_GET_LINEAGE_GRAPH = "getLineageGraph";
+  private static final String PARAM_DIRECTION = "direction";
+  private static final String PARAM_MAX_HOPS = "maxHops";
+  private static final String PARAM_MAX_DATASETS = "maxDatasets";
+  private static final String PARAM_CURSOR = "cursor";
+  private static final int MAX_LINEAGE_HOPS = 10;
+  private static final int MAX_LINEAGE_DATASETS = 5000;
+
+  // Aspect each field of the value is built from in toValue, the other fields are built from the urn
+  private static final Map<String, Class<? extends RecordTemplate>> ASPECTS_BY_FIELD;
+
+  static {
+    final Map<String, Class<? extends RecordTemplate>> aspectsByField = new HashMap<>();
+    aspectsByField.put("description", DatasetProperties.class);
+    aspectsByField.put("uri", DatasetProperties.class);
+    aspectsByField.put("tags", DatasetProperties.class);
+    aspectsByField.put("properties", DatasetProperties.class);
+    aspectsByField.put("deprecation", DatasetDeprecation.class);
+    aspectsByField.put("institutionalMemory", InstitutionalMemory.class);
+    aspectsByField.put("ownership", Ownership.class);
+    aspectsByField.put("schemaMetadata", SchemaMetadata.class);
+    aspectsByField.put("status", Status.class);
+    aspectsByField.put("removed", Status.class);
+    aspectsByField.put("upstreamLineage", UpstreamLineage.class);
+    ASPECTS_BY_FIELD = Collections.unmodifiableMap(aspectsByField);
+  }
+
   public Datasets() {
     super(DatasetSnapshot.class, DatasetAspect.class, DatasetUrn.class);
   }
@@ -78,6 +124,10 @@ public final class Datasets extends BaseBrowsableEntityResource<
   @Named("datasetBrowseDao")
   private BaseBrowseDAO _browseDAO;
 
+  @Inject
+  @Named("neo4jDriver")
+  private Driver _neo4jDriver;
+
   @Override
   @Nonnull
   protected BaseLocalDAO getLocalDAO() {
@@ -207,7 +257,13 @@ public final class Datasets extends BaseBrowsableEntityResource<
   @Nonnull
   public Task<Dataset> get(@Nonnull ComplexResourceKey<DatasetKey, EmptyRecord> key,
       @QueryParam(PARAM_ASPECTS) @Optional @Nullable String[] aspectNames) {
-    return super.get(key, aspectNames);
+    final String[] projectedAspectNames = getProjectedAspectNames(aspectNames);
+    if (projectedAspectNames == aspectNames) {
+      return super.get(key, aspectNames);
+    }
+    // A dataset with none of the projected aspects is not found from them, but may still exist
+    return super.get(key, projectedAspectNames)
+        .recoverWith(e -> isNotFound(e) ? super.get(key, null) : Task.failure(e));
   }
 
   @RestMethod.BatchGet
@@ -216,7 +272,11 @@ public final class Datasets extends BaseBrowsableEntityResource<
   public Task<Map<ComplexResourceKey<DatasetKey, EmptyRecord>, Dataset>> batchGet(
       @Nonnull Set<ComplexResourceKey<DatasetKey, EmptyRecord>> keys,
       @QueryParam(PARAM_ASPECTS) @Optional @Nullable String[] aspectNames) {
-    return super.batchGet(keys, aspectNames);
+    final String[] projectedAspectNames = getProjectedAspectNames(aspectNames);
+    if (projectedAspectNames == aspectNames) {
+      return super.batchGet(keys, aspectNames);
+    }
+    return batchGetProjected(keys, projectedAspectNames);
   }
 
   @Finder(FINDER_SEARCH)
@@ -227,7 +287,20 @@ public final class Datasets extends BaseBrowsableEntityResource<
       @QueryParam(PARAM_FILTER) @Optional @Nullable Filter filter,
       @QueryParam(PARAM_SORT) @Optional @Nullable SortCriterion sortCriterion,
       @PagingContextParam @Nonnull PagingContext pagingContext) {
-    return super.search(input, aspectNames, filter, sortCriterion, pagingContext);
+    final String[] projectedAspectNames = getProjectedAspectNames(aspectNames);
+    if (projectedAspectNames == aspectNames) {
+      return super.search(input, aspectNames, filter, sortCriterion, pagingContext);
+    }
+    // Unlike the base search, datasets with none of the projected aspects are read from all their aspects
+    return RestliUtils.<SearchResult<DatasetDocument>>toTask(
+        () -> _searchDAO.search(input, filter, sortCriterion, pagingContext.getStart(), pagingContext.getCount())
+    ).flatMap(searchResult -> {
+      final List<DatasetUrn> urns =
+          searchResult.getDocumentList().stream().map(DatasetDocument::getUrn).collect(Collectors.toList());
+      return getProjectedValues(urns, projectedAspectNames).map(values -> new CollectionResult<>(values,
+          searchResult.getTotalCount(), searchResult.getSearchResultMetadata()
+              .setUrns(new UrnArray(values.stream().map(Dataset::getUrn).collect(Collectors.toList())))));
+    });
   }
 
   /**
@@ -250,7 +323,17 @@ public final class Datasets extends BaseBrowsableEntityResource<
       @QueryParam(PARAM_ASPECTS) @Optional @Nullable String[] aspectNames,
       @QueryParam(PARAM_URN) @Optional @Nullable String lastUrn,
       @PagingContextParam @Nonnull PagingContext pagingContext) {
-    return super.filter(indexFilter, aspectNames, lastUrn, pagingContext);
+    final String[] projectedAspectNames = getProjectedAspectNames(aspectNames);
+    if (projectedAspectNames == aspectNames) {
+      return super.filter(indexFilter, aspectNames, lastUrn, pagingContext);
+    }
+    // Unlike the base filter, datasets with none of the projected aspects are read from all their aspects
+    final IndexFilter filter =
+        indexFilter == null ? SnapshotExportUtils.getDefaultIndexFilter(DatasetUrn.class) : indexFilter;
+    final DatasetUrn lastDatasetUrn = lastUrn == null ? null : parseUrnParam(lastUrn);
+    return RestliUtils.<List<DatasetUrn>>toTask(
+        () -> _localDAO.listUrns(filter, lastDatasetUrn, pagingContext.getCount())
+    ).flatMap(urns -> getProjectedValues(urns, projectedAspectNames));
   }
 
   @Action(name = ACTION_AUTOCOMPLETE)
@@ -286,6 +369,13 @@ public final class Datasets extends BaseBrowsableEntityResource<
     return super.ingest(snapshot);
   }
 
+  @Action(name = BatchIngestUtils.ACTION_BATCH_INGEST)
+  @Nonnull
+  public Task<BatchIngestResult> batchIngest(
+      @ActionParam(BatchIngestUtils.PARAM_SNAPSHOTS) @Nonnull DatasetSnapshot[] snapshots) {
+    return BatchIngestUtils.batchIngest(snapshots, this::ingest);
+  }
+
   @Action(name = ACTION_GET_SNAPSHOT)
   @Override
   @Nonnull
@@ -301,4 +391,146 @@ public final class Datasets extends BaseBrowsableEntityResource<
       @ActionParam(PARAM_ASPECTS) @Optional @Nullable String[] aspectNames) {
     return super.backfill(urnString, aspectNames);
   }
+
+  /**
+   * Exports the snapshots of the datasets in the local secondary index, one chunk at a time, in urn order.
+   *
+   * <p>Datasets are the only entities whose urns are written to a local secondary index, so no other resource has this
+   * action. The index must be enabled with {@code DATASET_ENABLE_SCSI}; the action fails with a 501 status otherwise.
+   *
+   * @param indexFilter filter of the datasets to export, absent for all datasets
+   * @param aspectNames aspects to export, absent for all aspects
+   * @param cursor the {@link DatasetSnapshotExport#getNextCursor()} of the previous chunk, absent for the first chunk
+   * @param count maximum number of datasets in a chunk, at most {@link SnapshotExportUtils#MAX_EXPORT_COUNT}
+   */
+  @Action(name = SnapshotExportUtils.ACTION_EXPORT_SNAPSHOTS)
+  @Nonnull
+  public Task<DatasetSnapshotExport> exportSnapshots(
+      @ActionParam(PARAM_FILTER) @Optional @Nullable IndexFilter indexFilter,
+      @ActionParam(PARAM_ASPECTS) @Optional @Nullable String[] aspectNames,
+      @ActionParam(PARAM_CURSOR) @Optional @Nullable String cursor,
+      @ActionParam(SnapshotExportUtils.PARAM_COUNT) @Optional("500") int count) {
+
+    final IndexFilter filter =
+        indexFilter == null ? SnapshotExportUtils.getDefaultIndexFilter(DatasetUrn.class) : indexFilter;
+    final Set<Class<? extends RecordTemplate>> aspectClasses =
+        SnapshotExportUtils.parseAspectNames(DatasetAspect.class, aspectNames);
+    final DatasetUrn lastUrn = cursor == null ? null : parseUrnParam(cursor);
+
+    return RestliUtils.toTask(() -> {
+      final SnapshotExportUtils.Chunk<DatasetUrn, DatasetSnapshot> chunk = SnapshotExportUtils.exportSnapshots(
+          _localDAO, DatasetSnapshot.class, DatasetAspect.class, filter, aspectClasses, lastUrn, count);
+      final DatasetSnapshotExport export =
+          new DatasetSnapshotExport().setSnapshots(new DatasetSnapshotArray(chunk.getSnapshots()));
+      if (chunk.getLastUrn() != null) {
+        export.setNextCursor(chunk.getLastUrn().toString());
+      }
+      return export;
+    });
+  }
+
+  /**
+   * Gets the upstream or downstream lineage graph of a dataset, up to a number of hops, one page at a time.
+   *
+   * @param urnString the dataset to start from
+   * @param direction the direction to traverse
+   * @param maxHops maximum number of hops from the dataset, at most {@link #MAX_LINEAGE_HOPS}
+   * @param maxDatasets maximum number of datasets in a page, at most {@link #MAX_LINEAGE_DATASETS}
+   * @param cursor the {@link LineageGraph#getNextCursor()} of the previous page, absent for the first page
+   */
+  @Action(name = ACTION_GET_LINEAGE_GRAPH)
+  @Nonnull
+  public Task<LineageGraph> getLineageGraph(@ActionParam(PARAM_URN) @Nonnull String urnString,
+      @ActionParam(PARAM_DIRECTION) @Nonnull LineageDirection direction,
+      @ActionParam(PARAM_MAX_HOPS) @Optional("3") int maxHops,
+      @ActionParam(PARAM_MAX_DATASETS) @Optional("500") int maxDatasets,
+      @ActionParam(PARAM_CURSOR) @Optional @Nullable String cursor) {
+
+    if (maxHops < 1 || maxHops > MAX_LINEAGE_HOPS) {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST,
+          "maxHops must be between 1 and " + MAX_LINEAGE_HOPS);
+    }
+    if (maxDatasets < 1 || maxDatasets > MAX_LINEAGE_DATASETS) {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST,
+          "maxDatasets must be between 1 and " + MAX_LINEAGE_DATASETS);
+    }
+    final DatasetUrn urn = parseUrnParam(urnString);
+    final LineageGraphQuery.Cursor start = parseCursor(cursor);
+
+    return RestliUtils.toTask(
+        () -> new LineageGraphQuery(_neo4jDriver).find(urn, direction, maxHops, maxDatasets, start));
+  }
+
+  /**
+   * Returns the aspects needed by the fields projected by the request when no aspects are explicitly requested, so
+   * that only these aspects are loaded.
+   *
+   * <p>All aspects are loaded when the projected fields need none of them, as a dataset loaded from no aspects is
+   * not found.
+   */
+  @Nullable
+  private String[] getProjectedAspectNames(@Nullable String[] aspectNames) {
+    if (aspectNames != null) {
+      return aspectNames;
+    }
+    final String[] projectedAspectNames = ProjectionUtils.getProjectedAspectNames(getContext().getProjectionMask(),
+        new Dataset().schema(), ASPECTS_BY_FIELD);
+    return projectedAspectNames == null || projectedAspectNames.length == 0 ? null : projectedAspectNames;
+  }
+
+  /**
+   * Gets the values of datasets from the aspects needed by the projected fields, then the datasets having none of
+   * these aspects from all their aspects, as they would otherwise be missing.
+   */
+  @Nonnull
+  private Task<Map<ComplexResourceKey<DatasetKey, EmptyRecord>, Dataset>> batchGetProjected(
+      @Nonnull Set<ComplexResourceKey<DatasetKey, EmptyRecord>> keys, @Nonnull String[] projectedAspectNames) {
+    return super.batchGet(keys, projectedAspectNames).flatMap(values -> {
+      final Set<ComplexResourceKey<DatasetKey, EmptyRecord>> missingKeys =
+          keys.stream().filter(key -> !values.containsKey(key)).collect(Collectors.toSet());
+      if (missingKeys.isEmpty()) {
+        return Task.value(values);
+      }
+      return super.batchGet(missingKeys, null).map(missingValues -> {
+        final Map<ComplexResourceKey<DatasetKey, EmptyRecord>, Dataset> allValues = new HashMap<>(values);
+        allValues.putAll(missingValues);
+        return allValues;
+      });
+    });
+  }
+
+  /**
+   * Gets the values of a page of datasets in the order of their urns, leaving out the datasets that do not exist.
+   */
+  @Nonnull
+  private Task<List<Dataset>> getProjectedValues(@Nonnull List<DatasetUrn> urns,
+      @Nonnull String[] projectedAspectNames) {
+    final List<ComplexResourceKey<DatasetKey, EmptyRecord>> keys =
+        urns.stream().map(this::toKey).collect(Collectors.toList());
+    return batchGetProjected(new HashSet<>(keys), projectedAspectNames).map(
+        values -> keys.stream().filter(values::containsKey).map(values::get).collect(Collectors.toList()));
+  }
+
+  private static boolean isNotFound(@Nonnull Throwable throwable) {
+    return throwable instanceof RestLiServiceException
+        && ((RestLiServiceException) throwable).getStatus() == HttpStatus.S_404_NOT_FOUND;
+  }
+
+  @Nonnull
+  private DatasetUrn parseUrnParam(@Nonnull String urnString) {
+    try {
+      return createUrnFromString(urnString);
+    } catch (Exception e) {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, "Invalid dataset urn: " + urnString);
+    }
+  }
+
+  @Nonnull
+  private static LineageGraphQuery.Cursor parseCursor(@Nullable String cursor) {
+    try {
+      return LineageGraphQuery.Cursor.parse(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, e.getMessage());
+    }
+  }
 }
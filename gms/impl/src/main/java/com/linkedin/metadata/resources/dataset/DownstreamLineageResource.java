@@ -6,33 +6,40 @@ import com.linkedin.dataset.Downstream;
 import com.linkedin.dataset.DownstreamArray;
 import com.linkedin.dataset.DownstreamLineage;
 import com.linkedin.dataset.Upstream;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.dao.AspectKey;
 import com.linkedin.metadata.dao.BaseLocalDAO;
-import com.linkedin.metadata.dao.BaseQueryDAO;
 import com.linkedin.metadata.entity.DatasetEntity;
-import com.linkedin.metadata.query.CriterionArray;
-import com.linkedin.metadata.query.Filter;
-import com.linkedin.metadata.query.RelationshipDirection;
 import com.linkedin.metadata.relationship.DownstreamOf;
 import com.linkedin.metadata.restli.RestliUtils;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
+import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.server.PathKeys;
+import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.restli.server.annotations.Optional;
 import com.linkedin.restli.server.annotations.PathKeysParam;
+import com.linkedin.restli.server.annotations.QueryParam;
 import com.linkedin.restli.server.annotations.RestLiCollection;
 import com.linkedin.restli.server.annotations.RestLiSimpleResource;
 import com.linkedin.restli.server.annotations.RestMethod;
 import com.linkedin.restli.server.resources.SimpleResourceTemplate;
-import java.util.Collections;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
 
-import static com.linkedin.metadata.dao.Neo4jUtil.*;
-import static com.linkedin.metadata.dao.utils.QueryUtils.*;
+import static com.linkedin.metadata.restli.RestliConstants.*;
 
 
 /**
@@ -42,38 +49,68 @@ import static com.linkedin.metadata.dao.utils.QueryUtils.*;
 public final class DownstreamLineageResource extends SimpleResourceTemplate<DownstreamLineage> {
 
   private static final String DATASET_KEY = Datasets.class.getAnnotation(RestLiCollection.class).keyName();
-  private static final Filter EMPTY_FILTER = new Filter().setCriteria(new CriterionArray());
-  private static final Integer MAX_DOWNSTREAM_CNT = 100;
+  private static final String PARAM_COUNT = "count";
+  private static final int MAX_DOWNSTREAM_CNT = 1000;
+
+  // DownstreamOf relationships point from the downstream dataset to the upstream dataset. Downstream datasets are
+  // ordered by urn so that pages are stable.
+  private static final String DOWNSTREAMS_QUERY = String.format(
+      "MATCH (downstream:`%1$s`)-[:`%2$s`]->(:`%1$s` {urn: $urn}) "
+          + "RETURN DISTINCT downstream.urn AS urn ORDER BY urn SKIP $start LIMIT $limit",
+      DatasetEntity.class.getCanonicalName(), DownstreamOf.class.getCanonicalName());
 
   @Inject
   @Named("datasetDao")
   private BaseLocalDAO _localDAO;
 
   @Inject
-  @Named("datasetQueryDao")
-  private BaseQueryDAO _queryDAO;
+  @Named("neo4jDriver")
+  private Driver _neo4jDriver;
 
   public DownstreamLineageResource() {
     super();
   }
 
+  /**
+   * Gets a page of the downstream lineage of a dataset.
+   *
+   * <p>The {@link UpstreamLineage} aspects of all downstream datasets in the page are read in a single batch.
+   *
+   * @param start offset of the first downstream dataset to return
+   * @param count maximum number of downstream datasets to return, at least 1 and capped at {@link #MAX_DOWNSTREAM_CNT}
+   * @return the page of downstream lineage, with {@link DownstreamLineage#getNextStart()} set if there are more
+   * @throws RestLiServiceException with a 400 status if {@code count} is less than 1
+   */
   @Nonnull
   @RestMethod.Get
-  public Task<DownstreamLineage> get(@PathKeysParam @Nonnull PathKeys keys) {
+  public Task<DownstreamLineage> get(@PathKeysParam @Nonnull PathKeys keys,
+      @QueryParam(PARAM_START) @Optional("0") int start,
+      @QueryParam(PARAM_COUNT) @Optional("100") int count) {
+    if (count < 1) {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, "count must be at least 1");
+    }
     final DatasetUrn datasetUrn = getUrn(keys);
-    final Filter filter = newFilter(Collections.singletonMap("upstreams", datasetUrn.toString()));
+    final int pageStart = Math.max(0, start);
+    final int pageCount = Math.min(count, MAX_DOWNSTREAM_CNT);
 
     return RestliUtils.toTask(() -> {
-      final List<DatasetUrn> downstreamDatasets = _queryDAO
-          .findEntities(DatasetEntity.class, newFilter("urn", datasetUrn.toString()),
-              DatasetEntity.class, EMPTY_FILTER,
-              DownstreamOf.class, createRelationshipFilter(EMPTY_FILTER, RelationshipDirection.INCOMING),
-              0, MAX_DOWNSTREAM_CNT)
-          .stream().map(entity -> ((DatasetEntity) entity).getUrn()).collect(Collectors.toList());
+      // One more downstream than requested tells whether there is a next page
+      final List<DatasetUrn> downstreamDatasets = findDownstreams(datasetUrn, pageStart, pageCount + 1);
+      final boolean hasMore = downstreamDatasets.size() > pageCount;
+      if (hasMore) {
+        downstreamDatasets.remove(pageCount);
+      }
+
+      final Set<AspectKey<DatasetUrn, ? extends RecordTemplate>> keysToGet = downstreamDatasets.stream()
+          .map(ds -> new AspectKey<>(UpstreamLineage.class, ds, BaseLocalDAO.LATEST_VERSION))
+          .collect(Collectors.toSet());
+      final Map<AspectKey<DatasetUrn, ? extends RecordTemplate>, java.util.Optional<? extends RecordTemplate>>
+          upstreamLineages = _localDAO.get(keysToGet);
 
       final DownstreamArray downstreamArray = new DownstreamArray(downstreamDatasets.stream()
           .map(ds -> {
-            final UpstreamLineage upstreamLineage = (UpstreamLineage) _localDAO.get(UpstreamLineage.class, ds).get();
+            final UpstreamLineage upstreamLineage = (UpstreamLineage) upstreamLineages
+                .get(new AspectKey<>(UpstreamLineage.class, ds, BaseLocalDAO.LATEST_VERSION)).get();
             final List<Upstream> upstreams = upstreamLineage.getUpstreams().stream()
                 .filter(us -> us.getDataset().equals(datasetUrn))
                 .collect(Collectors.toList());
@@ -87,10 +124,35 @@ public final class DownstreamLineageResource extends SimpleResourceTemplate<Down
           })
           .collect(Collectors.toList())
       );
-      return new DownstreamLineage().setDownstreams(downstreamArray);
+      final DownstreamLineage downstreamLineage = new DownstreamLineage().setDownstreams(downstreamArray);
+      if (hasMore) {
+        downstreamLineage.setNextStart(pageStart + pageCount);
+      }
+      return downstreamLineage;
     });
   }
 
+  @Nonnull
+  private List<DatasetUrn> findDownstreams(@Nonnull DatasetUrn datasetUrn, int start, int limit) {
+    final Map<String, Object> params = new HashMap<>();
+    params.put("urn", datasetUrn.toString());
+    params.put("start", start);
+    params.put("limit", limit);
+    try (Session session = _neo4jDriver.session()) {
+      return new ArrayList<>(
+          session.run(DOWNSTREAMS_QUERY, params).list(record -> toDatasetUrn(record.get("urn").asString())));
+    }
+  }
+
+  @Nonnull
+  private static DatasetUrn toDatasetUrn(@Nonnull String urn) {
+    try {
+      return DatasetUrn.createFromString(urn);
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException("Invalid downstream dataset urn: " + urn, e);
+    }
+  }
+
   @Nonnull
   private DatasetUrn getUrn(@PathKeysParam @Nonnull PathKeys keys) {
     DatasetKey key = keys.<ComplexResourceKey<DatasetKey, EmptyRecord>>get(DATASET_KEY).getKey();
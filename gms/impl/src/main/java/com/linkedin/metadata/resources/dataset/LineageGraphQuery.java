@@ -0,0 +1,237 @@
+package com.linkedin.metadata.resources.dataset;
+
+import com.linkedin.common.DatasetUrnArray;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.LineageDirection;
+import com.linkedin.dataset.LineageEdge;
+import com.linkedin.dataset.LineageEdgeArray;
+import com.linkedin.dataset.LineageGraph;
+import com.linkedin.metadata.entity.DatasetEntity;
+import com.linkedin.metadata.relationship.DownstreamOf;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+
+
+/**
+ * Traverses {@link DownstreamOf} relationships from a dataset breadth-first, one hop at a time.
+ *
+ * <p>Each hop expands the datasets first reached by the previous hop, so the work done by Neo4j grows with the number of
+ * datasets and relationships within reach rather than with the number of paths. The relationships of a hop are read
+ * in pages of bounded size, ordered by their datasets, and a page of the graph stops before exceeding its dataset
+ * budget. The cursor of the next page is the hop being expanded and the number of its relationships already returned;
+ * the datasets reached by earlier hops are found again when resuming, without reading their relationships.
+ */
+final class LineageGraphQuery {
+
+  private static final String DATASET_LABEL = DatasetEntity.class.getCanonicalName();
+  private static final String DOWNSTREAM_OF_TYPE = DownstreamOf.class.getCanonicalName();
+
+  // DownstreamOf relationships point from the downstream dataset to the upstream dataset.
+  private static final String EXPAND_QUERY_TEMPLATE = "MATCH (from:`%1$s`)%3$s[:`%2$s`]%4$s(to:`%1$s`) "
+      + "WHERE from.urn IN $frontier "
+      + "RETURN DISTINCT to.urn AS urn";
+  private static final String EDGES_QUERY_TEMPLATE = "MATCH (from:`%1$s`)%3$s[r:`%2$s`]%4$s(:`%1$s`) "
+      + "WHERE from.urn IN $frontier "
+      + "RETURN startNode(r).urn AS downstream, endNode(r).urn AS upstream, r.type AS type "
+      + "ORDER BY downstream, upstream "
+      + "SKIP $offset LIMIT $limit";
+
+  private final Driver _driver;
+
+  LineageGraphQuery(@Nonnull Driver driver) {
+    _driver = driver;
+  }
+
+  /**
+   * Position of a page in the traversal.
+   */
+  static final class Cursor {
+
+    static final Cursor FIRST = new Cursor(1, 0);
+
+    private final int _hop;
+    private final int _offset;
+
+    Cursor(int hop, int offset) {
+      _hop = hop;
+      _offset = offset;
+    }
+
+    /**
+     * Parses the cursor returned by a previous page, {@link #FIRST} if absent.
+     *
+     * @throws IllegalArgumentException if the cursor is not a valid cursor
+     */
+    @Nonnull
+    static Cursor parse(@Nullable String cursor) {
+      if (cursor == null) {
+        return FIRST;
+      }
+      final String[] parts = cursor.split(":", -1);
+      if (parts.length == 2) {
+        try {
+          final int hop = Integer.parseInt(parts[0]);
+          final int offset = Integer.parseInt(parts[1]);
+          if (hop >= 1 && offset >= 0) {
+            return new Cursor(hop, offset);
+          }
+        } catch (NumberFormatException e) {
+          // fall through
+        }
+      }
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    @Override
+    public String toString() {
+      return _hop + ":" + _offset;
+    }
+  }
+
+  /**
+   * Gets a page of the lineage graph of a dataset.
+   *
+   * @param urn the dataset to start from
+   * @param direction the direction to traverse
+   * @param maxHops maximum number of hops from {@code urn}
+   * @param maxDatasets maximum number of datasets, other than {@code urn}, in the page
+   * @param cursor position of the page in the traversal
+   */
+  @Nonnull
+  LineageGraph find(@Nonnull DatasetUrn urn, @Nonnull LineageDirection direction, int maxHops, int maxDatasets,
+      @Nonnull Cursor cursor) {
+    final boolean downstream = direction == LineageDirection.DOWNSTREAM;
+    final String expandQuery = formatQuery(EXPAND_QUERY_TEMPLATE, downstream);
+    final String edgesQuery = formatQuery(EDGES_QUERY_TEMPLATE, downstream);
+    // Relationships read at once; a page needs at least one more than its dataset budget to know it is full.
+    final int limit = maxDatasets + 1;
+
+    final Set<DatasetUrn> datasets = new LinkedHashSet<>();
+    final List<LineageEdge> edges = new ArrayList<>();
+    try (Session session = _driver.session()) {
+      final Set<String> visited = new HashSet<>(Collections.singleton(urn.toString()));
+      List<String> frontier = Collections.singletonList(urn.toString());
+      for (int hop = 1; hop < cursor._hop && !frontier.isEmpty(); hop++) {
+        frontier = expand(session, expandQuery, frontier, visited);
+      }
+
+      int hop = cursor._hop;
+      int offset = cursor._offset;
+      while (hop <= maxHops && !frontier.isEmpty()) {
+        final List<Record> records = run(session, edgesQuery, frontier, offset, limit);
+        for (Record record : records) {
+          final LineageEdge edge = toLineageEdge(record, hop);
+          final DatasetUrn reached = downstream ? edge.getDownstream() : edge.getUpstream();
+          if (!reached.equals(urn) && !datasets.contains(reached)) {
+            if (datasets.size() >= maxDatasets) {
+              return toLineageGraph(datasets, edges, new Cursor(hop, offset));
+            }
+            datasets.add(reached);
+          }
+          edges.add(edge);
+          offset++;
+        }
+        if (records.size() < limit) {
+          frontier = expand(session, expandQuery, frontier, visited);
+          hop++;
+          offset = 0;
+        }
+      }
+    }
+    return toLineageGraph(datasets, edges, null);
+  }
+
+  @Nonnull
+  private static String formatQuery(@Nonnull String template, boolean downstream) {
+    return String.format(template, DATASET_LABEL, DOWNSTREAM_OF_TYPE, downstream ? "<-" : "-", downstream ? "-" : "->");
+  }
+
+  /**
+   * Returns the datasets first reached from a frontier, marking them visited.
+   */
+  @Nonnull
+  private static List<String> expand(@Nonnull Session session, @Nonnull String expandQuery,
+      @Nonnull List<String> frontier, @Nonnull Set<String> visited) {
+    final List<String> next = new ArrayList<>();
+    for (Record record : session.run(expandQuery, Collections.singletonMap("frontier", frontier)).list()) {
+      final String reached = record.get("urn").asString();
+      if (visited.add(reached)) {
+        next.add(reached);
+      }
+    }
+    return next;
+  }
+
+  @Nonnull
+  private static List<Record> run(@Nonnull Session session, @Nonnull String edgesQuery, @Nonnull List<String> frontier,
+      int offset, int limit) {
+    final Map<String, Object> params = new HashMap<>();
+    params.put("frontier", frontier);
+    params.put("offset", offset);
+    params.put("limit", limit);
+    return session.run(edgesQuery, params).list();
+  }
+
+  @Nonnull
+  private static LineageGraph toLineageGraph(@Nonnull Set<DatasetUrn> datasets, @Nonnull List<LineageEdge> edges,
+      @Nullable Cursor nextCursor) {
+    final LineageGraph graph =
+        new LineageGraph().setDatasets(new DatasetUrnArray(datasets)).setEdges(new LineageEdgeArray(edges));
+    if (nextCursor != null) {
+      graph.setNextCursor(nextCursor.toString());
+    }
+    return graph;
+  }
+
+  @Nonnull
+  private static LineageEdge toLineageEdge(@Nonnull Record record, int hop) {
+    final LineageEdge edge = new LineageEdge()
+        .setDownstream(toDatasetUrn(record.get("downstream").asString()))
+        .setUpstream(toDatasetUrn(record.get("upstream").asString()))
+        .setHops(hop);
+    final Value type = record.get("type");
+    if (!type.isNull()) {
+      final DatasetLineageType lineageType = toLineageType(type.asString());
+      if (lineageType != null) {
+        edge.setType(lineageType);
+      }
+    }
+    return edge;
+  }
+
+  /**
+   * Returns the lineage type of a relationship, null if unknown to this version of the model.
+   */
+  @Nullable
+  private static DatasetLineageType toLineageType(@Nonnull String type) {
+    for (DatasetLineageType lineageType : DatasetLineageType.values()) {
+      if (lineageType != DatasetLineageType.$UNKNOWN && lineageType.name().equals(type)) {
+        return lineageType;
+      }
+    }
+    return null;
+  }
+
+  @Nonnull
+  private static DatasetUrn toDatasetUrn(@Nonnull String urn) {
+    try {
+      return DatasetUrn.createFromString(urn);
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException("Invalid dataset urn in lineage graph: " + urn, e);
+    }
+  }
+}
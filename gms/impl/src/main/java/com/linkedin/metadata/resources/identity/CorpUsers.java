@@ -14,9 +14,11 @@ import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.SearchResultMetadata;
 import com.linkedin.metadata.query.SortCriterion;
+import com.linkedin.metadata.resources.BatchIngestUtils;
 import com.linkedin.metadata.restli.BackfillResult;
 import com.linkedin.metadata.restli.BaseSearchableEntityResource;
 import com.linkedin.metadata.search.CorpUserInfoDocument;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
 import com.linkedin.metadata.snapshot.CorpUserSnapshot;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.ComplexResourceKey;
@@ -175,6 +177,13 @@ public final class CorpUsers extends BaseSearchableEntityResource<
     return super.ingest(snapshot);
   }
 
+  @Action(name = BatchIngestUtils.ACTION_BATCH_INGEST)
+  @Nonnull
+  public Task<BatchIngestResult> batchIngest(
+      @ActionParam(BatchIngestUtils.PARAM_SNAPSHOTS) @Nonnull CorpUserSnapshot[] snapshots) {
+    return BatchIngestUtils.batchIngest(snapshots, this::ingest);
+  }
+
   @Action(name = ACTION_GET_SNAPSHOT)
   @Override
   @Nonnull
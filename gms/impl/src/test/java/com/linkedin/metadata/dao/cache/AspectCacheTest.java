@@ -0,0 +1,138 @@
+package com.linkedin.metadata.dao.cache;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.dao.AspectKey;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.dao.BaseReadDAO.*;
+import static org.testng.Assert.*;
+
+
+public class AspectCacheTest {
+
+  private static final DatasetUrn FOO = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+  private static final DatasetUrn BAR = new DatasetUrn(new DataPlatformUrn("hive"), "bar", FabricType.PROD);
+  private static final AspectKey<DatasetUrn, Status> FOO_KEY = new AspectKey<>(Status.class, FOO, LATEST_VERSION);
+  private static final AspectKey<DatasetUrn, Status> BAR_KEY = new AspectKey<>(Status.class, BAR, LATEST_VERSION);
+
+  private final AtomicInteger _loads = new AtomicInteger();
+
+  @BeforeMethod
+  public void setup() {
+    _loads.set(0);
+  }
+
+  @Test
+  public void testGetAllCachesAspectsAndMissingAspects() {
+    AspectCache cache = new AspectCache(1024 * 1024, 0);
+
+    Map<AspectKey<DatasetUrn, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> first =
+        cache.getAll(ImmutableSet.of(FOO_KEY, BAR_KEY), loader(new Status().setRemoved(true)));
+    Map<AspectKey<DatasetUrn, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> second =
+        cache.getAll(ImmutableSet.of(FOO_KEY, BAR_KEY), loader(new Status().setRemoved(false)));
+
+    assertEquals(_loads.get(), 1);
+    assertEquals(first, second);
+    assertEquals(second.get(FOO_KEY), Optional.of(new Status().setRemoved(true)));
+    assertEquals(second.get(BAR_KEY), Optional.empty());
+    assertEquals(cache.getHitCount(), 2);
+    assertEquals(cache.getMissCount(), 2);
+    assertEquals(cache.getEntryCount(), 2);
+    assertTrue(cache.getWeightBytes() > 0);
+  }
+
+  @Test
+  public void testCachedAspectsAreCopied() {
+    AspectCache cache = new AspectCache(1024 * 1024, 0);
+    Status loaded = new Status().setRemoved(true);
+    cache.getAll(ImmutableSet.of(FOO_KEY), loader(loaded));
+
+    loaded.setRemoved(false);
+    Status cached = (Status) cache.getAll(ImmutableSet.of(FOO_KEY), loader(null)).get(FOO_KEY).get();
+    cached.setRemoved(false);
+
+    assertEquals(cache.getAll(ImmutableSet.of(FOO_KEY), loader(null)).get(FOO_KEY),
+        Optional.of(new Status().setRemoved(true)));
+  }
+
+  @Test
+  public void testInvalidate() {
+    AspectCache cache = new AspectCache(1024 * 1024, 0);
+    cache.getAll(ImmutableSet.of(FOO_KEY), loader(new Status().setRemoved(true)));
+
+    cache.invalidate(FOO, Status.class);
+
+    assertEquals(cache.getAll(ImmutableSet.of(FOO_KEY), loader(new Status().setRemoved(false))).get(FOO_KEY),
+        Optional.of(new Status().setRemoved(false)));
+    assertEquals(_loads.get(), 2);
+    assertEquals(cache.getInvalidationCount(), 1);
+  }
+
+  @Test
+  public void testInvalidationDuringLoadIsNotCached() {
+    AspectCache cache = new AspectCache(1024 * 1024, 0);
+
+    cache.getAll(ImmutableSet.of(FOO_KEY), keys -> {
+      // The aspect is written while the previous value is read
+      cache.invalidate(FOO, Status.class);
+      return loader(new Status().setRemoved(true)).apply(keys);
+    });
+
+    assertEquals(cache.getEntryCount(), 0);
+    assertEquals(cache.getAll(ImmutableSet.of(FOO_KEY), loader(new Status().setRemoved(false))).get(FOO_KEY),
+        Optional.of(new Status().setRemoved(false)));
+  }
+
+  @Test
+  public void testEvictsToStayUnderMaxWeight() {
+    AspectCache cache = new AspectCache(1000, 0);
+
+    for (int i = 0; i < 20; i++) {
+      DatasetUrn urn = new DatasetUrn(new DataPlatformUrn("hive"), "dataset" + i, FabricType.PROD);
+      cache.getAll(ImmutableSet.of(new AspectKey<>(Status.class, urn, LATEST_VERSION)),
+          loader(new Status().setRemoved(true)));
+    }
+
+    assertTrue(cache.getEvictionCount() > 0);
+    assertTrue(cache.getWeightBytes() <= 1000);
+  }
+
+  @Test
+  public void testDisabledCacheAlwaysLoads() {
+    AspectCache cache = new AspectCache(0, 0);
+
+    cache.getAll(ImmutableSet.of(FOO_KEY), loader(new Status().setRemoved(true)));
+    cache.getAll(ImmutableSet.of(FOO_KEY), loader(new Status().setRemoved(true)));
+
+    assertFalse(cache.isEnabled());
+    assertEquals(_loads.get(), 2);
+    assertEquals(cache.getEntryCount(), 0);
+  }
+
+  /**
+   * Loads the given aspect for {@link #FOO_KEY} and no aspect for any other key.
+   */
+  private Function<Set<AspectKey<DatasetUrn, ? extends RecordTemplate>>,
+      Map<AspectKey<DatasetUrn, ? extends RecordTemplate>, Optional<? extends RecordTemplate>>> loader(
+      Status fooStatus) {
+    return keys -> {
+      _loads.incrementAndGet();
+      ImmutableMap.Builder<AspectKey<DatasetUrn, ? extends RecordTemplate>, Optional<? extends RecordTemplate>>
+          builder = ImmutableMap.builder();
+      keys.forEach(key -> builder.put(key, key.equals(FOO_KEY) ? Optional.ofNullable(fooStatus) : Optional.empty()));
+      return builder.build();
+    };
+  }
+}
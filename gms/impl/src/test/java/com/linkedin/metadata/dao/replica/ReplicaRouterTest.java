@@ -0,0 +1,79 @@
+package com.linkedin.metadata.dao.replica;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import io.ebean.config.ServerConfig;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class ReplicaRouterTest {
+
+  private static final DatasetUrn FOO = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+  private static final DatasetUrn BAR = new DatasetUrn(new DataPlatformUrn("hive"), "bar", FabricType.PROD);
+
+  @Test
+  public void testDisabledRouterReadsFromPrimary() {
+    ReplicaRouter router = new ReplicaRouter();
+
+    assertFalse(router.isEnabled());
+    assertFalse(router.shouldReadFromReplica(FOO));
+    assertFalse(router.shouldReadFromReplica());
+  }
+
+  @Test
+  public void testReadsFromReplicaOnlyOnceLagIsChecked() {
+    ReplicaRouter router = new ReplicaRouter(new ServerConfig(), () -> 1L, 10, 60);
+
+    assertFalse(router.shouldReadFromReplica(FOO));
+
+    router.checkLag();
+
+    assertTrue(router.shouldReadFromReplica(FOO));
+    assertTrue(router.shouldReadFromReplica());
+    assertEquals(router.getLagSeconds(), 1);
+    assertEquals(router.getReplicaReadCount(), 2);
+    assertEquals(router.getPrimaryReadCount(), 1);
+  }
+
+  @Test
+  public void testFallsBackToPrimaryWhenReplicaIsBehind() {
+    long[] lagSeconds = {20};
+    ReplicaRouter router = new ReplicaRouter(new ServerConfig(), () -> lagSeconds[0], 10, 60);
+
+    router.checkLag();
+    assertFalse(router.isReplicaHealthy());
+    assertFalse(router.shouldReadFromReplica(FOO));
+
+    lagSeconds[0] = 0;
+    router.checkLag();
+    assertTrue(router.shouldReadFromReplica(FOO));
+  }
+
+  @Test
+  public void testFallsBackToPrimaryWhenLagIsUnknown() {
+    ReplicaRouter notReplicating = new ReplicaRouter(new ServerConfig(), () -> null, 10, 60);
+    notReplicating.checkLag();
+    assertFalse(notReplicating.isReplicaHealthy());
+
+    ReplicaRouter failing = new ReplicaRouter(new ServerConfig(), () -> {
+      throw new IllegalStateException("Cannot connect");
+    }, 10, 60);
+    failing.checkLag();
+    assertFalse(failing.isReplicaHealthy());
+    assertEquals(failing.getLagSeconds(), -1);
+  }
+
+  @Test
+  public void testReadsRecentlyWrittenEntitiesFromPrimary() {
+    ReplicaRouter router = new ReplicaRouter(new ServerConfig(), () -> 0L, 10, 60);
+    router.checkLag();
+
+    router.recordWrite(FOO);
+
+    assertFalse(router.shouldReadFromReplica(FOO));
+    assertTrue(router.shouldReadFromReplica(BAR));
+  }
+}
@@ -0,0 +1,58 @@
+package com.linkedin.metadata.resources;
+
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.Status;
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.transform.filter.request.MaskCreator;
+import com.linkedin.data.transform.filter.request.MaskTree;
+import com.linkedin.dataset.Dataset;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.resources.ProjectionUtils.*;
+import static org.testng.Assert.*;
+
+
+public class ProjectionUtilsTest {
+
+  private static final RecordDataSchema SCHEMA = new Dataset().schema();
+  private static final Map<String, Class<? extends RecordTemplate>> ASPECTS_BY_FIELD = ImmutableMap.of(
+      "ownership", Ownership.class,
+      "schemaMetadata", SchemaMetadata.class,
+      "status", Status.class,
+      "removed", Status.class);
+
+  @Test
+  public void testNoProjectionNeedsAllAspects() {
+    assertNull(getProjectedAspectNames(null, SCHEMA, ASPECTS_BY_FIELD));
+    assertNull(getProjectedAspectNames(new MaskTree(), SCHEMA, ASPECTS_BY_FIELD));
+  }
+
+  @Test
+  public void testProjectedFieldsNeedTheirAspects() {
+    MaskTree projection = MaskCreator.createPositiveMask(Dataset.fields().name(), Dataset.fields().status(),
+        Dataset.fields().removed(), Dataset.fields().ownership().owners());
+
+    assertEquals(getProjectedAspectNames(projection, SCHEMA, ASPECTS_BY_FIELD),
+        new String[]{Ownership.class.getName(), Status.class.getName()});
+  }
+
+  @Test
+  public void testFieldsNotBuiltFromAspectsNeedNoAspect() {
+    MaskTree projection = MaskCreator.createPositiveMask(Dataset.fields().platform(), Dataset.fields().name());
+
+    assertEquals(getProjectedAspectNames(projection, SCHEMA, ASPECTS_BY_FIELD), new String[0]);
+  }
+
+  @Test
+  public void testExcludedOrUnknownFieldsNeedAllAspects() {
+    assertNull(getProjectedAspectNames(MaskCreator.createNegativeMask(Dataset.fields().schemaMetadata()), SCHEMA,
+        ASPECTS_BY_FIELD));
+    assertNull(getProjectedAspectNames(MaskCreator.createPositiveMask(Dataset.fields().name(),
+        new PathSpec("unknown")), SCHEMA, ASPECTS_BY_FIELD));
+  }
+}
@@ -0,0 +1,103 @@
+package com.linkedin.metadata.resources;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.dao.AspectKey;
+import com.linkedin.metadata.dao.BaseLocalDAO;
+import com.linkedin.metadata.dao.cache.CachingEbeanLocalDAO;
+import com.linkedin.metadata.query.IndexFilter;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.util.Optional;
+import java.util.Set;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.dao.BaseReadDAO.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class SnapshotExportUtilsTest {
+
+  private static final DatasetUrn FOO = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+  private static final DatasetUrn BAR = new DatasetUrn(new DataPlatformUrn("hive"), "bar", FabricType.PROD);
+  private static final IndexFilter FILTER = SnapshotExportUtils.getDefaultIndexFilter(DatasetUrn.class);
+  private static final Set<Class<? extends RecordTemplate>> ASPECTS = ImmutableSet.of(Status.class);
+
+  private BaseLocalDAO<DatasetAspect, DatasetUrn> _localDAO;
+
+  @BeforeMethod
+  public void setup() {
+    _localDAO = mock(BaseLocalDAO.class);
+    when(_localDAO.get(anySet())).thenReturn(ImmutableMap.of(
+        new AspectKey<>(Status.class, FOO, LATEST_VERSION), Optional.of(new Status().setRemoved(false)),
+        new AspectKey<>(Status.class, BAR, LATEST_VERSION), Optional.empty()));
+  }
+
+  @Test
+  public void testExportsEntitiesWithAspects() {
+    when(_localDAO.listUrns(FILTER, null, 2)).thenReturn(ImmutableList.of(FOO, BAR));
+
+    SnapshotExportUtils.Chunk<DatasetUrn, DatasetSnapshot> chunk = SnapshotExportUtils.exportSnapshots(_localDAO,
+        DatasetSnapshot.class, DatasetAspect.class, FILTER, ASPECTS, null, 2);
+
+    assertEquals(chunk.getSnapshots().size(), 1);
+    assertEquals(chunk.getSnapshots().get(0).getUrn(), FOO);
+    assertEquals(chunk.getSnapshots().get(0).getAspects().get(0).getStatus(), new Status().setRemoved(false));
+    assertEquals(chunk.getLastUrn(), BAR);
+  }
+
+  @Test
+  public void testLastChunkHasNoLastUrn() {
+    when(_localDAO.listUrns(FILTER, BAR, 10)).thenReturn(ImmutableList.of(FOO));
+
+    SnapshotExportUtils.Chunk<DatasetUrn, DatasetSnapshot> chunk = SnapshotExportUtils.exportSnapshots(_localDAO,
+        DatasetSnapshot.class, DatasetAspect.class, FILTER, ASPECTS, BAR, 10);
+
+    assertEquals(chunk.getSnapshots().size(), 1);
+    assertNull(chunk.getLastUrn());
+  }
+
+  @Test(expectedExceptions = RestLiServiceException.class)
+  public void testRejectsTooLargeChunks() {
+    SnapshotExportUtils.exportSnapshots(_localDAO, DatasetSnapshot.class, DatasetAspect.class, FILTER, ASPECTS, null,
+        SnapshotExportUtils.MAX_EXPORT_COUNT + 1);
+  }
+
+  @Test
+  public void testRejectsDisabledLocalSecondaryIndex() {
+    CachingEbeanLocalDAO<DatasetAspect, DatasetUrn> localDAO = mock(CachingEbeanLocalDAO.class);
+    when(localDAO.hasLocalSecondaryIndex()).thenReturn(false);
+
+    try {
+      SnapshotExportUtils.exportSnapshots(localDAO, DatasetSnapshot.class, DatasetAspect.class, FILTER, ASPECTS, null,
+          10);
+      fail("Export should have been rejected");
+    } catch (RestLiServiceException e) {
+      assertEquals(e.getStatus(), HttpStatus.S_501_NOT_IMPLEMENTED);
+    }
+    verify(localDAO, never()).listUrns(any(), any(), anyInt());
+  }
+
+  @Test
+  public void testParsesAspectNames() {
+    assertEquals(SnapshotExportUtils.parseAspectNames(DatasetAspect.class, new String[]{Ownership.class.getName()}),
+        ImmutableSet.of(Ownership.class));
+    assertTrue(SnapshotExportUtils.parseAspectNames(DatasetAspect.class, null).contains(Status.class));
+  }
+
+  @Test(expectedExceptions = RestLiServiceException.class)
+  public void testRejectsUnknownAspectNames() {
+    SnapshotExportUtils.parseAspectNames(DatasetAspect.class, new String[]{"com.linkedin.common.Unknown"});
+  }
+}
@@ -0,0 +1,204 @@
+package com.linkedin.metadata.resources.dataset;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.LineageDirection;
+import com.linkedin.dataset.LineageEdge;
+import com.linkedin.dataset.LineageGraph;
+import com.linkedin.metadata.entity.DatasetEntity;
+import com.linkedin.metadata.relationship.DownstreamOf;
+import com.linkedin.metadata.utils.Neo4jTestServerBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class LineageGraphQueryTest {
+
+  private static final DatasetUrn A = makeUrn("a");
+  private static final DatasetUrn B = makeUrn("b");
+  private static final DatasetUrn C = makeUrn("c");
+  private static final DatasetUrn D = makeUrn("d");
+  private static final DatasetUrn E = makeUrn("e");
+  private static final DatasetUrn F = makeUrn("f");
+
+  private Neo4jTestServerBuilder _serverBuilder;
+  private Driver _driver;
+  private LineageGraphQuery _query;
+
+  @BeforeMethod
+  public void init() {
+    _serverBuilder = new Neo4jTestServerBuilder();
+    _serverBuilder.newServer();
+    _driver = GraphDatabase.driver(_serverBuilder.boltURI());
+    _query = new LineageGraphQuery(_driver);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    _driver.close();
+    _serverBuilder.shutdown();
+  }
+
+  @Test
+  public void testParsesCursor() {
+    assertSame(LineageGraphQuery.Cursor.parse(null), LineageGraphQuery.Cursor.FIRST);
+    assertEquals(LineageGraphQuery.Cursor.parse("2:150").toString(), "2:150");
+    assertEquals(new LineageGraphQuery.Cursor(3, 0).toString(), "3:0");
+  }
+
+  @Test
+  public void testRejectsInvalidCursors() {
+    for (String cursor : new String[]{"", "150", "0:0", "1:-1", "1:a", "1:2:3"}) {
+      try {
+        LineageGraphQuery.Cursor.parse(cursor);
+        fail("Parsed invalid cursor " + cursor);
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void testFindsDownstreamAcrossHops() {
+    // c -> b -> a, d -> a
+    addDownstreamOf(B, A, "TRANSFORMED");
+    addDownstreamOf(C, B, "COPY");
+    addDownstreamOf(D, A, null);
+
+    LineageGraph graph = _query.find(A, LineageDirection.DOWNSTREAM, 3, 10, LineageGraphQuery.Cursor.FIRST);
+
+    assertEquals(graph.getDatasets(), Arrays.asList(B, D, C));
+    assertEquals(graph.getEdges(), Arrays.asList(
+        edge(B, A, 1, DatasetLineageType.TRANSFORMED),
+        edge(D, A, 1, null),
+        edge(C, B, 2, DatasetLineageType.COPY)));
+    assertFalse(graph.hasNextCursor());
+  }
+
+  @Test
+  public void testFindsUpstreamAcrossHops() {
+    addDownstreamOf(B, A, "TRANSFORMED");
+    addDownstreamOf(C, B, "COPY");
+    addDownstreamOf(D, A, null);
+
+    LineageGraph graph = _query.find(C, LineageDirection.UPSTREAM, 3, 10, LineageGraphQuery.Cursor.FIRST);
+
+    assertEquals(graph.getDatasets(), Arrays.asList(B, A));
+    assertEquals(graph.getEdges(), Arrays.asList(
+        edge(C, B, 1, DatasetLineageType.COPY),
+        edge(B, A, 2, DatasetLineageType.TRANSFORMED)));
+    assertFalse(graph.hasNextCursor());
+  }
+
+  @Test
+  public void testStopsAtMaxHops() {
+    addDownstreamOf(B, A, null);
+    addDownstreamOf(C, B, null);
+
+    LineageGraph graph = _query.find(A, LineageDirection.DOWNSTREAM, 1, 10, LineageGraphQuery.Cursor.FIRST);
+
+    assertEquals(graph.getDatasets(), Arrays.asList(B));
+    assertEquals(graph.getEdges(), Arrays.asList(edge(B, A, 1, null)));
+    assertFalse(graph.hasNextCursor());
+  }
+
+  @Test
+  public void testTraversesCycleOnce() {
+    // a -> c -> b -> a
+    addDownstreamOf(B, A, null);
+    addDownstreamOf(C, B, null);
+    addDownstreamOf(A, C, null);
+
+    LineageGraph graph = _query.find(A, LineageDirection.DOWNSTREAM, 10, 10, LineageGraphQuery.Cursor.FIRST);
+
+    assertEquals(graph.getDatasets(), Arrays.asList(B, C));
+    assertEquals(graph.getEdges(), Arrays.asList(edge(B, A, 1, null), edge(C, B, 2, null), edge(A, C, 3, null)));
+    assertFalse(graph.hasNextCursor());
+  }
+
+  @Test
+  public void testResumesPageEndingMidHop() {
+    // b, c, d, e -> a and f -> b
+    addDownstreamOf(B, A, null);
+    addDownstreamOf(C, A, null);
+    addDownstreamOf(D, A, null);
+    addDownstreamOf(E, A, null);
+    addDownstreamOf(F, B, null);
+
+    LineageGraph first = _query.find(A, LineageDirection.DOWNSTREAM, 3, 2, LineageGraphQuery.Cursor.FIRST);
+    assertEquals(first.getDatasets(), Arrays.asList(B, C));
+    assertEquals(first.getNextCursor(), "1:2");
+
+    LineageGraph second =
+        _query.find(A, LineageDirection.DOWNSTREAM, 3, 2, LineageGraphQuery.Cursor.parse(first.getNextCursor()));
+    assertEquals(second.getDatasets(), Arrays.asList(D, E));
+    assertEquals(second.getNextCursor(), "2:0");
+
+    LineageGraph third =
+        _query.find(A, LineageDirection.DOWNSTREAM, 3, 2, LineageGraphQuery.Cursor.parse(second.getNextCursor()));
+    assertEquals(third.getDatasets(), Arrays.asList(F));
+    assertFalse(third.hasNextCursor());
+
+    List<LineageEdge> edges = new ArrayList<>();
+    for (LineageGraph page : Arrays.asList(first, second, third)) {
+      edges.addAll(page.getEdges());
+    }
+    assertEquals(edges, Arrays.asList(edge(B, A, 1, null), edge(C, A, 1, null), edge(D, A, 1, null),
+        edge(E, A, 1, null), edge(F, B, 2, null)));
+    Set<LineageEdge> distinct = new HashSet<>(edges);
+    assertEquals(distinct.size(), edges.size());
+  }
+
+  @Test
+  public void testLeavesUnknownTypeAbsent() {
+    addDownstreamOf(B, A, "NOT_A_LINEAGE_TYPE");
+
+    LineageGraph graph = _query.find(A, LineageDirection.DOWNSTREAM, 1, 10, LineageGraphQuery.Cursor.FIRST);
+
+    assertEquals(graph.getEdges(), Arrays.asList(edge(B, A, 1, null)));
+  }
+
+  private void addDownstreamOf(@Nonnull DatasetUrn downstream, @Nonnull DatasetUrn upstream, @Nullable String type) {
+    final String label = DatasetEntity.class.getCanonicalName();
+    final Map<String, Object> params = new HashMap<>();
+    params.put("downstream", downstream.toString());
+    params.put("upstream", upstream.toString());
+    params.put("type", type);
+    try (Session session = _driver.session()) {
+      session.run(String.format("MERGE (d:`%1$s` {urn: $downstream}) MERGE (u:`%1$s` {urn: $upstream}) "
+          + "CREATE (d)-[:`%2$s` {type: $type}]->(u)", label, DownstreamOf.class.getCanonicalName()), params).consume();
+    }
+  }
+
+  @Nonnull
+  private static LineageEdge edge(@Nonnull DatasetUrn downstream, @Nonnull DatasetUrn upstream, int hops,
+      @Nullable DatasetLineageType type) {
+    final LineageEdge edge = new LineageEdge().setDownstream(downstream).setUpstream(upstream).setHops(hops);
+    if (type != null) {
+      edge.setType(type);
+    }
+    return edge;
+  }
+
+  @Nonnull
+  private static DatasetUrn makeUrn(@Nonnull String name) {
+    return new DatasetUrn(new DataPlatformUrn("hdfs"), name, FabricType.PROD);
+  }
+}
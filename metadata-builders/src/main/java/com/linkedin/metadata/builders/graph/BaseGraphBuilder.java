@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 
 public abstract class BaseGraphBuilder<SNAPSHOT extends RecordTemplate> implements GraphBuilder<SNAPSHOT> {
@@ -38,17 +39,29 @@ public abstract class BaseGraphBuilder<SNAPSHOT extends RecordTemplate> implemen
   @Nonnull
   @Override
   public GraphUpdates build(@Nonnull SNAPSHOT snapshot) {
+    return build(snapshot, null);
+  }
+
+  @Nonnull
+  @Override
+  public GraphUpdates build(@Nonnull SNAPSHOT snapshot, @Nullable SNAPSHOT oldSnapshot) {
     final Urn urn = RecordUtils.getRecordTemplateField(snapshot, "urn", Urn.class);
 
     final List<? extends RecordTemplate> entities = buildEntities(snapshot);
 
     final List<RelationshipUpdates> relationshipUpdates = new ArrayList<>();
 
+    final Map<Class<? extends RecordTemplate>, RecordTemplate> oldAspects = oldSnapshot == null
+        ? Collections.emptyMap()
+        : ModelUtils.getAspectsFromSnapshot(oldSnapshot).stream()
+            .collect(Collectors.toMap(RecordTemplate::getClass, Function.identity(), (first, second) -> second));
+
     final List<RecordTemplate> aspects = ModelUtils.getAspectsFromSnapshot(snapshot);
     for (RecordTemplate aspect : aspects) {
       BaseRelationshipBuilder relationshipBuilder = _relationshipBuildersMap.get(aspect.getClass());
       if (relationshipBuilder != null) {
-        relationshipUpdates.addAll(relationshipBuilder.buildRelationships(urn, aspect));
+        relationshipUpdates.addAll(
+            relationshipBuilder.buildRelationshipUpdates(urn, oldAspects.get(aspect.getClass()), aspect));
       }
     }
 
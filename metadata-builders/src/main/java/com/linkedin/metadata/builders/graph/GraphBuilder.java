@@ -2,8 +2,11 @@ package com.linkedin.metadata.builders.graph;
 
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.dao.internal.BaseGraphWriterDAO;
+import java.util.Collections;
 import java.util.List;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.Value;
 
@@ -13,6 +16,15 @@ public interface GraphBuilder<SNAPSHOT extends RecordTemplate> {
   @Nonnull
   GraphUpdates build(@Nonnull SNAPSHOT snapshot);
 
+  /**
+   * Similar to {@link #build(RecordTemplate)} but only returns the relationship changes between the aspects of the old
+   * and the new snapshot, for the aspects present in both.
+   */
+  @Nonnull
+  default GraphUpdates build(@Nonnull SNAPSHOT snapshot, @Nullable SNAPSHOT oldSnapshot) {
+    return build(snapshot);
+  }
+
   @Value
   class GraphUpdates {
 
@@ -24,6 +36,7 @@ public interface GraphBuilder<SNAPSHOT extends RecordTemplate> {
   }
 
   @Value
+  @AllArgsConstructor
   class RelationshipUpdates {
 
     @NonNull
@@ -31,5 +44,16 @@ public interface GraphBuilder<SNAPSHOT extends RecordTemplate> {
 
     @NonNull
     BaseGraphWriterDAO.RemovalOption preUpdateOperation;
+
+    /**
+     * Relationships to remove before adding {@link #relationships}.
+     */
+    @NonNull
+    List<? extends RecordTemplate> removedRelationships;
+
+    public RelationshipUpdates(@NonNull List<? extends RecordTemplate> relationships,
+        @NonNull BaseGraphWriterDAO.RemovalOption preUpdateOperation) {
+      this(relationships, preUpdateOperation, Collections.emptyList());
+    }
   }
 }
@@ -3,8 +3,17 @@ package com.linkedin.metadata.builders.graph.relationship;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.builders.graph.GraphBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.linkedin.metadata.dao.internal.BaseGraphWriterDAO.RemovalOption.*;
 
 
 public abstract class BaseRelationshipBuilder<ASPECT extends RecordTemplate> {
@@ -29,4 +38,69 @@ public abstract class BaseRelationshipBuilder<ASPECT extends RecordTemplate> {
   @Nonnull
   public abstract <URN extends Urn> List<GraphBuilder.RelationshipUpdates> buildRelationships(@Nonnull URN urn,
       @Nonnull ASPECT aspect);
+
+  /**
+   * Returns the relationship updates needed to go from the relationships of the old value of an aspect to those of its
+   * new value.
+   *
+   * <p>When every update built by {@link #buildRelationships(Urn, RecordTemplate)} replaces all the edges from the
+   * source, only the relationships that were added or removed are returned, so that unchanged edges are left untouched.
+   * Otherwise, or if there is no old value, this returns the same updates as
+   * {@link #buildRelationships(Urn, RecordTemplate)}.
+   *
+   * @param urn urn of the entity the aspect belongs to
+   * @param oldAspect value of the aspect before the change, if known
+   * @param newAspect value of the aspect after the change
+   */
+  @Nonnull
+  public <URN extends Urn> List<GraphBuilder.RelationshipUpdates> buildRelationshipUpdates(@Nonnull URN urn,
+      @Nullable ASPECT oldAspect, @Nonnull ASPECT newAspect) {
+    final List<GraphBuilder.RelationshipUpdates> newUpdates = buildRelationships(urn, newAspect);
+    if (oldAspect == null) {
+      return newUpdates;
+    }
+    final List<GraphBuilder.RelationshipUpdates> oldUpdates = buildRelationships(urn, oldAspect);
+    if (!replacesAllEdgesFromSource(oldUpdates) || !replacesAllEdgesFromSource(newUpdates)) {
+      return newUpdates;
+    }
+
+    final Set<RecordTemplate> oldRelationships = collectRelationships(oldUpdates);
+    final Set<RecordTemplate> newRelationships = collectRelationships(newUpdates);
+
+    // Grouped by relationship type, as the graph writer handles one type per call
+    final Map<Class<?>, List<RecordTemplate>> added = new LinkedHashMap<>();
+    final Map<Class<?>, List<RecordTemplate>> removed = new LinkedHashMap<>();
+    for (RecordTemplate relationship : newRelationships) {
+      if (!oldRelationships.contains(relationship)) {
+        added.computeIfAbsent(relationship.getClass(), type -> new ArrayList<>()).add(relationship);
+      }
+    }
+    for (RecordTemplate relationship : oldRelationships) {
+      if (!newRelationships.contains(relationship)) {
+        removed.computeIfAbsent(relationship.getClass(), type -> new ArrayList<>()).add(relationship);
+      }
+    }
+
+    final Set<Class<?>> types = new LinkedHashSet<>(removed.keySet());
+    types.addAll(added.keySet());
+    final List<GraphBuilder.RelationshipUpdates> updates = new ArrayList<>(types.size());
+    for (Class<?> type : types) {
+      updates.add(new GraphBuilder.RelationshipUpdates(added.getOrDefault(type, Collections.emptyList()), NONE,
+          removed.getOrDefault(type, Collections.emptyList())));
+    }
+    return updates;
+  }
+
+  private static boolean replacesAllEdgesFromSource(@Nonnull List<GraphBuilder.RelationshipUpdates> updates) {
+    return updates.stream()
+        .allMatch(update -> update.getPreUpdateOperation() == REMOVE_ALL_EDGES_FROM_SOURCE
+            && update.getRemovedRelationships().isEmpty());
+  }
+
+  @Nonnull
+  private static Set<RecordTemplate> collectRelationships(@Nonnull List<GraphBuilder.RelationshipUpdates> updates) {
+    final Set<RecordTemplate> relationships = new LinkedHashSet<>();
+    updates.forEach(update -> relationships.addAll(update.getRelationships()));
+    return relationships;
+  }
 }
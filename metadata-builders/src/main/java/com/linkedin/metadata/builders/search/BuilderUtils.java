@@ -8,8 +8,14 @@ import com.linkedin.common.Ownership;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
+import com.linkedin.util.Pair;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +30,8 @@ public final class BuilderUtils {
 
   public static final String BROWSE_HIEARCHY_SEPARATOR = "/";
 
+  private static final String URN_FIELD = "urn";
+
   private BuilderUtils() {
     // Util class should not have public constructor
   }
@@ -96,4 +104,27 @@ public final class BuilderUtils {
         .map(DatasetUrn::getDatasetNameEntity)
         .collect(Collectors.toCollection(StringArray::new));
   }
+
+  /**
+   * Merges partial documents of the same type and urn into a single document
+   *
+   * <p>Fields of later documents take precedence over the same fields of earlier ones, which matches the result of
+   * upserting the partial documents one after another. The first document of each type and urn is updated in place
+   * and the returned list preserves the order in which each type and urn was first seen.
+   *
+   * @param documents list of partial documents, each of which has an urn field
+   * @return list of merged documents containing one document per type and urn
+   */
+  @Nonnull
+  public static <DOCUMENT extends RecordTemplate> List<DOCUMENT> mergeDocuments(@Nonnull List<DOCUMENT> documents) {
+    final Map<Pair<Class<?>, Object>, DOCUMENT> mergedDocuments = new LinkedHashMap<>();
+    for (DOCUMENT document : documents) {
+      final Pair<Class<?>, Object> key = new Pair<>(document.getClass(), document.data().get(URN_FIELD));
+      final DOCUMENT mergedDocument = mergedDocuments.putIfAbsent(key, document);
+      if (mergedDocument != null) {
+        mergedDocument.data().putAll(document.data());
+      }
+    }
+    return new ArrayList<>(mergedDocuments.values());
+  }
 }
@@ -2,15 +2,20 @@ package com.linkedin.metadata.builders.search;
 
 import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
-import com.linkedin.metadata.dao.utils.ModelUtils;
 import com.linkedin.metadata.snapshot.Snapshot;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -25,23 +30,59 @@ public final class SnapshotProcessor {
    */
   private final Map<String, List<BaseIndexBuilder<?>>> _snapshotTypeToIndexBuilders;
 
+  /**
+   * Mapping of metadata snapshot type to the constructor used to wrap its data map, resolved once per type.
+   */
+  private final Map<String, Constructor<? extends RecordTemplate>> _snapshotTypeToConstructor;
+
+  /**
+   * Executor running the index builders subscribed to the same snapshot type in parallel, null to run them in the
+   * calling thread.
+   */
+  private final ExecutorService _builderExecutor;
+
   /**
    * Constructor.
    *
    * @param builders Set of document index builders who are interested in parsing metadata snapshot
    */
   public SnapshotProcessor(@Nonnull Set<? extends BaseIndexBuilder> builders) {
+    this(builders, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param builders Set of document index builders who are interested in parsing metadata snapshot
+   * @param builderExecutor executor to run index builders subscribed to the same snapshot type in parallel, null to
+   *                        run them one after the other in the calling thread
+   */
+  public SnapshotProcessor(@Nonnull Set<? extends BaseIndexBuilder> builders,
+      @Nullable ExecutorService builderExecutor) {
     _snapshotTypeToIndexBuilders = new HashMap<>();
+    _snapshotTypeToConstructor = new HashMap<>();
+    _builderExecutor = builderExecutor;
 
     for (BaseIndexBuilder<?> builder : builders) {
       List<Class<? extends RecordTemplate>> snapshotsSubscribed = builder._snapshotsInterested;
       snapshotsSubscribed.forEach(snapshot -> {
         _snapshotTypeToIndexBuilders.putIfAbsent(snapshot.getName(), new ArrayList<>());
         _snapshotTypeToIndexBuilders.get(snapshot.getName()).add(builder);
+        _snapshotTypeToConstructor.computeIfAbsent(snapshot.getName(), name -> getDataMapConstructor(snapshot));
       });
     }
   }
 
+  @Nonnull
+  private static Constructor<? extends RecordTemplate> getDataMapConstructor(
+      @Nonnull Class<? extends RecordTemplate> snapshotClass) {
+    try {
+      return snapshotClass.getConstructor(DataMap.class);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException("Snapshot " + snapshotClass.getName() + " has no DataMap constructor", e);
+    }
+  }
+
   /**
    * Constructs documents to update from a snapshot.
    *
@@ -55,7 +96,12 @@ public final class SnapshotProcessor {
    * providing the list of snapshot types in function snapshotsInterested()
    *
    * <p>Each document index builder will parse relevant aspects from a metadata snapshot type it has subscribed to and
-   * return documents to update.
+   * return documents to update. The metadata snapshot is wrapped once and shared by all of these builders. When they
+   * run in parallel, the data map of the snapshot is made read-only and wrapped once per builder instead, as templates
+   * cache the fields they return and cannot be shared between threads.
+   *
+   * <p>Partial documents of the same type and urn are merged into a single document, so that each of them only needs
+   * to be written once.
    *
    * @param snapshot Snapshot from which the document needs to be parsed
    * @return List of documents
@@ -65,21 +111,62 @@ public final class SnapshotProcessor {
     final List<RecordTemplate> docsList = new ArrayList<>();
     final DataMap snapshotData = (DataMap) snapshot.data();
     for (String clazz : snapshotData.keySet()) {
-      Class<? extends RecordTemplate> snapshotClass = ModelUtils.getMetadataSnapshotClassFromName(clazz);
       if (!_snapshotTypeToIndexBuilders.containsKey(clazz)) {
         continue;
       }
-      final List<? extends BaseIndexBuilder<?>> builders = _snapshotTypeToIndexBuilders.get(clazz);
-      for (BaseIndexBuilder<?> builder : builders) {
-        try {
-          final Object obj = snapshotClass.getConstructor(DataMap.class).newInstance((DataMap) snapshotData.get(clazz));
-          List<? extends RecordTemplate> records = builder.getDocumentsToUpdate((RecordTemplate) obj);
-          docsList.addAll(records);
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-          log.error("Failed to get documents due to error ", e);
+      final Constructor<? extends RecordTemplate> constructor = _snapshotTypeToConstructor.get(clazz);
+      final DataMap dataMap = (DataMap) snapshotData.get(clazz);
+      final List<BaseIndexBuilder<?>> builders = _snapshotTypeToIndexBuilders.get(clazz);
+      try {
+        if (_builderExecutor != null && builders.size() > 1) {
+          docsList.addAll(getDocumentsToUpdateInParallel(builders, constructor, dataMap));
+        } else {
+          final RecordTemplate snapshotRecord = constructor.newInstance(dataMap);
+          for (BaseIndexBuilder<?> builder : builders) {
+            docsList.addAll(getDocumentsToUpdate(builder, snapshotRecord));
+          }
         }
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+        log.error("Failed to get documents due to error ", e);
       }
     }
+    return BuilderUtils.mergeDocuments(docsList);
+  }
+
+  @Nonnull
+  private List<RecordTemplate> getDocumentsToUpdateInParallel(@Nonnull List<BaseIndexBuilder<?>> builders,
+      @Nonnull Constructor<? extends RecordTemplate> constructor, @Nonnull DataMap dataMap)
+      throws InstantiationException, IllegalAccessException, InvocationTargetException {
+    dataMap.makeReadOnly();
+    final List<Future<List<? extends RecordTemplate>>> futures = new ArrayList<>(builders.size());
+    for (BaseIndexBuilder<?> builder : builders) {
+      final RecordTemplate snapshotRecord = constructor.newInstance(dataMap);
+      futures.add(_builderExecutor.submit(() -> getDocumentsToUpdate(builder, snapshotRecord)));
+    }
+
+    final List<RecordTemplate> docsList = new ArrayList<>();
+    try {
+      for (Future<List<? extends RecordTemplate>> future : futures) {
+        docsList.addAll(future.get());
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while building documents", e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Failed to build documents", e.getCause());
+    }
     return docsList;
   }
+
+  @Nonnull
+  private static List<? extends RecordTemplate> getDocumentsToUpdate(@Nonnull BaseIndexBuilder<?> builder,
+      @Nonnull RecordTemplate snapshot) {
+    final List<? extends RecordTemplate> records = builder.getDocumentsToUpdate(snapshot);
+    return records == null ? Collections.emptyList() : records;
+  }
 }
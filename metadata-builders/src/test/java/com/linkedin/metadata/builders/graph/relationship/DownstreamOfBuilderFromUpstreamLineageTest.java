@@ -9,6 +9,7 @@ import com.linkedin.metadata.builders.graph.GraphBuilder;
 import com.linkedin.metadata.dao.internal.BaseGraphWriterDAO;
 import com.linkedin.metadata.relationship.DownstreamOf;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import org.testng.annotations.Test;
 
@@ -43,6 +44,35 @@ public class DownstreamOfBuilderFromUpstreamLineageTest {
         BaseGraphWriterDAO.RemovalOption.REMOVE_ALL_EDGES_FROM_SOURCE);
   }
 
+  @Test
+  public void testBuildRelationshipUpdatesFromOldValue() {
+    DatasetUrn datasetSource = makeDatasetUrn("source");
+    DatasetUrn datasetDest1 = makeDatasetUrn("dest1");
+    DatasetUrn datasetDest2 = makeDatasetUrn("dest2");
+    DatasetUrn datasetDest3 = makeDatasetUrn("dest3");
+
+    Upstream upstream1 = new Upstream().setDataset(datasetDest1).setType(DatasetLineageType.TRANSFORMED);
+    Upstream upstream2 = new Upstream().setDataset(datasetDest2).setType(DatasetLineageType.COPY);
+    Upstream upstream3 = new Upstream().setDataset(datasetDest3).setType(DatasetLineageType.VIEW);
+    UpstreamLineage oldLineage = new UpstreamLineage().setUpstreams(new UpstreamArray(Arrays.asList(upstream1, upstream2)));
+    UpstreamLineage newLineage = new UpstreamLineage().setUpstreams(new UpstreamArray(Arrays.asList(upstream1, upstream3)));
+
+    List<GraphBuilder.RelationshipUpdates> operations =
+        new DownstreamOfBuilderFromUpstreamLineage().buildRelationshipUpdates(datasetSource, oldLineage, newLineage);
+
+    assertEquals(operations.size(), 1);
+    assertEquals(operations.get(0).getRelationships(),
+        Collections.singletonList(makeDownstreamOf(datasetSource, datasetDest3, DatasetLineageType.VIEW)));
+    assertEquals(operations.get(0).getRemovedRelationships(),
+        Collections.singletonList(makeDownstreamOf(datasetSource, datasetDest2, DatasetLineageType.COPY)));
+    assertEquals(operations.get(0).getPreUpdateOperation(), BaseGraphWriterDAO.RemovalOption.NONE);
+
+    // Nothing to write when the lineage did not change
+    assertEquals(new DownstreamOfBuilderFromUpstreamLineage().buildRelationshipUpdates(datasetSource, newLineage,
+        new UpstreamLineage().setUpstreams(new UpstreamArray(Arrays.asList(upstream1, upstream3)))),
+        Collections.emptyList());
+  }
+
   private DownstreamOf makeDownstreamOf(DatasetUrn source, DatasetUrn destination,
       DatasetLineageType type) {
     return new DownstreamOf()
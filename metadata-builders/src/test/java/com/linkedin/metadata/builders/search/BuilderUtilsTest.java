@@ -9,6 +9,8 @@ import com.linkedin.common.urn.CorpGroupUrn;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.DataPlatformUrn;
 import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.search.DatasetDocument;
 import java.util.Arrays;
 import java.util.List;
 import org.testng.annotations.Test;
@@ -37,4 +39,19 @@ public class BuilderUtilsTest {
     assertEquals(BuilderUtils.getDatasetNames(datasetUrns), Arrays.asList("testDataset1", "testDataset2"));
   }
 
+  @Test
+  public void testMergeDocuments() {
+    DatasetUrn urn1 = new DatasetUrn(new DataPlatformUrn("hdfs"), "testDataset1", FabricType.EI);
+    DatasetUrn urn2 = new DatasetUrn(new DataPlatformUrn("hdfs"), "testDataset2", FabricType.EI);
+    DatasetDocument doc1 = new DatasetDocument().setUrn(urn1).setDescription("foo");
+    DatasetDocument doc2 = new DatasetDocument().setUrn(urn2).setDeprecated(true);
+    DatasetDocument doc3 = new DatasetDocument().setUrn(urn1).setHasOwners(true).setOwners(new StringArray("t1"));
+    DatasetDocument doc4 = new DatasetDocument().setUrn(urn1).setDescription("bar");
+
+    List<DatasetDocument> mergedDocs = BuilderUtils.mergeDocuments(Arrays.asList(doc1, doc2, doc3, doc4));
+
+    assertEquals(mergedDocs, Arrays.asList(
+        new DatasetDocument().setUrn(urn1).setDescription("bar").setHasOwners(true).setOwners(new StringArray("t1")),
+        new DatasetDocument().setUrn(urn2).setDeprecated(true)));
+  }
 }
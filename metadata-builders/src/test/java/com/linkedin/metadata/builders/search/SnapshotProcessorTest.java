@@ -0,0 +1,64 @@
+package com.linkedin.metadata.builders.search;
+
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.search.DatasetDocument;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
+import com.linkedin.metadata.snapshot.Snapshot;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+public class SnapshotProcessorTest {
+  private final ExecutorService _executor = Executors.newFixedThreadPool(2);
+
+  @AfterClass
+  public void tearDown() {
+    _executor.shutdownNow();
+  }
+
+  @Test
+  public void parallelBuildersReturnSameDocuments() {
+    // given
+    final DatasetUrn datasetUrn = new DatasetUrn(new DataPlatformUrn("foo"), "bar", FabricType.PROD);
+    final DatasetDocument expectedDocument = new DatasetDocument().setUrn(datasetUrn)
+        .setDescription("baz")
+        .setRemoved(true)
+        .setBrowsePaths(new StringArray("/prod/foo/bar"))
+        .setOrigin(FabricType.PROD)
+        .setName("bar")
+        .setPlatform("foo");
+    final Set<DatasetIndexBuilder> builders = ImmutableSet.of(new DatasetIndexBuilder(), new DatasetIndexBuilder());
+
+    // when
+    final List<RecordTemplate> sequentialDocs =
+        new SnapshotProcessor(builders).getDocumentsToUpdate(makeSnapshot(datasetUrn));
+    final List<RecordTemplate> parallelDocs =
+        new SnapshotProcessor(builders, _executor).getDocumentsToUpdate(makeSnapshot(datasetUrn));
+
+    // then
+    assertThat(sequentialDocs).containsExactly(expectedDocument);
+    assertThat(parallelDocs).containsExactly(expectedDocument);
+  }
+
+  private static Snapshot makeSnapshot(DatasetUrn datasetUrn) {
+    return Snapshot.create(ModelUtils.newSnapshot(DatasetSnapshot.class, datasetUrn, Arrays.asList(
+        ModelUtils.newAspectUnion(DatasetAspect.class, new DatasetProperties().setDescription("baz")),
+        ModelUtils.newAspectUnion(DatasetAspect.class, new Status().setRemoved(true)))));
+  }
+}
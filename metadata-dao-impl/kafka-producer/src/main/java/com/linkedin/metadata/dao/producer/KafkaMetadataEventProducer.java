@@ -2,6 +2,9 @@ package com.linkedin.metadata.dao.producer;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.UnionTemplate;
 import com.linkedin.metadata.EventUtils;
@@ -16,13 +19,16 @@ import com.linkedin.mxe.TopicConvention;
 import com.linkedin.mxe.TopicConventionImpl;
 import com.linkedin.mxe.Topics;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
+import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.IndexedRecord;
@@ -42,6 +48,21 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 public class KafkaMetadataEventProducer<SNAPSHOT extends RecordTemplate, ASPECT_UNION extends UnionTemplate, URN extends Urn>
     extends BaseMetadataEventProducer<SNAPSHOT, ASPECT_UNION, URN> {
 
+  private static final String URN_FIELD = "urn";
+  private static final String NEW_VALUE_FIELD = "newValue";
+  private static final String OLD_VALUE_FIELD = "oldValue";
+
+  /**
+   * Topic names declared in {@link Topics}, keyed by the name of their field.
+   */
+  private static final Map<String, String> TOPIC_NAMES = getTopicNames();
+
+  /**
+   * Aspect specific MAE topics keyed by entity urn type and aspect type. Unregistered pairs map to empty.
+   */
+  private static final Map<Class<?>, Map<Class<?>, Optional<AspectSpecificTopic>>> ASPECT_SPECIFIC_TOPICS =
+      new ConcurrentHashMap<>();
+
   private final Producer<String, ? extends IndexedRecord> _producer;
   private final Optional<Callback> _callback;
   private final TopicConvention _topicConvention;
@@ -103,6 +124,19 @@ public class KafkaMetadataEventProducer<SNAPSHOT extends RecordTemplate, ASPECT_
     _topicConvention = topicConvention;
   }
 
+  @Nonnull
+  private static Map<String, String> getTopicNames() {
+    final Map<String, String> topicNames = new HashMap<>();
+    for (Field field : Topics.class.getFields()) {
+      try {
+        topicNames.put(field.getName(), (String) field.get(null));
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("Failed to read topic " + field.getName(), e);
+      }
+    }
+    return Collections.unmodifiableMap(topicNames);
+  }
+
   @Override
   public <ASPECT extends RecordTemplate> void produceSnapshotBasedMetadataChangeEvent(@Nonnull URN urn,
       @Nonnull ASPECT newValue) {
@@ -152,45 +186,63 @@ public class KafkaMetadataEventProducer<SNAPSHOT extends RecordTemplate, ASPECT_
   @Override
   public <ASPECT extends RecordTemplate> void produceAspectSpecificMetadataAuditEvent(@Nonnull URN urn,
       @Nullable ASPECT oldValue, @Nonnull ASPECT newValue) {
-    // TODO switch to convention once versions are annotated in the schema
-    final String topicKey = ModelUtils.getAspectSpecificMAETopicName(urn, newValue);
-    if (!isValidAspectSpecificTopic(topicKey)) {
+    final Optional<AspectSpecificTopic> aspectSpecificTopic = getAspectSpecificTopic(urn, newValue);
+    if (!aspectSpecificTopic.isPresent()) {
       log.warn("The event topic for entity {} and aspect {}, expected to be {}, has not been registered.",
-          urn.getClass().getCanonicalName(), newValue.getClass().getCanonicalName(), topicKey);
+          urn.getClass().getCanonicalName(), newValue.getClass().getCanonicalName(),
+          ModelUtils.getAspectSpecificMAETopicName(urn, newValue));
       return;
     }
 
-    String topic;
-    Class<? extends SpecificRecord> maeAvroClass;
-    RecordTemplate metadataAuditEvent;
-    try {
-      topic = (String) Topics.class.getField(topicKey).get(null);
-      maeAvroClass = Configs.TOPIC_SCHEMA_CLASS_MAP.get(topic);
-      metadataAuditEvent = (RecordTemplate) EventUtils.getPegasusClass(maeAvroClass).newInstance();
-
-      metadataAuditEvent.getClass().getMethod("setUrn", urn.getClass()).invoke(metadataAuditEvent, urn);
-      metadataAuditEvent.getClass().getMethod("setNewValue", newValue.getClass()).invoke(metadataAuditEvent, newValue);
-      if (oldValue != null) {
-        metadataAuditEvent.getClass()
-            .getMethod("setOldValue", oldValue.getClass())
-            .invoke(metadataAuditEvent, oldValue);
-      }
-    } catch (NoSuchFieldException | IllegalAccessException | ClassNotFoundException | NoSuchMethodException
-        | InstantiationException | InvocationTargetException e) {
-      throw new IllegalArgumentException("Failed to compose the Pegasus aspect specific MAE", e);
+    final AspectSpecificTopic topic = aspectSpecificTopic.get();
+    final DataMap metadataAuditEvent = new DataMap();
+    metadataAuditEvent.put(URN_FIELD, urn.toString());
+    metadataAuditEvent.put(NEW_VALUE_FIELD, newValue.data());
+    if (oldValue != null) {
+      metadataAuditEvent.put(OLD_VALUE_FIELD, oldValue.data());
     }
 
     GenericRecord record;
     try {
-      record = EventUtils.pegasusToAvroAspectSpecificMXE(maeAvroClass, metadataAuditEvent);
+      record = EventUtils.pegasusToAvroAspectSpecificMXE(topic.getAvroClass(), metadataAuditEvent,
+          topic.getPegasusSchema());
     } catch (NoSuchFieldException | IOException | IllegalAccessException e) {
       throw new ModelConversionException("Failed to convert Pegasus aspect specific MAE to Avro", e);
     }
 
     if (_callback.isPresent()) {
-      _producer.send(new ProducerRecord(topic, urn.toString(), record), _callback.get());
+      _producer.send(new ProducerRecord(topic.getTopic(), urn.toString(), record), _callback.get());
     } else {
-      _producer.send(new ProducerRecord(topic, urn.toString(), record));
+      _producer.send(new ProducerRecord(topic.getTopic(), urn.toString(), record));
+    }
+  }
+
+  /**
+   * Gets the aspect specific MAE topic registered for an entity and aspect, resolving it on first use.
+   */
+  @Nonnull
+  private static Optional<AspectSpecificTopic> getAspectSpecificTopic(@Nonnull Urn urn,
+      @Nonnull RecordTemplate aspect) {
+    return ASPECT_SPECIFIC_TOPICS.computeIfAbsent(urn.getClass(), key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(aspect.getClass(), key -> resolveAspectSpecificTopic(urn, aspect));
+  }
+
+  @Nonnull
+  private static Optional<AspectSpecificTopic> resolveAspectSpecificTopic(@Nonnull Urn urn,
+      @Nonnull RecordTemplate aspect) {
+    // TODO switch to convention once versions are annotated in the schema
+    final String topic = TOPIC_NAMES.get(ModelUtils.getAspectSpecificMAETopicName(urn, aspect));
+    if (topic == null) {
+      return Optional.empty();
+    }
+
+    final Class<? extends SpecificRecord> maeAvroClass = Configs.TOPIC_SCHEMA_CLASS_MAP.get(topic);
+    try {
+      final RecordDataSchema maePegasusSchema =
+          (RecordDataSchema) DataTemplateUtil.getSchema(EventUtils.getPegasusClass(maeAvroClass));
+      return Optional.of(new AspectSpecificTopic(topic, maeAvroClass, maePegasusSchema));
+    } catch (ClassNotFoundException e) {
+      throw new IllegalArgumentException("Failed to compose the Pegasus aspect specific MAE", e);
     }
   }
 
@@ -204,6 +256,16 @@ public class KafkaMetadataEventProducer<SNAPSHOT extends RecordTemplate, ASPECT_
 
   @VisibleForTesting
   static boolean isValidAspectSpecificTopic(@Nonnull String topic) {
-    return Arrays.stream(Topics.class.getFields()).anyMatch(field -> field.getName().equals(topic));
+    return TOPIC_NAMES.containsKey(topic);
+  }
+
+  /**
+   * Everything needed to emit an aspect specific MAE, resolved once per entity and aspect type.
+   */
+  @Value
+  private static class AspectSpecificTopic {
+    String topic;
+    Class<? extends SpecificRecord> avroClass;
+    RecordDataSchema pegasusSchema;
   }
 }
\ No newline at end of file
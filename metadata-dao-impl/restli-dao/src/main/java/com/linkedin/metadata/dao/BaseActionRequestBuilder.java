@@ -1,13 +1,17 @@
 package com.linkedin.metadata.dao;
 
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.DataList;
+import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.DynamicRecordMetadata;
 import com.linkedin.data.template.FieldDef;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
+import com.linkedin.data.template.WrappingArrayTemplate;
 import com.linkedin.metadata.aspect.AspectVersion;
 import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
 import com.linkedin.restli.client.ActionRequestBuilder;
 import com.linkedin.restli.client.Request;
 import com.linkedin.restli.client.RestliRequestOptions;
@@ -38,6 +42,9 @@ import static com.linkedin.metadata.restli.RestliConstants.*;
 public abstract class BaseActionRequestBuilder<SNAPSHOT extends RecordTemplate, URN extends Urn>
     extends BaseRequestBuilder<SNAPSHOT, URN> {
 
+  public static final String ACTION_BATCH_INGEST = "batchIngest";
+  public static final String PARAM_SNAPSHOTS = "snapshots";
+
   private final Class<SNAPSHOT> _snapshotClass;
   private final Class<URN> _urnClass;
   private final String _baseUriTemplate;
@@ -47,6 +54,9 @@ public abstract class BaseActionRequestBuilder<SNAPSHOT extends RecordTemplate,
   private final FieldDef<?> _aspectsFieldDef;
   private final FieldDef<?> _snapshotFieldDef;
   private final FieldDef<?> _valueFieldDef;
+  private final ArrayDataSchema _snapshotsSchema;
+  private final FieldDef<?> _snapshotsFieldDef;
+  private final FieldDef<?> _batchIngestResultFieldDef;
 
   /**
    * Creates a {@link BaseActionRequestBuilder} for Rest.li-based Remote DAO.
@@ -68,17 +78,25 @@ public abstract class BaseActionRequestBuilder<SNAPSHOT extends RecordTemplate,
     _aspectsFieldDef = new FieldDef<>(PARAM_ASPECTS, StringArray.class, DataTemplateUtil.getSchema(StringArray.class));
     _snapshotFieldDef = new FieldDef(PARAM_SNAPSHOT, snapshotClass, DataTemplateUtil.getSchema(snapshotClass));
     _valueFieldDef = new FieldDef<>(ActionResponse.VALUE_NAME, snapshotClass, DataTemplateUtil.getSchema(snapshotClass));
+    _snapshotsSchema = new ArrayDataSchema(DataTemplateUtil.getSchema(snapshotClass));
+    _snapshotsFieldDef = new FieldDef<>(PARAM_SNAPSHOTS, SnapshotArray.class, _snapshotsSchema);
+    _batchIngestResultFieldDef = new FieldDef<>(ActionResponse.VALUE_NAME, BatchIngestResult.class,
+        DataTemplateUtil.getSchema(BatchIngestResult.class));
 
     final HashMap<String, DynamicRecordMetadata> actionRequestMetadata = new HashMap<>();
     actionRequestMetadata.put(ACTION_GET_SNAPSHOT,
         new DynamicRecordMetadata(ACTION_GET_SNAPSHOT, Arrays.asList(_urnFieldDef, _aspectsFieldDef)));
     actionRequestMetadata.put(ACTION_INGEST,
         new DynamicRecordMetadata(ACTION_INGEST, Arrays.asList(_snapshotFieldDef)));
+    actionRequestMetadata.put(ACTION_BATCH_INGEST,
+        new DynamicRecordMetadata(ACTION_BATCH_INGEST, Arrays.asList(_snapshotsFieldDef)));
 
     final HashMap<java.lang.String, DynamicRecordMetadata> actionResponseMetadata = new HashMap<>();
     actionResponseMetadata.put(ACTION_GET_SNAPSHOT,
         new DynamicRecordMetadata(ACTION_GET_SNAPSHOT, Arrays.asList(_valueFieldDef)));
     actionResponseMetadata.put(ACTION_INGEST, new DynamicRecordMetadata(ACTION_INGEST, Collections.emptyList()));
+    actionResponseMetadata.put(ACTION_BATCH_INGEST,
+        new DynamicRecordMetadata(ACTION_BATCH_INGEST, Arrays.asList(_batchIngestResultFieldDef)));
 
     _resourceSpec = new ResourceSpecImpl(Collections.emptySet(), actionRequestMetadata, actionResponseMetadata,
         ComplexResourceKey.class, EmptyRecord.class, EmptyRecord.class, EmptyRecord.class, Collections.emptyMap());
@@ -127,4 +145,33 @@ public abstract class BaseActionRequestBuilder<SNAPSHOT extends RecordTemplate,
 
     return builder.build();
   }
+
+  @Override
+  @Nonnull
+  public Request<BatchIngestResult> batchCreateRequest(@Nonnull List<SNAPSHOT> snapshots) {
+    if (snapshots.isEmpty()) {
+      throw new IllegalArgumentException("At least one snapshot is required");
+    }
+
+    final ActionRequestBuilder builder = new ActionRequestBuilder(_baseUriTemplate, BatchIngestResult.class,
+        _resourceSpec, RestliRequestOptions.DEFAULT_OPTIONS);
+    builder.name(ACTION_BATCH_INGEST);
+    builder.addParam(_snapshotsFieldDef, new SnapshotArray<>(snapshots, _snapshotsSchema, _snapshotClass));
+    // All snapshots of a batch are sent to the same resource
+    pathKeys((URN) ModelUtils.getUrnFromSnapshot(snapshots.get(0))).forEach(builder::pathKey);
+
+    return builder.build();
+  }
+
+  /**
+   * An array of snapshots, sent as the parameter of the batch ingest action.
+   */
+  private static final class SnapshotArray<SNAPSHOT extends RecordTemplate> extends WrappingArrayTemplate<SNAPSHOT> {
+
+    SnapshotArray(@Nonnull List<SNAPSHOT> snapshots, @Nonnull ArrayDataSchema schema,
+        @Nonnull Class<SNAPSHOT> snapshotClass) {
+      super(new DataList(), schema, snapshotClass);
+      addAll(snapshots);
+    }
+  }
 }
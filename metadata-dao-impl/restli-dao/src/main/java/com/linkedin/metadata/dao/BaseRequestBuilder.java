@@ -3,8 +3,10 @@ package com.linkedin.metadata.dao;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.AspectVersion;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
 import com.linkedin.restli.client.Request;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -38,6 +40,14 @@ public abstract class BaseRequestBuilder<SNAPSHOT extends RecordTemplate, URN ex
   @Nonnull
   public abstract Request createRequest(@Nonnull URN urn, @Nonnull SNAPSHOT snapshot);
 
+  /**
+   * Returns a rest.li {@link Request} to create snapshots for a batch of entities with a single request.
+   *
+   * <p>The response holds the result of each snapshot, in the given order.
+   */
+  @Nonnull
+  public abstract Request<BatchIngestResult> batchCreateRequest(@Nonnull List<SNAPSHOT> snapshots);
+
   @Nonnull
   protected Map<String, Object> pathKeys(@Nonnull URN urn) {
     return Collections.EMPTY_MAP;
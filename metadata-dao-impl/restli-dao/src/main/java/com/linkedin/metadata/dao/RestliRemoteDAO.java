@@ -9,8 +9,13 @@ import com.linkedin.metadata.dao.utils.QueryUtils;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.Client;
 import com.linkedin.restli.client.Request;
+import com.linkedin.restli.client.ResponseFuture;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -19,6 +24,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.cache.Cache;
 
 
@@ -32,33 +38,119 @@ import javax.cache.Cache;
 public class RestliRemoteDAO<SNAPSHOT extends RecordTemplate, ASPECT_UNION extends UnionTemplate, URN extends Urn>
     extends BaseRemoteDAO<ASPECT_UNION, URN> {
 
+  /**
+   * Default maximum number of snapshot requests in flight for a single {@link #get(Set)} call.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 16;
+
   protected final Client _restliClient;
   protected final Optional<Cache<AspectKey, RecordTemplate>> _cache;
+  protected final int _maxInFlightRequests;
 
   public RestliRemoteDAO(@Nonnull Class<SNAPSHOT> snapshotClass, @Nonnull Class<ASPECT_UNION> aspectUnionClass,
       @Nonnull Client restliClient) {
-    super(aspectUnionClass);
-
-    ModelUtils.validateSnapshotAspect(snapshotClass, aspectUnionClass);
-    _restliClient = restliClient;
-    _cache = Optional.empty();
+    this(snapshotClass, aspectUnionClass, restliClient, null, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
   }
 
   public RestliRemoteDAO(@Nonnull Class<SNAPSHOT> snapshotClass, @Nonnull Class<ASPECT_UNION> aspectUnionClass,
       @Nonnull Client restliClient, @Nonnull Cache<AspectKey, RecordTemplate> cache) {
+    this(snapshotClass, aspectUnionClass, restliClient, cache, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param snapshotClass the snapshot class served by the remote resource
+   * @param aspectUnionClass the aspect union used in {@code snapshotClass}
+   * @param restliClient the client used to send requests
+   * @param cache optional cache of aspects, keyed by {@link AspectKey}
+   * @param maxInFlightRequests maximum number of snapshot requests in flight for a single {@link #get(Set)} call
+   */
+  public RestliRemoteDAO(@Nonnull Class<SNAPSHOT> snapshotClass, @Nonnull Class<ASPECT_UNION> aspectUnionClass,
+      @Nonnull Client restliClient, @Nullable Cache<AspectKey, RecordTemplate> cache, int maxInFlightRequests) {
     super(aspectUnionClass);
 
+    if (maxInFlightRequests <= 0) {
+      throw new IllegalArgumentException("maxInFlightRequests must be positive, got " + maxInFlightRequests);
+    }
+
     ModelUtils.validateSnapshotAspect(snapshotClass, aspectUnionClass);
     _restliClient = restliClient;
-    _cache = Optional.of(cache);
+    _cache = Optional.ofNullable(cache);
+    _maxInFlightRequests = maxInFlightRequests;
   }
 
+  /**
+   * Gets the aspects for a set of keys.
+   *
+   * <p>Keys that are not cached are grouped by urn into a single snapshot request per urn. A snapshot holds a single
+   * version of each aspect, so keys of other versions of an aspect already requested for the urn go into further
+   * requests. These requests are sent concurrently, with at most {@link #_maxInFlightRequests} outstanding at any time.
+   */
   @Nonnull
   @Override
   public Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> get(
       @Nonnull Set<AspectKey<URN, ? extends RecordTemplate>> aspectKeys) {
-    // TODO: Replace this with parallel restli requests
-    return aspectKeys.stream().collect(Collectors.toMap(Function.identity(), this::getAspect));
+
+    aspectKeys.forEach(aspectKey -> checkValidAspect(aspectKey.getAspectClass()));
+
+    final Map<AspectKey<URN, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> results = new HashMap<>();
+    final Map<URN, List<AspectKey<URN, ? extends RecordTemplate>>> uncachedKeysByUrn = new LinkedHashMap<>();
+    for (AspectKey<URN, ? extends RecordTemplate> aspectKey : aspectKeys) {
+      final Optional<RecordTemplate> cachedAspect = getCachedAspect(aspectKey);
+      if (cachedAspect.isPresent()) {
+        results.put(aspectKey, cachedAspect);
+      } else {
+        uncachedKeysByUrn.computeIfAbsent(aspectKey.getUrn(), urn -> new ArrayList<>()).add(aspectKey);
+      }
+    }
+
+    final List<List<AspectKey<URN, ? extends RecordTemplate>>> keyGroups = new ArrayList<>();
+    uncachedKeysByUrn.values().forEach(keys -> keyGroups.addAll(groupByDistinctAspect(keys)));
+
+    final List<Request<SNAPSHOT>> requests = new ArrayList<>(keyGroups.size());
+    for (List<AspectKey<URN, ? extends RecordTemplate>> keys : keyGroups) {
+      final URN urn = keys.get(0).getUrn();
+      final Set<AspectVersion> aspectVersions = keys.stream()
+          .map(key -> new AspectVersion().setAspect(ModelUtils.getAspectName(key.getAspectClass()))
+              .setVersion(key.getVersion()))
+          .collect(Collectors.toSet());
+      requests.add(RequestBuilders.getBuilder(urn).getRequest(aspectVersions, urn));
+    }
+
+    final List<SNAPSHOT> snapshots = getSnapshots(requests);
+    for (int i = 0; i < keyGroups.size(); i++) {
+      final List<RecordTemplate> aspects = ModelUtils.getAspectsFromSnapshot(snapshots.get(i));
+      for (AspectKey<URN, ? extends RecordTemplate> aspectKey : keyGroups.get(i)) {
+        final Optional<RecordTemplate> aspect =
+            aspects.stream().filter(a -> a.getClass().equals(aspectKey.getAspectClass())).findFirst();
+        aspect.ifPresent(a -> cacheAspect(aspectKey, a));
+        results.put(aspectKey, aspect);
+      }
+    }
+
+    return results;
+  }
+
+  /**
+   * Splits the keys of an urn into groups holding at most one key of each aspect.
+   */
+  @Nonnull
+  private List<List<AspectKey<URN, ? extends RecordTemplate>>> groupByDistinctAspect(
+      @Nonnull List<AspectKey<URN, ? extends RecordTemplate>> keys) {
+    final List<List<AspectKey<URN, ? extends RecordTemplate>>> groups = new ArrayList<>();
+    for (AspectKey<URN, ? extends RecordTemplate> key : keys) {
+      final List<AspectKey<URN, ? extends RecordTemplate>> group = groups.stream()
+          .filter(g -> g.stream().noneMatch(k -> k.getAspectClass().equals(key.getAspectClass())))
+          .findFirst()
+          .orElseGet(() -> {
+            final List<AspectKey<URN, ? extends RecordTemplate>> newGroup = new ArrayList<>();
+            groups.add(newGroup);
+            return newGroup;
+          });
+      group.add(key);
+    }
+    return groups;
   }
 
   @Nonnull
@@ -85,27 +177,6 @@ public class RestliRemoteDAO<SNAPSHOT extends RecordTemplate, ASPECT_UNION exten
             aspectClass -> aspects.stream().filter(aspect -> aspect.getClass().equals(aspectClass)).findFirst()));
   }
 
-  @Nonnull
-  private <ASPECT extends RecordTemplate> Optional<ASPECT> getAspect(@Nonnull AspectKey<URN, ASPECT> aspectKey)
-      throws IllegalArgumentException, RestliClientException {
-    final Class<ASPECT> aspectClass = aspectKey.getAspectClass();
-    checkValidAspect(aspectClass);
-
-    final Optional<RecordTemplate> cachedAspect = getCachedAspect(aspectKey);
-    if (cachedAspect.isPresent()) {
-      return (Optional<ASPECT>) cachedAspect;
-    }
-
-    final URN urn = aspectKey.getUrn();
-    final Request<SNAPSHOT> request =
-        RequestBuilders.getBuilder(urn).getRequest(ModelUtils.getAspectName(aspectClass), urn, aspectKey.getVersion());
-
-    final List<RecordTemplate> aspects = ModelUtils.getAspectsFromSnapshot(getSnapshot(request));
-    final Optional<ASPECT> aspect = (Optional<ASPECT>) aspects.stream().findFirst();
-    aspect.ifPresent(a -> cacheAspect(aspectKey, a));
-    return aspect;
-  }
-
   @Nonnull
   private List<RecordTemplate> getCachedAspects(@Nonnull Set<AspectVersion> aspectVersions, @Nonnull URN urn) {
 
@@ -160,10 +231,36 @@ public class RestliRemoteDAO<SNAPSHOT extends RecordTemplate, ASPECT_UNION exten
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Sends the snapshot requests without waiting on each response, keeping at most {@link #_maxInFlightRequests} of
+   * them outstanding, and returns the snapshots in the order of the requests.
+   */
+  @Nonnull
+  private List<SNAPSHOT> getSnapshots(@Nonnull List<Request<SNAPSHOT>> requests) {
+    final List<SNAPSHOT> snapshots = new ArrayList<>(requests.size());
+    final Deque<ResponseFuture<SNAPSHOT>> inFlight = new ArrayDeque<>();
+    for (Request<SNAPSHOT> request : requests) {
+      if (inFlight.size() >= _maxInFlightRequests) {
+        snapshots.add(getSnapshot(inFlight.poll()));
+      }
+      inFlight.add(_restliClient.sendRequest(request));
+    }
+
+    for (ResponseFuture<SNAPSHOT> pending : inFlight) {
+      snapshots.add(getSnapshot(pending));
+    }
+    return snapshots;
+  }
+
   @Nonnull
   private SNAPSHOT getSnapshot(@Nonnull Request<SNAPSHOT> request) {
+    return getSnapshot(_restliClient.sendRequest(request));
+  }
+
+  @Nonnull
+  private SNAPSHOT getSnapshot(@Nonnull ResponseFuture<SNAPSHOT> responseFuture) {
     try {
-      return _restliClient.sendRequest(request).getResponse().getEntity();
+      return responseFuture.getResponse().getEntity();
     } catch (RemoteInvocationException e) {
       throw new RestliClientException(e);
     }
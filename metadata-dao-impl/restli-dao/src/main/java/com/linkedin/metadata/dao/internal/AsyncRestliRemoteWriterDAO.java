@@ -0,0 +1,193 @@
+package com.linkedin.metadata.dao.internal;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.dao.RequestBuilders;
+import com.linkedin.metadata.dao.RestliClientException;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.restli.client.Client;
+import com.linkedin.restli.client.Request;
+import com.linkedin.restli.client.Response;
+import com.linkedin.restli.client.RestLiResponseException;
+import com.linkedin.restli.common.HttpStatus;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * A {@link RestliRemoteWriterDAO} which sends writes without waiting for their response.
+ *
+ * <p>At most {@code maxConcurrentRequests} writes are outstanding at any time; {@link #createAsync(Urn, RecordTemplate)}
+ * blocks until a write completes once that limit is reached. Writes rejected with a retryable status (429, 502, 503 or
+ * 504) are retried up to {@code maxRetries} times, after a random delay of up to {@code initialBackoffMillis} doubled on
+ * every attempt and capped to {@code maxBackoffMillis}.
+ *
+ * <p>{@link #create(Urn, RecordTemplate)} keeps the blocking behavior of {@link RestliRemoteWriterDAO}, with the above
+ * limit and retries. {@link #close()} stops accepting writes and waits for the outstanding ones to complete.
+ */
+@Slf4j
+public class AsyncRestliRemoteWriterDAO extends RestliRemoteWriterDAO implements Closeable {
+
+  private static final Set<Integer> RETRYABLE_STATUSES = Collections.unmodifiableSet(new HashSet<>(
+      Arrays.asList(HttpStatus.S_429_TOO_MANY_REQUESTS.getCode(), HttpStatus.S_502_BAD_GATEWAY.getCode(),
+          HttpStatus.S_503_SERVICE_UNAVAILABLE.getCode(), HttpStatus.S_504_GATEWAY_TIMEOUT.getCode())));
+
+  private final int _maxConcurrentRequests;
+  private final int _maxRetries;
+  private final long _initialBackoffMillis;
+  private final long _maxBackoffMillis;
+  private final long _closeTimeoutMillis;
+  private final Semaphore _permits;
+  private final ScheduledExecutorService _retryScheduler;
+  private volatile boolean _closed = false;
+
+  public AsyncRestliRemoteWriterDAO(@Nonnull Client restliClient, int maxConcurrentRequests, int maxRetries,
+      long initialBackoffMillis, long maxBackoffMillis, long closeTimeoutMillis) {
+    super(restliClient);
+    if (maxConcurrentRequests < 1) {
+      throw new IllegalArgumentException("The maximum number of concurrent requests must be positive");
+    }
+    _maxConcurrentRequests = maxConcurrentRequests;
+    _maxRetries = maxRetries;
+    _initialBackoffMillis = initialBackoffMillis;
+    _maxBackoffMillis = maxBackoffMillis;
+    _closeTimeoutMillis = closeTimeoutMillis;
+    _permits = new Semaphore(maxConcurrentRequests);
+    _retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "restli-writer-retry");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public <URN extends Urn> void create(@Nonnull URN urn, @Nonnull RecordTemplate snapshot)
+      throws IllegalArgumentException, RestliClientException {
+    try {
+      createAsync(urn, snapshot).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RestliClientException(e.getCause());
+    }
+  }
+
+  /**
+   * Sends a write for a snapshot.
+   *
+   * @return a future completed once the write succeeded, or completed exceptionally with a
+   *     {@link RestliClientException} once it failed and will not be retried
+   * @throws IllegalStateException if this DAO has been closed
+   */
+  @Nonnull
+  public <URN extends Urn> CompletableFuture<Void> createAsync(@Nonnull URN urn, @Nonnull RecordTemplate snapshot)
+      throws IllegalArgumentException {
+    ModelUtils.validateSnapshotUrn(snapshot.getClass(), urn.getClass());
+
+    final Request request = RequestBuilders.getBuilder(urn).createRequest(urn, snapshot);
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    if (_closed) {
+      throw new IllegalStateException("Writer has been closed");
+    }
+    _permits.acquireUninterruptibly();
+    // Callers see the write as completed only once its permit is released
+    final CompletableFuture<Void> completion = future.whenComplete((result, throwable) -> _permits.release());
+    send(request, future, 0);
+    return completion;
+  }
+
+  private void send(@Nonnull Request request, @Nonnull CompletableFuture<Void> future, int attempt) {
+    try {
+      _restliClient.sendRequest(request, new Callback<Response>() {
+        @Override
+        public void onError(Throwable e) {
+          if (attempt < _maxRetries && isRetryable(e)) {
+            retry(request, future, attempt + 1);
+          } else {
+            future.completeExceptionally(new RestliClientException(e));
+          }
+        }
+
+        @Override
+        public void onSuccess(Response response) {
+          future.complete(null);
+        }
+      });
+    } catch (RuntimeException e) {
+      future.completeExceptionally(new RestliClientException(e));
+    }
+  }
+
+  private void retry(@Nonnull Request request, @Nonnull CompletableFuture<Void> future, int attempt) {
+    final long delayMillis = backoffMillis(attempt);
+    log.debug("Retrying {} in {} ms, attempt {}", request, delayMillis, attempt);
+    try {
+      _retryScheduler.schedule(() -> send(request, future, attempt), delayMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(new RestliClientException(e));
+    }
+  }
+
+  /**
+   * Random delay before an attempt, with an upper bound doubling on every attempt.
+   */
+  private long backoffMillis(int attempt) {
+    final long bound = Math.min(_maxBackoffMillis, _initialBackoffMillis << Math.min(attempt - 1, 30));
+    return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+  }
+
+  private static boolean isRetryable(@Nonnull Throwable e) {
+    return e instanceof RestLiResponseException
+        && RETRYABLE_STATUSES.contains(((RestLiResponseException) e).getStatus());
+  }
+
+  /**
+   * Returns the number of writes sent but not completed yet, including those waiting to be retried.
+   */
+  public int getOutstandingWrites() {
+    return _maxConcurrentRequests - _permits.availablePermits();
+  }
+
+  /**
+   * Waits for the outstanding writes to complete.
+   *
+   * @return whether all writes completed within the timeout
+   */
+  public boolean drain(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+    if (!_permits.tryAcquire(_maxConcurrentRequests, timeout, unit)) {
+      return false;
+    }
+    _permits.release(_maxConcurrentRequests);
+    return true;
+  }
+
+  @Override
+  public void close() {
+    _closed = true;
+    try {
+      if (!drain(_closeTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        log.warn("{} writes still outstanding after {} ms", getOutstandingWrites(), _closeTimeoutMillis);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // Retries already scheduled still run, later ones are rejected
+    _retryScheduler.shutdown();
+  }
+}
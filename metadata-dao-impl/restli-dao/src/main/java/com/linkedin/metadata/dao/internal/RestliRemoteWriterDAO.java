@@ -5,9 +5,13 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.dao.RequestBuilders;
 import com.linkedin.metadata.dao.RestliClientException;
 import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
+import com.linkedin.metadata.snapshot.IngestResult;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.Client;
 import com.linkedin.restli.client.Request;
+import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 
@@ -37,4 +41,37 @@ public class RestliRemoteWriterDAO extends BaseRemoteWriterDAO {
       throw new RestliClientException(e);
     }
   }
+
+  /**
+   * Creates snapshots for a batch of entities of the same type with a single request.
+   *
+   * <p>A snapshot that fails to be created does not fail the whole batch, check the result of each snapshot instead.
+   *
+   * @param snapshots snapshots to create, all of the same type
+   * @return the result of each snapshot, in the given order
+   */
+  @Nonnull
+  public List<IngestResult> batchCreate(@Nonnull List<? extends RecordTemplate> snapshots)
+      throws IllegalArgumentException, RestliClientException {
+    if (snapshots.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final Class<? extends RecordTemplate> snapshotClass = snapshots.get(0).getClass();
+    for (RecordTemplate snapshot : snapshots) {
+      if (snapshot.getClass() != snapshotClass) {
+        throw new IllegalArgumentException("All snapshots of a batch must be of the same type, found "
+            + snapshotClass.getCanonicalName() + " and " + snapshot.getClass().getCanonicalName());
+      }
+    }
+
+    final Urn urn = ModelUtils.getUrnFromSnapshot(snapshots.get(0));
+    final Request<BatchIngestResult> request = RequestBuilders.getBuilder(urn).batchCreateRequest(snapshots);
+
+    try {
+      return _restliClient.sendRequest(request).getResponseEntity().getResults();
+    } catch (RemoteInvocationException e) {
+      throw new RestliClientException(e);
+    }
+  }
 }
@@ -3,10 +3,12 @@ package com.linkedin.metadata.dao;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.DataList;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.metadata.dao.utils.ModelUtils;
 import com.linkedin.metadata.dao.utils.RecordUtils;
+import com.linkedin.metadata.snapshot.BatchIngestResult;
 import com.linkedin.restli.client.Request;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.testing.AspectFoo;
@@ -113,4 +115,22 @@ public class BaseActionRequestBuilderTest {
     RecordTemplate input = request.getInputRecord();
     assertEquals(RecordUtils.getRecordTemplateField(input, PARAM_SNAPSHOT, EntitySnapshot.class), snapshot);
   }
+
+  @Test
+  public void testBatchCreateRequest() {
+    EntitySnapshot snapshot1 = ModelUtils.newSnapshot(EntitySnapshot.class, makeUrn(1),
+        ImmutableList.of(ModelUtils.newAspectUnion(EntityAspectUnion.class, new AspectFoo().setValue("foo"))));
+    EntitySnapshot snapshot2 = ModelUtils.newSnapshot(EntitySnapshot.class, makeUrn(2),
+        ImmutableList.of(ModelUtils.newAspectUnion(EntityAspectUnion.class, new AspectFoo().setValue("bar"))));
+    BaseActionRequestBuilder<EntitySnapshot, Urn> builder = new RequestBuilderWithoutPathKey();
+
+    Request<BatchIngestResult> request = builder.batchCreateRequest(ImmutableList.of(snapshot1, snapshot2));
+
+    assertEquals(request.getQueryParamsObjects().get(RestConstants.ACTION_PARAM),
+        BaseActionRequestBuilder.ACTION_BATCH_INGEST);
+    assertEquals(request.getBaseUriTemplate(), "entities");
+    assertEquals(request.getPathKeys(), ImmutableMap.of());
+    assertEquals(request.getInputRecord().data().get(BaseActionRequestBuilder.PARAM_SNAPSHOTS),
+        new DataList(ImmutableList.of(snapshot1.data(), snapshot2.data())));
+  }
 }
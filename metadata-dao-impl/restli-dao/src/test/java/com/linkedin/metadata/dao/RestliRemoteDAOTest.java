@@ -1,15 +1,37 @@
 package com.linkedin.metadata.dao;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.OwnerArray;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.GetRequest;
+import com.linkedin.restli.client.Request;
 import com.linkedin.restli.client.Response;
 import com.linkedin.restli.client.ResponseFuture;
 import com.linkedin.restli.client.RestClient;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import javax.cache.Cache;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
 
+import static com.linkedin.metadata.dao.BaseReadDAO.*;
+import static com.linkedin.metadata.restli.RestliConstants.*;
 import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
 
 
 public class RestliRemoteDAOTest {
@@ -23,6 +45,112 @@ public class RestliRemoteDAOTest {
     _mockCache = mock(Cache.class);
   }
 
+  @Test
+  public void testGetAspectKeysGroupsRequestsByUrn() throws RemoteInvocationException {
+    DatasetUrn urn1 = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+    DatasetUrn urn2 = new DatasetUrn(new DataPlatformUrn("hive"), "bar", FabricType.PROD);
+    Ownership ownership = new Ownership();
+    Status status = new Status().setRemoved(false);
+    expectActionRequests(ImmutableMap.of(
+        urn1.toString(), makeSnapshot(urn1, ownership, status),
+        urn2.toString(), makeSnapshot(urn2, ownership)));
+    RestliRemoteDAO<DatasetSnapshot, DatasetAspect, DatasetUrn> dao =
+        new RestliRemoteDAO<>(DatasetSnapshot.class, DatasetAspect.class, _mockRestClient, null, 1);
+
+    AspectKey<DatasetUrn, Ownership> ownershipKey1 = new AspectKey<>(Ownership.class, urn1, LATEST_VERSION);
+    AspectKey<DatasetUrn, Status> statusKey1 = new AspectKey<>(Status.class, urn1, LATEST_VERSION);
+    AspectKey<DatasetUrn, Ownership> ownershipKey2 = new AspectKey<>(Ownership.class, urn2, LATEST_VERSION);
+    AspectKey<DatasetUrn, Status> statusKey2 = new AspectKey<>(Status.class, urn2, LATEST_VERSION);
+    Set<AspectKey<DatasetUrn, ? extends RecordTemplate>> keys =
+        ImmutableSet.of(ownershipKey1, statusKey1, ownershipKey2, statusKey2);
+    Map<AspectKey<DatasetUrn, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> results = dao.get(keys);
+
+    assertEquals(results.size(), 4);
+    assertEquals(results.get(ownershipKey1), Optional.of(ownership));
+    assertEquals(results.get(statusKey1), Optional.of(status));
+    assertEquals(results.get(ownershipKey2), Optional.of(ownership));
+    assertEquals(results.get(statusKey2), Optional.empty());
+    verify(_mockRestClient, times(2)).sendRequest(any(Request.class));
+  }
+
+  @Test
+  public void testGetAspectKeysRequestsEachVersionOfAnAspectSeparately() throws RemoteInvocationException {
+    DatasetUrn urn = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+    Ownership ownership1 = new Ownership().setOwners(new OwnerArray());
+    Ownership ownership2 = new Ownership();
+    Status status = new Status().setRemoved(false);
+    expectSnapshots(makeSnapshot(urn, ownership1, status), makeSnapshot(urn, ownership2));
+    RestliRemoteDAO<DatasetSnapshot, DatasetAspect, DatasetUrn> dao =
+        new RestliRemoteDAO<>(DatasetSnapshot.class, DatasetAspect.class, _mockRestClient, _mockCache);
+
+    AspectKey<DatasetUrn, Ownership> ownershipKey1 = new AspectKey<>(Ownership.class, urn, 1);
+    AspectKey<DatasetUrn, Status> statusKey = new AspectKey<>(Status.class, urn, LATEST_VERSION);
+    AspectKey<DatasetUrn, Ownership> ownershipKey2 = new AspectKey<>(Ownership.class, urn, 2);
+    Set<AspectKey<DatasetUrn, ? extends RecordTemplate>> keys =
+        ImmutableSet.of(ownershipKey1, statusKey, ownershipKey2);
+    Map<AspectKey<DatasetUrn, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> results = dao.get(keys);
+
+    assertEquals(results.get(ownershipKey1), Optional.of(ownership1));
+    assertEquals(results.get(statusKey), Optional.of(status));
+    assertEquals(results.get(ownershipKey2), Optional.of(ownership2));
+    verify(_mockRestClient, times(2)).sendRequest(any(Request.class));
+    verify(_mockCache).put(ownershipKey1, ownership1);
+    verify(_mockCache).put(ownershipKey2, ownership2);
+  }
+
+  @Test
+  public void testGetAspectKeysFromCache() throws RemoteInvocationException {
+    DatasetUrn urn1 = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+    DatasetUrn urn2 = new DatasetUrn(new DataPlatformUrn("hive"), "bar", FabricType.PROD);
+    Ownership ownership = new Ownership();
+    expectActionRequests(ImmutableMap.of(urn2.toString(), makeSnapshot(urn2, ownership)));
+    AspectKey<DatasetUrn, Ownership> ownershipKey1 = new AspectKey<>(Ownership.class, urn1, LATEST_VERSION);
+    AspectKey<DatasetUrn, Ownership> ownershipKey2 = new AspectKey<>(Ownership.class, urn2, LATEST_VERSION);
+    when(_mockCache.get(ownershipKey1)).thenReturn(ownership);
+    RestliRemoteDAO<DatasetSnapshot, DatasetAspect, DatasetUrn> dao =
+        new RestliRemoteDAO<>(DatasetSnapshot.class, DatasetAspect.class, _mockRestClient, _mockCache);
+
+    Set<AspectKey<DatasetUrn, ? extends RecordTemplate>> keys = ImmutableSet.of(ownershipKey1, ownershipKey2);
+    Map<AspectKey<DatasetUrn, ? extends RecordTemplate>, Optional<? extends RecordTemplate>> results = dao.get(keys);
+
+    assertEquals(results.get(ownershipKey1), Optional.of(ownership));
+    assertEquals(results.get(ownershipKey2), Optional.of(ownership));
+    verify(_mockRestClient, times(1)).sendRequest(any(Request.class));
+    verify(_mockCache).put(ownershipKey2, ownership);
+  }
+
+  private DatasetSnapshot makeSnapshot(DatasetUrn urn, RecordTemplate... aspects) {
+    ImmutableList.Builder<DatasetAspect> unions = ImmutableList.builder();
+    for (RecordTemplate aspect : aspects) {
+      unions.add(ModelUtils.newAspectUnion(DatasetAspect.class, aspect));
+    }
+    return ModelUtils.newSnapshot(DatasetSnapshot.class, urn, unions.build());
+  }
+
+  private void expectActionRequests(Map<String, DatasetSnapshot> snapshots) throws RemoteInvocationException {
+    when(_mockRestClient.sendRequest(any(Request.class))).thenAnswer(invocation -> {
+      Request<DatasetSnapshot> request = invocation.getArgument(0);
+      String urn = ((DataMap) request.getInputRecord().data()).getString(PARAM_URN);
+      Response<DatasetSnapshot> response = mock(Response.class);
+      when(response.getEntity()).thenReturn(snapshots.get(urn));
+      ResponseFuture<DatasetSnapshot> future = mock(ResponseFuture.class);
+      when(future.getResponse()).thenReturn(response);
+      return future;
+    });
+  }
+
+  private void expectSnapshots(DatasetSnapshot... snapshots) throws RemoteInvocationException {
+    ResponseFuture<DatasetSnapshot>[] futures = new ResponseFuture[snapshots.length];
+    for (int i = 0; i < snapshots.length; i++) {
+      Response<DatasetSnapshot> response = mock(Response.class);
+      when(response.getEntity()).thenReturn(snapshots[i]);
+      futures[i] = mock(ResponseFuture.class);
+      when(futures[i].getResponse()).thenReturn(response);
+    }
+    when(_mockRestClient.sendRequest(any(Request.class))).thenReturn(futures[0],
+        Arrays.copyOfRange(futures, 1, futures.length));
+  }
+
   private <SNAPSHOT extends RecordTemplate> void expectGetRequest(SNAPSHOT snapshot) throws RemoteInvocationException {
     Response<SNAPSHOT> response = mock(Response.class);
     when(response.getEntity()).thenReturn(snapshot);
@@ -0,0 +1,132 @@
+package com.linkedin.metadata.dao.internal;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.Status;
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.dao.RestliClientException;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
+import com.linkedin.restli.client.Request;
+import com.linkedin.restli.client.Response;
+import com.linkedin.restli.client.RestClient;
+import com.linkedin.restli.client.RestLiResponseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class AsyncRestliRemoteWriterDAOTest {
+
+  private RestClient _mockRestClient;
+  private DatasetUrn _urn;
+  private DatasetSnapshot _snapshot;
+
+  @BeforeMethod
+  public void setup() {
+    _mockRestClient = mock(RestClient.class);
+    _urn = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+    _snapshot = ModelUtils.newSnapshot(DatasetSnapshot.class, _urn,
+        ImmutableList.of(ModelUtils.newAspectUnion(DatasetAspect.class, new Status().setRemoved(false))));
+  }
+
+  @Test
+  public void testCreateAsyncRetriesRetryableStatus() {
+    expectResponses(error(503), error(429), null);
+    AsyncRestliRemoteWriterDAO dao = new AsyncRestliRemoteWriterDAO(_mockRestClient, 1, 2, 1, 1, 1000);
+
+    dao.createAsync(_urn, _snapshot).join();
+
+    verify(_mockRestClient, times(3)).sendRequest(any(Request.class), any(Callback.class));
+    assertEquals(dao.getOutstandingWrites(), 0);
+  }
+
+  @Test
+  public void testCreateAsyncFailsOnceRetriesAreExhausted() {
+    expectResponses(error(503), error(503), null);
+    AsyncRestliRemoteWriterDAO dao = new AsyncRestliRemoteWriterDAO(_mockRestClient, 1, 1, 1, 1, 1000);
+
+    CompletableFuture<Void> future = dao.createAsync(_urn, _snapshot);
+
+    try {
+      future.join();
+      fail("Write should have failed");
+    } catch (CompletionException e) {
+      assertTrue(e.getCause() instanceof RestliClientException);
+    }
+    verify(_mockRestClient, times(2)).sendRequest(any(Request.class), any(Callback.class));
+    assertEquals(dao.getOutstandingWrites(), 0);
+  }
+
+  @Test
+  public void testCreateAsyncDoesNotRetryOtherStatus() {
+    expectResponses(error(400), null);
+    AsyncRestliRemoteWriterDAO dao = new AsyncRestliRemoteWriterDAO(_mockRestClient, 1, 3, 1, 1, 1000);
+
+    try {
+      dao.create(_urn, _snapshot);
+      fail("Write should have failed");
+    } catch (RestliClientException e) {
+      assertTrue(e.getCause() instanceof RestLiResponseException);
+    }
+    verify(_mockRestClient, times(1)).sendRequest(any(Request.class), any(Callback.class));
+  }
+
+  @Test
+  public void testCloseDrainsOutstandingWrites() throws InterruptedException {
+    Callback<Response>[] pending = new Callback[1];
+    doAnswer(invocation -> {
+      pending[0] = invocation.getArgument(1);
+      return null;
+    }).when(_mockRestClient).sendRequest(any(Request.class), any(Callback.class));
+    AsyncRestliRemoteWriterDAO dao = new AsyncRestliRemoteWriterDAO(_mockRestClient, 2, 0, 1, 1, 1000);
+
+    CompletableFuture<Void> future = dao.createAsync(_urn, _snapshot);
+
+    assertEquals(dao.getOutstandingWrites(), 1);
+    assertFalse(dao.drain(10, TimeUnit.MILLISECONDS));
+
+    pending[0].onSuccess(mock(Response.class));
+    dao.close();
+
+    assertTrue(future.isDone());
+    assertEquals(dao.getOutstandingWrites(), 0);
+    try {
+      dao.createAsync(_urn, _snapshot);
+      fail("Writer should have been closed");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  private static RestLiResponseException error(int status) {
+    RestLiResponseException exception = mock(RestLiResponseException.class);
+    when(exception.getStatus()).thenReturn(status);
+    return exception;
+  }
+
+  /**
+   * Answers requests with the given errors in order, or with a successful response for null.
+   */
+  private void expectResponses(RestLiResponseException... errors) {
+    int[] attempt = new int[1];
+    doAnswer(invocation -> {
+      Callback<Response> callback = invocation.getArgument(1);
+      RestLiResponseException error = errors[Math.min(attempt[0]++, errors.length - 1)];
+      if (error == null) {
+        callback.onSuccess(mock(Response.class));
+      } else {
+        callback.onError(error);
+      }
+      return null;
+    }).when(_mockRestClient).sendRequest(any(Request.class), any(Callback.class));
+  }
+}
@@ -1,26 +1,36 @@
 package com.linkedin.metadata;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.io.Resources;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.avro.DataTranslator;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.mxe.FailedMetadataChangeEvent;
 import com.linkedin.mxe.MetadataAuditEvent;
 import com.linkedin.mxe.MetadataChangeEvent;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
-import org.apache.avro.io.Decoder;
 import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.specific.SpecificRecord;
@@ -32,6 +42,8 @@ public class EventUtils {
 
   private static final RecordDataSchema MAE_PEGASUS_SCHEMA = new MetadataAuditEvent().schema();
 
+  private static final RecordDataSchema FAILED_MCE_PEGASUS_SCHEMA = new FailedMetadataChangeEvent().schema();
+
   private static final Schema ORIGINAL_MCE_AVRO_SCHEMA =
       getAvroSchemaFromResource("avro/com/linkedin/mxe/MetadataChangeEvent.avsc");
 
@@ -47,6 +59,39 @@ public class EventUtils {
 
   private static final Schema RENAMED_FAILED_MCE_AVRO_SCHEMA = com.linkedin.pegasus2avro.mxe.FailedMetadataChangeEvent.SCHEMA$;
 
+  private static final String RENAMED_NAMESPACE = "com.linkedin.pegasus2avro";
+
+  private static final String RENAMED_NAMESPACE_PREFIX = RENAMED_NAMESPACE + ".";
+
+  private static final String ORIGINAL_NAMESPACE = "com.linkedin";
+
+  private static final String ORIGINAL_NAMESPACE_PREFIX = ORIGINAL_NAMESPACE + ".";
+
+  /**
+   * Writer schemas in com.linkedin.pegasus2avro namespace, keyed by identity, mapped to the same schemas in the
+   * original namespace. Records deserialized from Kafka share the schema instance of their writer schema version, so
+   * this is parsed once per version.
+   */
+  private static final LoadingCache<Schema, Schema> ORIGINAL_NAMESPACE_WRITER_SCHEMAS =
+      CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(EventUtils::toOriginalNamespace));
+
+  /**
+   * Aspect specific MXE schemas in com.linkedin.pegasus2avro namespace, keyed by their Avro class.
+   */
+  private static final Map<Class<?>, Schema> RENAMED_ASPECT_SPECIFIC_AVRO_SCHEMAS = new ConcurrentHashMap<>();
+
+  /**
+   * Aspect specific MXE schemas in the original namespace, keyed by their Avro class, parsed once from the resources.
+   */
+  private static final Map<Class<?>, Schema> ORIGINAL_ASPECT_SPECIFIC_AVRO_SCHEMAS = new ConcurrentHashMap<>();
+
+  private static final ThreadLocal<ReusableByteArrayOutputStream> OUTPUT_STREAM =
+      ThreadLocal.withInitial(ReusableByteArrayOutputStream::new);
+
+  private static final ThreadLocal<BinaryEncoder> ENCODER = new ThreadLocal<>();
+
+  private static final ThreadLocal<BinaryDecoder> DECODER = new ThreadLocal<>();
+
   private EventUtils() {
     // Util class
   }
@@ -70,8 +115,7 @@ public class EventUtils {
   @Nonnull
   public static MetadataAuditEvent avroToPegasusMAE(@Nonnull GenericRecord record) throws IOException {
     return new MetadataAuditEvent(DataTranslator.genericRecordToDataMap(
-        renameSchemaNamespace(record, RENAMED_MAE_AVRO_SCHEMA, ORIGINAL_MAE_AVRO_SCHEMA), MAE_PEGASUS_SCHEMA,
-        ORIGINAL_MAE_AVRO_SCHEMA));
+        toOriginalSchema(record, ORIGINAL_MAE_AVRO_SCHEMA), MAE_PEGASUS_SCHEMA, ORIGINAL_MAE_AVRO_SCHEMA));
   }
 
   /**
@@ -83,8 +127,20 @@ public class EventUtils {
   @Nonnull
   public static MetadataChangeEvent avroToPegasusMCE(@Nonnull GenericRecord record) throws IOException {
     return new MetadataChangeEvent(DataTranslator.genericRecordToDataMap(
-        renameSchemaNamespace(record, RENAMED_MCE_AVRO_SCHEMA, ORIGINAL_MCE_AVRO_SCHEMA), MCE_PEGASUS_SCHEMA,
-        ORIGINAL_MCE_AVRO_SCHEMA));
+        toOriginalSchema(record, ORIGINAL_MCE_AVRO_SCHEMA), MCE_PEGASUS_SCHEMA, ORIGINAL_MCE_AVRO_SCHEMA));
+  }
+
+  /**
+   * Converts a {@link GenericRecord} Failed MCE into the equivalent Pegasus model.
+   *
+   * @param record the {@link GenericRecord} that contains the Failed MCE in com.linkedin.pegasus2avro namespace
+   * @return the Pegasus {@link FailedMetadataChangeEvent} model
+   */
+  @Nonnull
+  public static FailedMetadataChangeEvent avroToPegasusFailedMCE(@Nonnull GenericRecord record) throws IOException {
+    return new FailedMetadataChangeEvent(DataTranslator.genericRecordToDataMap(
+        toOriginalSchema(record, ORIGINAL_FAILED_MCE_AVRO_SCHEMA), FAILED_MCE_PEGASUS_SCHEMA,
+        ORIGINAL_FAILED_MCE_AVRO_SCHEMA));
   }
 
   /**
@@ -98,7 +154,7 @@ public class EventUtils {
   public static GenericRecord pegasusToAvroMAE(@Nonnull MetadataAuditEvent event) throws IOException {
     GenericRecord original =
         DataTranslator.dataMapToGenericRecord(event.data(), event.schema(), ORIGINAL_MAE_AVRO_SCHEMA);
-    return renameSchemaNamespace(original, ORIGINAL_MAE_AVRO_SCHEMA, RENAMED_MAE_AVRO_SCHEMA);
+    return toRenamedSchema(original, RENAMED_MAE_AVRO_SCHEMA);
   }
 
   /**
@@ -112,25 +168,55 @@ public class EventUtils {
   public static GenericRecord pegasusToAvroMCE(@Nonnull MetadataChangeEvent event) throws IOException {
     GenericRecord original =
         DataTranslator.dataMapToGenericRecord(event.data(), event.schema(), ORIGINAL_MCE_AVRO_SCHEMA);
-    return renameSchemaNamespace(original, ORIGINAL_MCE_AVRO_SCHEMA, RENAMED_MCE_AVRO_SCHEMA);
+    return toRenamedSchema(original, RENAMED_MCE_AVRO_SCHEMA);
   }
 
   /**
    * Converts a Pegasus aspect specific MXE into the equivalent Avro model as a {@link GenericRecord}.
    *
+   * @param clazz the aspect specific MXE avro class
    * @param event the Pegasus aspect specific MXE model
    * @return the Avro model with com.linkedin.pegasus2avro.mxe namesapce
    * @throws IOException if the conversion fails
    */
-
   @Nonnull
   public static <MXE extends GenericRecord, T extends SpecificRecord> MXE pegasusToAvroAspectSpecificMXE(
       @Nonnull Class<T> clazz, @Nonnull RecordTemplate event)
       throws NoSuchFieldException, IOException, IllegalAccessException {
-    final Schema newSchema = (Schema) clazz.getField("SCHEMA$").get(null);
-    final Schema originalSchema = getAvroSchemaFromResource(getAvroResourcePath(clazz));
-    final GenericRecord original = DataTranslator.dataMapToGenericRecord(event.data(), event.schema(), originalSchema);
-    return (MXE) renameSchemaNamespace(original, originalSchema, newSchema);
+    return pegasusToAvroAspectSpecificMXE(clazz, event.data(), event.schema());
+  }
+
+  /**
+   * Converts the data map of a Pegasus aspect specific MXE into the equivalent Avro model as a {@link GenericRecord}.
+   *
+   * <p>Both the original and the renamed Avro schemas are resolved once per MXE class.
+   *
+   * @param clazz the aspect specific MXE avro class
+   * @param event the data map of the Pegasus aspect specific MXE
+   * @param eventSchema the schema of the Pegasus aspect specific MXE
+   * @return the Avro model with com.linkedin.pegasus2avro.mxe namesapce
+   * @throws IOException if the conversion fails
+   */
+  @Nonnull
+  public static <MXE extends GenericRecord, T extends SpecificRecord> MXE pegasusToAvroAspectSpecificMXE(
+      @Nonnull Class<T> clazz, @Nonnull DataMap event, @Nonnull RecordDataSchema eventSchema)
+      throws NoSuchFieldException, IOException, IllegalAccessException {
+    final Schema newSchema = getRenamedAspectSpecificAvroSchema(clazz);
+    final Schema originalSchema = ORIGINAL_ASPECT_SPECIFIC_AVRO_SCHEMAS.computeIfAbsent(clazz,
+        key -> getAvroSchemaFromResource(getAvroResourcePath(key)));
+    final GenericRecord original = DataTranslator.dataMapToGenericRecord(event, eventSchema, originalSchema);
+    return (MXE) toRenamedSchema(original, newSchema);
+  }
+
+  @Nonnull
+  private static Schema getRenamedAspectSpecificAvroSchema(@Nonnull Class<?> clazz)
+      throws NoSuchFieldException, IllegalAccessException {
+    Schema schema = RENAMED_ASPECT_SPECIFIC_AVRO_SCHEMAS.get(clazz);
+    if (schema == null) {
+      schema = (Schema) clazz.getField("SCHEMA$").get(null);
+      RENAMED_ASPECT_SPECIFIC_AVRO_SCHEMAS.put(clazz, schema);
+    }
+    return schema;
   }
 
   /**
@@ -144,51 +230,158 @@ public class EventUtils {
   public static GenericRecord pegasusToAvroFailedMCE(@Nonnull FailedMetadataChangeEvent failedMetadataChangeEvent) throws IOException {
     GenericRecord original =
         DataTranslator.dataMapToGenericRecord(failedMetadataChangeEvent.data(), failedMetadataChangeEvent.schema(), ORIGINAL_FAILED_MCE_AVRO_SCHEMA);
-    return renameSchemaNamespace(original, ORIGINAL_FAILED_MCE_AVRO_SCHEMA, RENAMED_FAILED_MCE_AVRO_SCHEMA);
+    return toRenamedSchema(original, RENAMED_FAILED_MCE_AVRO_SCHEMA);
   }
 
   /**
-   * Converts original MXE into a renamed namespace
+   * Converts a MXE in com.linkedin.pegasus2avro namespace into the latest original schema
+   *
+   * <p>The record may have been written with an older version of its schema. It is read back in a single pass using a
+   * copy of its writer schema in the original namespace, so that union branches resolve by name against the reader.
    */
   @Nonnull
-  private static GenericRecord renameSchemaNamespace(@Nonnull GenericRecord original, @Nonnull Schema originalSchema,
-      @Nonnull Schema newSchema) throws IOException {
+  private static GenericRecord toOriginalSchema(@Nonnull GenericRecord record, @Nonnull Schema originalSchema)
+      throws IOException {
+    return changeSchema(record, ORIGINAL_NAMESPACE_WRITER_SCHEMAS.getUnchecked(record.getSchema()), originalSchema);
+  }
 
-    // Step 1: Updates to the latest original schema
-    final GenericRecord record = changeSchema(original, original.getSchema(), originalSchema);
+  /**
+   * Converts a MXE in the latest original schema into the equivalent com.linkedin.pegasus2avro namespace schema
+   *
+   * <p>Both schemas have the same binary encoding, so the renamed schema is used as both writer and reader.
+   */
+  @Nonnull
+  private static GenericRecord toRenamedSchema(@Nonnull GenericRecord original, @Nonnull Schema newSchema)
+      throws IOException {
+    return changeSchema(original, newSchema, newSchema);
+  }
 
-    // Step 2: Updates to the new renamed schema
-    return changeSchema(record, newSchema, newSchema);
+  /**
+   * Returns a copy of a com.linkedin.pegasus2avro namespace schema in the original namespace
+   *
+   * <p>Records, enums and fixed schemas are rebuilt with their names and aliases in the original namespace, and the
+   * unions, arrays and maps around them are rebuilt with the renamed schemas. Docs, defaults and properties are kept.
+   */
+  @VisibleForTesting
+  @Nonnull
+  static Schema toOriginalNamespace(@Nonnull Schema renamedSchema) {
+    if (!renamedSchema.getFullName().startsWith(RENAMED_NAMESPACE_PREFIX)) {
+      return renamedSchema;
+    }
+    return toOriginalNamespace(renamedSchema, new HashMap<>());
+  }
+
+  /**
+   * Renames a schema, reusing the named schemas already renamed, keyed by their renamed full name, so that a record
+   * referring to itself or to another named schema more than once refers to a single renamed schema.
+   */
+  @Nonnull
+  private static Schema toOriginalNamespace(@Nonnull Schema schema, @Nonnull Map<String, Schema> originalSchemas) {
+    switch (schema.getType()) {
+      case RECORD: {
+        final Schema visited = originalSchemas.get(schema.getFullName());
+        if (visited != null) {
+          return visited;
+        }
+        final Schema record = Schema.createRecord(schema.getName(), schema.getDoc(),
+            toOriginalName(schema.getNamespace()), schema.isError());
+        // Registered before renaming the fields, which may refer to the record
+        originalSchemas.put(schema.getFullName(), record);
+        final List<Schema.Field> fields = new ArrayList<>(schema.getFields().size());
+        for (Schema.Field field : schema.getFields()) {
+          final Schema.Field originalField = new Schema.Field(field.name(),
+              toOriginalNamespace(field.schema(), originalSchemas), field.doc(), field.defaultValue(), field.order());
+          field.aliases().forEach(originalField::addAlias);
+          field.getJsonProps().forEach(originalField::addProp);
+          fields.add(originalField);
+        }
+        record.setFields(fields);
+        return copyNamedProperties(schema, record);
+      }
+      case ENUM:
+        return originalSchemas.computeIfAbsent(schema.getFullName(), name -> copyNamedProperties(schema,
+            Schema.createEnum(schema.getName(), schema.getDoc(), toOriginalName(schema.getNamespace()),
+                schema.getEnumSymbols())));
+      case FIXED:
+        return originalSchemas.computeIfAbsent(schema.getFullName(), name -> copyNamedProperties(schema,
+            Schema.createFixed(schema.getName(), schema.getDoc(), toOriginalName(schema.getNamespace()),
+                schema.getFixedSize())));
+      case UNION: {
+        final List<Schema> types = new ArrayList<>(schema.getTypes().size());
+        for (Schema type : schema.getTypes()) {
+          types.add(toOriginalNamespace(type, originalSchemas));
+        }
+        return copyProperties(schema, Schema.createUnion(types));
+      }
+      case ARRAY:
+        return copyProperties(schema,
+            Schema.createArray(toOriginalNamespace(schema.getElementType(), originalSchemas)));
+      case MAP:
+        return copyProperties(schema,
+            Schema.createMap(toOriginalNamespace(schema.getValueType(), originalSchemas)));
+      default:
+        return schema;
+    }
+  }
+
+  /**
+   * Returns a namespace or full name in the original namespace, unchanged if not in com.linkedin.pegasus2avro
+   */
+  @Nullable
+  private static String toOriginalName(@Nullable String name) {
+    if (name == null) {
+      return null;
+    }
+    if (name.startsWith(RENAMED_NAMESPACE_PREFIX)) {
+      return ORIGINAL_NAMESPACE_PREFIX + name.substring(RENAMED_NAMESPACE_PREFIX.length());
+    }
+    if (name.equals(RENAMED_NAMESPACE)) {
+      return ORIGINAL_NAMESPACE;
+    }
+    return name;
+  }
+
+  @Nonnull
+  private static Schema copyNamedProperties(@Nonnull Schema from, @Nonnull Schema to) {
+    from.getAliases().forEach(alias -> to.addAlias(toOriginalName(alias)));
+    return copyProperties(from, to);
+  }
+
+  @Nonnull
+  private static Schema copyProperties(@Nonnull Schema from, @Nonnull Schema to) {
+    from.getJsonProps().forEach(to::addProp);
+    return to;
   }
 
   /**
    * Changes the schema of a {@link GenericRecord} to a compatible schema
    *
    * Achieved by serializing the record using its embedded schema and deserializing it using the new compatible schema.
+   * The encoder, decoder and buffer are reused per thread.
    *
    * @param record the record to update schema for
    * @param writerSchema the writer schema to use when deserializing
    * @param readerSchema the reader schema to use when deserializing
    * @return a {@link GenericRecord} using the new {@code readerSchema}
-   * @throws IOException
+   * @throws IOException if the record cannot be serialized or deserialized
    */
   @Nonnull
   private static GenericRecord changeSchema(@Nonnull GenericRecord record, @Nonnull Schema writerSchema,
       @Nonnull Schema readerSchema) throws IOException {
-    try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-      BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(os, null);
-      DatumWriter<GenericRecord> writer = new GenericDatumWriter<>(record.getSchema());
-      writer.write(record, encoder);
-      encoder.flush();
-      os.close();
-
-      try (ByteArrayInputStream is = new ByteArrayInputStream(os.toByteArray())) {
-        Decoder decoder = DecoderFactory.get().binaryDecoder(is, null);
-        // Must specify both writer & reader schemas for a backward compatible read
-        DatumReader<GenericRecord> reader = new GenericDatumReader<>(writerSchema, readerSchema);
-        return reader.read(null, decoder);
-      }
-    }
+    final ReusableByteArrayOutputStream os = OUTPUT_STREAM.get();
+    os.reset();
+
+    final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(os, ENCODER.get());
+    ENCODER.set(encoder);
+    final DatumWriter<GenericRecord> writer = new GenericDatumWriter<>(record.getSchema());
+    writer.write(record, encoder);
+    encoder.flush();
+
+    final BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(os.getBuffer(), 0, os.size(), DECODER.get());
+    DECODER.set(decoder);
+    // Must specify both writer & reader schemas for a backward compatible read
+    final DatumReader<GenericRecord> reader = new GenericDatumReader<>(writerSchema, readerSchema);
+    return reader.read(null, decoder);
   }
 
   /**
@@ -204,4 +397,14 @@ public class EventUtils {
   private static String getAvroResourcePath(@Nonnull Class<?> clazz) {
     return String.format("avro/%s.avsc", clazz.getCanonicalName().replace(".pegasus2avro", "").replace(".", "/"));
   }
+
+  /**
+   * A {@link ByteArrayOutputStream} that exposes its buffer, so that it can be decoded without copying.
+   */
+  private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+    @Nonnull
+    byte[] getBuffer() {
+      return buf;
+    }
+  }
 }
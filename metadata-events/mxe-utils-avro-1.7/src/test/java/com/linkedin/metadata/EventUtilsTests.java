@@ -66,6 +66,15 @@ public class EventUtilsTests {
     assertNotNull(record.get("proposedSnapshot"));
   }
 
+  @Test
+  public void testPegasusToAvroToPegasusMAE() throws IOException {
+    MetadataAuditEvent event = recordTemplateFromResource("test-pegasus2avro-mae.json", MetadataAuditEvent.class);
+
+    MetadataAuditEvent roundTripped = EventUtils.avroToPegasusMAE(EventUtils.pegasusToAvroMAE(event));
+
+    assertEquals(roundTripped, event);
+  }
+
   @Test
   public void testPegasusToAvroFailedMCE() throws IOException {
     FailedMetadataChangeEvent event = recordTemplateFromResource("test-pegasus2avro-fmce.json", FailedMetadataChangeEvent.class);
@@ -77,6 +86,45 @@ public class EventUtilsTests {
     assertNotNull(record.get("metadataChangeEvent"));
   }
 
+  @Test
+  public void testPegasusToAvroToPegasusFailedMCE() throws IOException {
+    FailedMetadataChangeEvent event = recordTemplateFromResource("test-pegasus2avro-fmce.json", FailedMetadataChangeEvent.class);
+
+    FailedMetadataChangeEvent roundTripped = EventUtils.avroToPegasusFailedMCE(EventUtils.pegasusToAvroFailedMCE(event));
+
+    assertEquals(roundTripped, event);
+  }
+
+  @Test
+  public void testToOriginalNamespace() {
+    String renamed = "{\"type\":\"record\",\"name\":\"Node\",\"namespace\":\"com.linkedin.pegasus2avro.test\","
+        + "\"aliases\":[\"com.linkedin.pegasus2avro.test.OldNode\"],\"fields\":["
+        + "{\"name\":\"children\",\"type\":{\"type\":\"array\",\"items\":\"Node\"},\"default\":[]},"
+        + "{\"name\":\"parent\",\"type\":[\"null\",\"Node\"],\"default\":null},"
+        + "{\"name\":\"color\",\"type\":{\"type\":\"enum\",\"name\":\"Color\",\"symbols\":[\"RED\",\"BLUE\"]}},"
+        + "{\"name\":\"colors\",\"type\":{\"type\":\"map\",\"values\":\"Color\"},\"doc\":\"By name\"},"
+        + "{\"name\":\"digest\",\"type\":{\"type\":\"fixed\",\"name\":\"Digest\","
+        + "\"namespace\":\"com.linkedin.pegasus2avro\",\"size\":16}},"
+        + "{\"name\":\"external\",\"type\":{\"type\":\"enum\",\"name\":\"Kind\",\"namespace\":\"org.example\","
+        + "\"symbols\":[\"A\"]}}]}";
+
+    Schema original = EventUtils.toOriginalNamespace(new Schema.Parser().parse(renamed));
+
+    assertEquals(original, new Schema.Parser().parse(renamed.replace("com.linkedin.pegasus2avro", "com.linkedin")));
+    assertEquals(original.getFullName(), "com.linkedin.test.Node");
+    assertSame(original.getField("children").schema().getElementType(), original);
+    assertEquals(original.getField("digest").schema().getFullName(), "com.linkedin.Digest");
+    assertEquals(original.getField("external").schema().getFullName(), "org.example.Kind");
+  }
+
+  @Test
+  public void testToOriginalNamespaceOfMXE() {
+    Schema renamed = com.linkedin.pegasus2avro.mxe.MetadataChangeEvent.SCHEMA$;
+
+    assertEquals(EventUtils.toOriginalNamespace(renamed),
+        new Schema.Parser().parse(renamed.toString().replace("com.linkedin.pegasus2avro.", "com.linkedin.")));
+  }
+
   private GenericRecord genericRecordFromResource(String resourcePath, Schema schema) throws IOException {
     InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
     JsonDecoder decoder = DecoderFactory.get().jsonDecoder(schema, is);
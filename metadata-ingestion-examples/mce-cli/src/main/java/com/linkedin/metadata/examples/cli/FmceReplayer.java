@@ -0,0 +1,252 @@
+package com.linkedin.metadata.examples.cli;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import com.linkedin.data.DataMap;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.utils.mxe.MetadataChangeEventCoalescer;
+import com.linkedin.mxe.FailedMetadataChangeEvent;
+import com.linkedin.mxe.MetadataChangeEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+
+/**
+ * Replays the MCEs embedded in failed MCEs back to the MCE topic.
+ *
+ * <p>Failed MCEs are read from the given time range, or from the beginning of the topic up to the offsets at the time
+ * the replay started, and filtered by error class and urn. Matching MCEs are coalesced by batches, so that only the
+ * latest value of each aspect of an entity is replayed, and produced at a bounded rate.
+ */
+@Slf4j
+public class FmceReplayer {
+
+  private static final String CAUSED_BY = "Caused by: ";
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+  private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+  private final Consumer<String, GenericRecord> _consumer;
+  private final Producer<String, GenericRecord> _producer;
+  private final String _fmceTopic;
+  private final String _mceTopic;
+  private final String _errorClass;
+  private final Pattern _urnPattern;
+  private final Instant _from;
+  private final Instant _to;
+  private final RateLimiter _rateLimiter;
+  private final int _batchSize;
+
+  private final AtomicLong _read = new AtomicLong();
+  private final AtomicLong _matched = new AtomicLong();
+  private final AtomicLong _replayed = new AtomicLong();
+  private final AtomicLong _failed = new AtomicLong();
+
+  /**
+   * @param errorClass if not null, only failed MCEs whose error or one of its causes is of this class, given by its
+   *     simple or fully qualified name, are replayed
+   * @param urnPattern if not null, only failed MCEs whose urn matches this pattern are replayed
+   * @param from if not null, failed MCEs produced before this time are skipped
+   * @param to if not null, failed MCEs produced after this time are skipped
+   * @param eventsPerSecond maximum rate at which MCEs are replayed
+   * @param batchSize number of matching MCEs coalesced together
+   */
+  public FmceReplayer(@Nonnull Consumer<String, GenericRecord> consumer,
+      @Nonnull Producer<String, GenericRecord> producer, @Nonnull String fmceTopic, @Nonnull String mceTopic,
+      @Nullable String errorClass, @Nullable Pattern urnPattern, @Nullable Instant from, @Nullable Instant to,
+      double eventsPerSecond, int batchSize) {
+    _consumer = consumer;
+    _producer = producer;
+    _fmceTopic = fmceTopic;
+    _mceTopic = mceTopic;
+    _errorClass = errorClass;
+    _urnPattern = urnPattern;
+    _from = from;
+    _to = to;
+    _rateLimiter = RateLimiter.create(eventsPerSecond);
+    _batchSize = batchSize;
+  }
+
+  public void replay() {
+    final List<TopicPartition> partitions = _consumer.partitionsFor(_fmceTopic)
+        .stream()
+        .map(info -> new TopicPartition(info.topic(), info.partition()))
+        .collect(Collectors.toList());
+    _consumer.assign(partitions);
+    seekToStart(partitions);
+
+    // Only replay failed MCEs which were already there when the replay started
+    final Map<TopicPartition, Long> endOffsets = new HashMap<>(_consumer.endOffsets(partitions));
+    removeFullyRead(endOffsets);
+
+    final long start = System.currentTimeMillis();
+    long lastProgress = start;
+    final List<MetadataChangeEvent> batch = new ArrayList<>(_batchSize);
+    while (!endOffsets.isEmpty()) {
+      for (ConsumerRecord<String, GenericRecord> record : _consumer.poll(POLL_TIMEOUT)) {
+        final TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        final Long endOffset = endOffsets.get(partition);
+        if (endOffset == null || record.offset() >= endOffset) {
+          continue;
+        }
+        if (_to != null && record.timestamp() > _to.toEpochMilli()) {
+          endOffsets.remove(partition);
+          continue;
+        }
+
+        _read.incrementAndGet();
+        final MetadataChangeEvent event = toMatchingEvent(record.value());
+        if (event != null) {
+          _matched.incrementAndGet();
+          batch.add(event);
+          if (batch.size() >= _batchSize) {
+            produce(batch);
+          }
+        }
+      }
+      // Stop fetching from partitions which have been fully read
+      removeFullyRead(endOffsets);
+      _consumer.pause(partitions.stream()
+          .filter(partition -> !endOffsets.containsKey(partition))
+          .collect(Collectors.toList()));
+
+      if (System.currentTimeMillis() - lastProgress >= PROGRESS_INTERVAL.toMillis()) {
+        lastProgress = System.currentTimeMillis();
+        logProgress(start);
+      }
+    }
+    produce(batch);
+    _producer.flush();
+    logProgress(start);
+  }
+
+  /**
+   * Removes the partitions whose position reached their end offset.
+   *
+   * <p>The position rather than the offset of the last record read tells whether a partition has been fully read: the
+   * offsets right before the end offset may hold no record, e.g. when they were compacted or are transaction markers.
+   */
+  private void removeFullyRead(@Nonnull Map<TopicPartition, Long> endOffsets) {
+    endOffsets.entrySet().removeIf(entry -> _consumer.position(entry.getKey()) >= entry.getValue());
+  }
+
+  private void seekToStart(@Nonnull List<TopicPartition> partitions) {
+    if (_from == null) {
+      _consumer.seekToBeginning(partitions);
+      return;
+    }
+
+    final Map<TopicPartition, Long> timestamps = new HashMap<>();
+    partitions.forEach(partition -> timestamps.put(partition, _from.toEpochMilli()));
+    final Map<TopicPartition, OffsetAndTimestamp> offsets = _consumer.offsetsForTimes(timestamps);
+    final Map<TopicPartition, Long> endOffsets = _consumer.endOffsets(partitions);
+    for (TopicPartition partition : partitions) {
+      final OffsetAndTimestamp offset = offsets.get(partition);
+      // No failed MCE after the start of the range in this partition
+      _consumer.seek(partition, offset == null ? endOffsets.get(partition) : offset.offset());
+    }
+  }
+
+  @Nullable
+  private MetadataChangeEvent toMatchingEvent(@Nullable GenericRecord record) {
+    if (record == null) {
+      return null;
+    }
+    final FailedMetadataChangeEvent failedEvent;
+    try {
+      failedEvent = EventUtils.avroToPegasusFailedMCE(record);
+    } catch (IOException e) {
+      log.error("Skipping failed MCE which cannot be read: {}", record, e);
+      return null;
+    }
+
+    if (_errorClass != null && !hasErrorClass(failedEvent.getError(), _errorClass)) {
+      return null;
+    }
+    final MetadataChangeEvent event = failedEvent.getMetadataChangeEvent();
+    if (_urnPattern != null && !matchesUrn(event, _urnPattern)) {
+      return null;
+    }
+    return event;
+  }
+
+  private void produce(@Nonnull List<MetadataChangeEvent> batch) {
+    for (MetadataChangeEvent event : MetadataChangeEventCoalescer.coalesce(batch)) {
+      final GenericRecord record;
+      try {
+        record = EventUtils.pegasusToAvroMCE(event);
+      } catch (IOException e) {
+        log.error("Skipping MCE which cannot be converted: {}", event, e);
+        _failed.incrementAndGet();
+        continue;
+      }
+
+      _rateLimiter.acquire();
+      _producer.send(new ProducerRecord<>(_mceTopic, record), (metadata, exception) -> {
+        if (exception != null) {
+          log.error("Failed to replay MCE: {}", event, exception);
+          _failed.incrementAndGet();
+        } else {
+          _replayed.incrementAndGet();
+        }
+      });
+    }
+    batch.clear();
+  }
+
+  private void logProgress(long start) {
+    final double seconds = Math.max(1, System.currentTimeMillis() - start) / 1000.0;
+    log.info("Read {} failed MCEs, {} matching; replayed {} MCEs ({} per second), {} failed", _read.get(),
+        _matched.get(), _replayed.get(), String.format("%.1f", _replayed.get() / seconds), _failed.get());
+  }
+
+  /**
+   * Returns whether a stack trace, as sent in failed MCEs, has an exception or cause of the given class.
+   */
+  @VisibleForTesting
+  static boolean hasErrorClass(@Nonnull String stackTrace, @Nonnull String errorClass) {
+    final String[] lines = stackTrace.split("\n");
+    for (int i = 0; i < lines.length; i++) {
+      String line = lines[i].trim();
+      if (line.startsWith(CAUSED_BY)) {
+        line = line.substring(CAUSED_BY.length());
+      } else if (i > 0) {
+        continue;
+      }
+      final int end = line.indexOf(':');
+      final String exceptionClass = end < 0 ? line : line.substring(0, end);
+      if (exceptionClass.equals(errorClass) || exceptionClass.endsWith("." + errorClass)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @VisibleForTesting
+  static boolean matchesUrn(@Nonnull MetadataChangeEvent event, @Nonnull Pattern urnPattern) {
+    if (!event.hasProposedSnapshot()) {
+      return false;
+    }
+    // The snapshot union holds a single snapshot, each of them with an urn field
+    final DataMap union = (DataMap) event.getProposedSnapshot().data();
+    return union.values().stream().anyMatch(snapshot -> snapshot instanceof DataMap
+        && urnPattern.matcher(String.valueOf(((DataMap) snapshot).get("urn"))).matches());
+  }
+}
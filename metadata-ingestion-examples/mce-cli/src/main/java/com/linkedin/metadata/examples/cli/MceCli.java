@@ -18,7 +18,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -38,7 +40,7 @@ import picocli.CommandLine;
 @Component
 public class MceCli implements CommandLineRunner {
   private enum Mode {
-    PRODUCE, CONSUME
+    PRODUCE, CONSUME, REPLAY
   }
 
   private static final class Args {
@@ -51,6 +53,30 @@ public class MceCli implements CommandLineRunner {
         arity = "0..1"
     )
     File eventFile;
+
+    @CommandLine.Option(names = {"--error-class"},
+        description = "Replay mode: only replays failed MCEs with an error or cause of this class.")
+    String errorClass;
+
+    @CommandLine.Option(names = {"--urn-pattern"},
+        description = "Replay mode: only replays failed MCEs with an urn matching this regular expression.")
+    String urnPattern;
+
+    @CommandLine.Option(names = {"--from"},
+        description = "Replay mode: only replays failed MCEs produced after this ISO-8601 instant.")
+    String from;
+
+    @CommandLine.Option(names = {"--to"},
+        description = "Replay mode: only replays failed MCEs produced before this ISO-8601 instant.")
+    String to;
+
+    @CommandLine.Option(names = {"--rate"}, defaultValue = "100",
+        description = "Replay mode: maximum number of MCEs replayed per second.")
+    double rate;
+
+    @CommandLine.Option(names = {"--batch-size"}, defaultValue = "10000",
+        description = "Replay mode: number of failed MCEs coalesced together, keeping the latest value of each aspect.")
+    int batchSize;
   }
 
   @Inject
@@ -105,6 +131,15 @@ public class MceCli implements CommandLineRunner {
     }
   }
 
+  private void replay(@Nonnull Args args) {
+    log.info("Replaying failed MCEs.");
+
+    new FmceReplayer(_consumer, _producer, Topics.FAILED_METADATA_CHANGE_EVENT, Topics.METADATA_CHANGE_EVENT,
+        args.errorClass, args.urnPattern == null ? null : Pattern.compile(args.urnPattern),
+        args.from == null ? null : Instant.parse(args.from), args.to == null ? null : Instant.parse(args.to), args.rate,
+        args.batchSize).replay();
+  }
+
   @Override
   public void run(String... cmdLineArgs) throws Exception {
     final Args args = new Args();
@@ -120,6 +155,9 @@ public class MceCli implements CommandLineRunner {
         }
         produce(args.eventFile);
         break;
+      case REPLAY:
+        replay(args);
+        break;
       default:
         break;
     }
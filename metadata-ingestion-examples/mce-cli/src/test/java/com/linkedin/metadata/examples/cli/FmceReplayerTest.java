@@ -0,0 +1,40 @@
+package com.linkedin.metadata.examples.cli;
+
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.metadata.aspect.CorpUserAspectArray;
+import com.linkedin.metadata.snapshot.CorpUserSnapshot;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.mxe.MetadataChangeEvent;
+import java.util.regex.Pattern;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class FmceReplayerTest {
+
+  private static final String STACK_TRACE = "com.linkedin.metadata.dao.RestliClientException: Timeout\n"
+      + "\tat com.linkedin.metadata.dao.internal.RestliRemoteWriterDAO.create(RestliRemoteWriterDAO.java:40)\n"
+      + "Caused by: java.util.concurrent.TimeoutException: Exceeded request timeout of 10000ms\n"
+      + "\tat com.linkedin.r2.transport.http.client.TimeoutTransportCallback$1.run(TimeoutTransportCallback.java:69)\n";
+
+  @Test
+  public void testHasErrorClass() {
+    assertTrue(FmceReplayer.hasErrorClass(STACK_TRACE, "com.linkedin.metadata.dao.RestliClientException"));
+    assertTrue(FmceReplayer.hasErrorClass(STACK_TRACE, "RestliClientException"));
+    assertTrue(FmceReplayer.hasErrorClass(STACK_TRACE, "TimeoutException"));
+    assertFalse(FmceReplayer.hasErrorClass(STACK_TRACE, "RestliRemoteWriterDAO"));
+    assertFalse(FmceReplayer.hasErrorClass(STACK_TRACE, "IllegalArgumentException"));
+  }
+
+  @Test
+  public void testMatchesUrn() {
+    CorpUserSnapshot snapshot =
+        new CorpUserSnapshot().setUrn(new CorpuserUrn("foo")).setAspects(new CorpUserAspectArray());
+    MetadataChangeEvent event = new MetadataChangeEvent().setProposedSnapshot(Snapshot.create(snapshot));
+
+    assertTrue(FmceReplayer.matchesUrn(event, Pattern.compile("urn:li:corpuser:.*")));
+    assertFalse(FmceReplayer.matchesUrn(event, Pattern.compile("urn:li:dataset:.*")));
+    assertFalse(FmceReplayer.matchesUrn(new MetadataChangeEvent(), Pattern.compile(".*")));
+  }
+}
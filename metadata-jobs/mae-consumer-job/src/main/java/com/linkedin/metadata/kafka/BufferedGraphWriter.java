@@ -0,0 +1,218 @@
+package com.linkedin.metadata.kafka;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.builders.graph.GraphBuilder;
+import com.linkedin.metadata.dao.internal.BaseGraphWriterDAO;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import lombok.Value;
+
+import static com.linkedin.metadata.dao.internal.BaseGraphWriterDAO.RemovalOption.*;
+
+
+/**
+ * Gathers the graph updates of many MAEs and writes them to the graph in a few grouped calls.
+ *
+ * <p>Pending updates are coalesced as they are added: an entity is only written with its latest value, and the
+ * relationships of a given type from a given source are reduced to either the full set replacing all existing ones,
+ * or the relationships to add and to remove. On flush, entities are written with one call per entity type and
+ * relationships with one call per relationship type, except full replacements which the graph writer only supports
+ * one source at a time.
+ *
+ * <p>Updates are flushed once {@code maxPendingUpdates} entities and relationships are pending, or when
+ * {@link #flush()} is called. Both happen in the thread adding the updates, so that a failed write is thrown to the
+ * consumer of the events they came from before their offsets are committed. There is no background flush, as it
+ * could lose updates whose events are already committed.
+ */
+public class BufferedGraphWriter {
+
+  private static final String SOURCE_FIELD = "source";
+
+  private final BaseGraphWriterDAO _graphWriterDAO;
+  private final int _maxPendingUpdates;
+  // Held while writing, so that flushes are written in the order their updates were added
+  private final Object _flushLock = new Object();
+
+  // Pending entities by type, then by urn
+  private Map<Class<? extends RecordTemplate>, Map<Urn, RecordTemplate>> _entities = new LinkedHashMap<>();
+  // Pending relationship changes by type and source
+  private Map<RelationshipKey, RelationshipChanges> _relationships = new LinkedHashMap<>();
+  // Updates with other removal options, written as they were added
+  private List<GraphBuilder.RelationshipUpdates> _otherUpdates = new ArrayList<>();
+  private int _pendingUpdates = 0;
+
+  public BufferedGraphWriter(@Nonnull BaseGraphWriterDAO graphWriterDAO, int maxPendingUpdates) {
+    _graphWriterDAO = graphWriterDAO;
+    _maxPendingUpdates = maxPendingUpdates;
+  }
+
+  /**
+   * Adds the graph updates of an MAE, flushing all pending updates if the buffer is full.
+   */
+  public void add(@Nonnull GraphBuilder.GraphUpdates updates) {
+    final boolean full;
+    synchronized (this) {
+      for (RecordTemplate entity : updates.getEntities()) {
+        final Urn urn = RecordUtils.getRecordTemplateField(entity, "urn", Urn.class);
+        _entities.computeIfAbsent(entity.getClass(), type -> new LinkedHashMap<>()).put(urn, entity);
+        _pendingUpdates++;
+      }
+      for (GraphBuilder.RelationshipUpdates update : updates.getRelationshipUpdates()) {
+        addRelationshipUpdates(update);
+      }
+      full = _pendingUpdates >= _maxPendingUpdates;
+    }
+    if (full) {
+      flush();
+    }
+  }
+
+  private void addRelationshipUpdates(@Nonnull GraphBuilder.RelationshipUpdates update) {
+    final BaseGraphWriterDAO.RemovalOption option = update.getPreUpdateOperation();
+    if (option == REMOVE_ALL_EDGES_FROM_SOURCE && !update.getRelationships().isEmpty()) {
+      // The graph writer requires all relationships replacing the edges of a source to share that source
+      final Map<RelationshipKey, List<RecordTemplate>> bySource = new LinkedHashMap<>();
+      update.getRelationships().forEach(relationship -> bySource.computeIfAbsent(keyOf(relationship),
+          key -> new ArrayList<>()).add(relationship));
+      bySource.forEach((key, relationships) -> _relationships.computeIfAbsent(key, k -> new RelationshipChanges())
+          .replace(relationships));
+    } else if (option == NONE) {
+      update.getRemovedRelationships().forEach(relationship -> _relationships.computeIfAbsent(keyOf(relationship),
+          key -> new RelationshipChanges()).remove(relationship));
+      update.getRelationships().forEach(relationship -> _relationships.computeIfAbsent(keyOf(relationship),
+          key -> new RelationshipChanges()).add(relationship));
+    } else if (!update.getRelationships().isEmpty() || !update.getRemovedRelationships().isEmpty()) {
+      _otherUpdates.add(update);
+    }
+    _pendingUpdates += update.getRelationships().size() + update.getRemovedRelationships().size();
+  }
+
+  /**
+   * Writes all pending updates to the graph.
+   *
+   * <p>All groups are attempted even if some of them fail, in which case the first failure is rethrown once the
+   * buffer is empty.
+   */
+  public void flush() {
+    synchronized (_flushLock) {
+      write();
+    }
+  }
+
+  private void write() {
+    final Map<Class<? extends RecordTemplate>, Map<Urn, RecordTemplate>> entities;
+    final Map<RelationshipKey, RelationshipChanges> relationships;
+    final List<GraphBuilder.RelationshipUpdates> otherUpdates;
+    synchronized (this) {
+      if (_pendingUpdates == 0) {
+        return;
+      }
+      entities = _entities;
+      relationships = _relationships;
+      otherUpdates = _otherUpdates;
+      _entities = new LinkedHashMap<>();
+      _relationships = new LinkedHashMap<>();
+      _otherUpdates = new ArrayList<>();
+      _pendingUpdates = 0;
+    }
+
+    final List<RuntimeException> failures = new ArrayList<>();
+    entities.values()
+        .forEach(byUrn -> write(failures, () -> _graphWriterDAO.addEntities(new ArrayList<>(byUrn.values()))));
+
+    final Map<Class<? extends RecordTemplate>, List<RecordTemplate>> added = new LinkedHashMap<>();
+    final Map<Class<? extends RecordTemplate>, List<RecordTemplate>> removed = new LinkedHashMap<>();
+    relationships.forEach((key, changes) -> {
+      if (changes.isReplacement()) {
+        write(failures, () -> _graphWriterDAO.addRelationships(new ArrayList<>(changes.getAdded()),
+            REMOVE_ALL_EDGES_FROM_SOURCE));
+      } else {
+        added.computeIfAbsent(key.getType(), type -> new ArrayList<>()).addAll(changes.getAdded());
+        removed.computeIfAbsent(key.getType(), type -> new ArrayList<>()).addAll(changes.getRemoved());
+      }
+    });
+    removed.values().stream().filter(list -> !list.isEmpty())
+        .forEach(list -> write(failures, () -> _graphWriterDAO.removeRelationships(list)));
+    added.values().stream().filter(list -> !list.isEmpty())
+        .forEach(list -> write(failures, () -> _graphWriterDAO.addRelationships(list, NONE)));
+
+    otherUpdates.forEach(update -> write(failures,
+        () -> _graphWriterDAO.addRelationships(update.getRelationships(), update.getPreUpdateOperation())));
+
+    if (!failures.isEmpty()) {
+      final RuntimeException failure = failures.get(0);
+      failures.stream().skip(1).forEach(failure::addSuppressed);
+      throw failure;
+    }
+  }
+
+  private static void write(@Nonnull List<RuntimeException> failures, @Nonnull Runnable write) {
+    try {
+      write.run();
+    } catch (RuntimeException e) {
+      failures.add(e);
+    }
+  }
+
+  @Nonnull
+  private static RelationshipKey keyOf(@Nonnull RecordTemplate relationship) {
+    return new RelationshipKey(relationship.getClass(),
+        RecordUtils.getRecordTemplateField(relationship, SOURCE_FIELD, Urn.class));
+  }
+
+  @Value
+  private static class RelationshipKey {
+    Class<? extends RecordTemplate> type;
+    Urn source;
+  }
+
+  /**
+   * Net change to the relationships of a given type from a given source.
+   */
+  private static final class RelationshipChanges {
+    // Whether the added relationships replace all existing ones, in which case there is nothing to remove
+    private boolean _replacement = false;
+    private final Set<RecordTemplate> _added = new LinkedHashSet<>();
+    private final Set<RecordTemplate> _removed = new LinkedHashSet<>();
+
+    void replace(@Nonnull List<RecordTemplate> relationships) {
+      _replacement = true;
+      _added.clear();
+      _removed.clear();
+      _added.addAll(relationships);
+    }
+
+    void add(@Nonnull RecordTemplate relationship) {
+      _removed.remove(relationship);
+      _added.add(relationship);
+    }
+
+    void remove(@Nonnull RecordTemplate relationship) {
+      _added.remove(relationship);
+      if (!_replacement) {
+        _removed.add(relationship);
+      }
+    }
+
+    boolean isReplacement() {
+      return _replacement;
+    }
+
+    @Nonnull
+    Set<RecordTemplate> getAdded() {
+      return _added;
+    }
+
+    @Nonnull
+    Set<RecordTemplate> getRemoved() {
+      return _removed;
+    }
+  }
+}
@@ -7,26 +7,32 @@ import com.linkedin.metadata.builders.graph.BaseGraphBuilder;
 import com.linkedin.metadata.builders.graph.GraphBuilder;
 import com.linkedin.metadata.builders.graph.RegisteredGraphBuilders;
 import com.linkedin.metadata.builders.search.BaseIndexBuilder;
+import com.linkedin.metadata.builders.search.BuilderUtils;
 import com.linkedin.metadata.builders.search.SnapshotProcessor;
-import com.linkedin.metadata.dao.internal.BaseGraphWriterDAO;
 import com.linkedin.metadata.dao.utils.RecordUtils;
 import com.linkedin.metadata.snapshot.Snapshot;
 import com.linkedin.metadata.utils.elasticsearch.ElasticsearchConnector;
 import com.linkedin.metadata.utils.elasticsearch.MCEElasticEvent;
 import com.linkedin.mxe.MetadataAuditEvent;
 import com.linkedin.mxe.Topics;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.lang.reflect.InvocationTargetException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 
@@ -36,23 +42,29 @@ import org.springframework.stereotype.Component;
 public class MetadataAuditEventsProcessor {
   // Doc Type should be updated when ElasticSearch Version is upgraded.
   private static final String DOC_TYPE = "doc";
+  // Every search document is required to have an urn field, which is used as the document ID.
+  private static final String URN_FIELD = "urn";
 
   private ElasticsearchConnector elasticSearchConnector;
   private SnapshotProcessor snapshotProcessor;
-  private BaseGraphWriterDAO graphWriterDAO;
-  private Set<BaseIndexBuilder<? extends RecordTemplate>> indexBuilders;
+  private BufferedGraphWriter graphWriter;
+  // Index name for each registered document type, resolved once so that routing a document is a single lookup.
+  private Map<Class<? extends RecordTemplate>, String> documentTypeToIndex;
 
   public MetadataAuditEventsProcessor(ElasticsearchConnector elasticSearchConnector,
-      SnapshotProcessor snapshotProcessor, BaseGraphWriterDAO graphWriterDAO,
+      SnapshotProcessor snapshotProcessor, BufferedGraphWriter graphWriter,
       Set<BaseIndexBuilder<? extends RecordTemplate>> indexBuilders) {
     this.elasticSearchConnector = elasticSearchConnector;
     this.snapshotProcessor = snapshotProcessor;
-    this.graphWriterDAO = graphWriterDAO;
-    this.indexBuilders = indexBuilders;
+    this.graphWriter = graphWriter;
+    this.documentTypeToIndex = Collections.unmodifiableMap(indexBuilders.stream()
+        .collect(Collectors.toMap(BaseIndexBuilder::getDocumentType,
+            indexBuilder -> indexBuilder.getDocumentType().getSimpleName().toLowerCase(), (first, second) -> first)));
     log.info("registered index builders {}", indexBuilders);
   }
 
-  @KafkaListener(id = "mae-consumer-job-client", topics = "${KAFKA_TOPIC_NAME:" + Topics.METADATA_AUDIT_EVENT + "}")
+  @KafkaListener(id = "mae-consumer-job-client", topics = "${KAFKA_TOPIC_NAME:" + Topics.METADATA_AUDIT_EVENT + "}",
+      autoStartup = "#{!${MAE_CONSUMER_BATCH_ENABLED:false}}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
     final GenericRecord record = consumerRecord.value();
     log.debug("Got MAE");
@@ -65,7 +77,7 @@ public class MetadataAuditEventsProcessor {
         log.info(snapshot.toString());
 
         updateElasticsearch(snapshot);
-        updateNeo4j(RecordUtils.getSelectedRecordTemplateFromUnion(snapshot));
+        updateNeo4j(RecordUtils.getSelectedRecordTemplateFromUnion(snapshot), getOldSnapshot(event));
       }
     } catch (Exception e) {
       log.error("Error deserializing message: {}", e.toString());
@@ -74,64 +86,129 @@ public class MetadataAuditEventsProcessor {
   }
 
   /**
-   * Process snapshot and update Neo4j
+   * Consumes all MAEs returned by a single poll.
    *
-   * @param snapshot Snapshot
+   * <p>The events are converted together, documents of the same type and urn are merged across the whole batch, all
+   * resulting documents are sent to Elasticsearch in one bulk request and the graph updates are written afterwards.
+   * Offsets are only acknowledged once both sinks have accepted the batch; a failure to write to either sink fails the
+   * whole batch so that it is redelivered. Events that cannot be converted are logged and skipped, as in
+   * {@link #consume(ConsumerRecord)}.
+   *
+   * @param consumerRecords records returned by the poll
+   * @param acknowledgment used to commit the offsets of the batch
    */
-  private void updateNeo4j(final RecordTemplate snapshot) {
-    try {
-      final BaseGraphBuilder graphBuilder = RegisteredGraphBuilders.getGraphBuilder(snapshot.getClass()).get();
-      final GraphBuilder.GraphUpdates updates = graphBuilder.build(snapshot);
+  @KafkaListener(id = "mae-consumer-job-batch-client", groupId = "mae-consumer-job-client",
+      topics = "${KAFKA_TOPIC_NAME:" + Topics.METADATA_AUDIT_EVENT + "}",
+      containerFactory = "batchKafkaListenerContainerFactory", autoStartup = "${MAE_CONSUMER_BATCH_ENABLED:false}")
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords,
+      final Acknowledgment acknowledgment) throws IOException {
+    log.debug("Got {} MAEs", consumerRecords.size());
 
-      if (!updates.getEntities().isEmpty()) {
-        graphWriterDAO.addEntities(updates.getEntities());
+    final List<RecordTemplate> docs = new ArrayList<>();
+    final List<GraphBuilder.GraphUpdates> graphUpdates = new ArrayList<>();
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      final GenericRecord record = consumerRecord.value();
+      try {
+        final MetadataAuditEvent event = EventUtils.avroToPegasusMAE(record);
+        if (event.hasNewSnapshot()) {
+          final Snapshot snapshot = event.getNewSnapshot();
+          docs.addAll(snapshotProcessor.getDocumentsToUpdate(snapshot));
+          graphUpdates.add(
+              getGraphUpdates(RecordUtils.getSelectedRecordTemplateFromUnion(snapshot), getOldSnapshot(event)));
+        }
+      } catch (Exception e) {
+        log.error("Error processing message at offset {} of partition {}: {}", consumerRecord.offset(),
+            consumerRecord.partition(), e.toString());
+        log.error("Message: {}", record);
       }
+    }
 
-      for (GraphBuilder.RelationshipUpdates update : updates.getRelationshipUpdates()) {
-        graphWriterDAO.addRelationships(update.getRelationships(), update.getPreUpdateOperation());
-      }
+    final List<MCEElasticEvent> elasticEvents = getElasticEvents(BuilderUtils.mergeDocuments(docs));
+    if (!elasticEvents.isEmpty()) {
+      elasticSearchConnector.feedElasticEventsSync(elasticEvents);
+    }
+    graphUpdates.forEach(graphWriter::add);
+    graphWriter.flush();
+
+    acknowledgment.acknowledge();
+  }
+
+  /**
+   * Process snapshot and update Neo4j
+   *
+   * <p>The updates are written right away, as offsets of single records may be committed as soon as they are consumed.
+   *
+   * @param snapshot Snapshot
+   * @param oldSnapshot Snapshot before the change, used to only write the relationships that changed
+   */
+  private void updateNeo4j(final RecordTemplate snapshot, @Nullable final RecordTemplate oldSnapshot) {
+    try {
+      graphWriter.add(getGraphUpdates(snapshot, oldSnapshot));
+      graphWriter.flush();
     } catch (Exception ex) {
       log.error(ex.toString() + " " + Arrays.toString(ex.getStackTrace()));
     }
   }
 
+  @Nullable
+  private static RecordTemplate getOldSnapshot(@Nonnull MetadataAuditEvent event) {
+    return event.hasOldSnapshot() ? RecordUtils.getSelectedRecordTemplateFromUnion(event.getOldSnapshot()) : null;
+  }
+
+  @Nonnull
+  private GraphBuilder.GraphUpdates getGraphUpdates(@Nonnull RecordTemplate snapshot,
+      @Nullable RecordTemplate oldSnapshot) {
+    final BaseGraphBuilder graphBuilder = RegisteredGraphBuilders.getGraphBuilder(snapshot.getClass()).get();
+    if (oldSnapshot != null && oldSnapshot.getClass() == snapshot.getClass()) {
+      return graphBuilder.build(snapshot, oldSnapshot);
+    }
+    return graphBuilder.build(snapshot);
+  }
+
   /**
    * Process snapshot and update Elasticsearch
    *
    * @param snapshot Snapshot
    */
   private void updateElasticsearch(final Snapshot snapshot) {
-    List<RecordTemplate> docs = new ArrayList<>();
+    List<MCEElasticEvent> elasticEvents = new ArrayList<>();
     try {
-      docs = snapshotProcessor.getDocumentsToUpdate(snapshot);
+      elasticEvents = getElasticEvents(snapshotProcessor.getDocumentsToUpdate(snapshot));
     } catch (Exception e) {
       log.error("Error in getting documents from snapshot: {}", e.toString());
     }
 
+    elasticEvents.forEach(elasticSearchConnector::feedElasticEvent);
+  }
+
+  /**
+   * Builds the Elasticsearch events for a list of documents
+   *
+   * @param docs documents generated from snapshots
+   * @return list of events to be fed to Elasticsearch
+   */
+  @Nonnull
+  private List<MCEElasticEvent> getElasticEvents(@Nonnull List<RecordTemplate> docs) {
+    final List<MCEElasticEvent> elasticEvents = new ArrayList<>();
+
     for (RecordTemplate doc : docs) {
-      MCEElasticEvent elasticEvent = new MCEElasticEvent(doc);
-      BaseIndexBuilder indexBuilderForDoc = null;
-      for (BaseIndexBuilder indexBuilder : indexBuilders) {
-        Class docType = indexBuilder.getDocumentType();
-        if (docType.isInstance(doc)) {
-          indexBuilderForDoc = indexBuilder;
-          break;
-        }
-      }
-      if (indexBuilderForDoc == null) {
+      final String index = documentTypeToIndex.get(doc.getClass());
+      if (index == null) {
         continue;
       }
-      elasticEvent.setIndex(indexBuilderForDoc.getDocumentType().getSimpleName().toLowerCase());
+      MCEElasticEvent elasticEvent = new MCEElasticEvent(doc);
+      elasticEvent.setIndex(index);
       elasticEvent.setType(DOC_TYPE);
       try {
-        String urn = indexBuilderForDoc.getDocumentType().getMethod("getUrn").invoke(doc).toString();
+        String urn = doc.data().getString(URN_FIELD);
         elasticEvent.setId(URLEncoder.encode(urn.toLowerCase(), "UTF-8"));
-      } catch (UnsupportedEncodingException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      } catch (UnsupportedEncodingException e) {
         log.error("Failed to encode the urn with error: {}", e.toString());
         continue;
       }
       elasticEvent.setActionType(ChangeType.UPDATE);
-      elasticSearchConnector.feedElasticEvent(elasticEvent);
+      elasticEvents.add(elasticEvent);
     }
+    return elasticEvents;
   }
 }
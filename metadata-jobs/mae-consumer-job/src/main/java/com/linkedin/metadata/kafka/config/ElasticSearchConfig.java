@@ -1,12 +1,24 @@
 package com.linkedin.metadata.kafka.config;
 
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.gms.factory.common.InstrumentedThreadPoolExecutor;
 import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
 import com.linkedin.metadata.builders.search.BaseIndexBuilder;
 import com.linkedin.metadata.builders.search.SnapshotProcessor;
+import com.linkedin.metadata.utils.elasticsearch.BulkMetrics;
+import com.linkedin.metadata.utils.elasticsearch.BulkProcessorConfig;
 import com.linkedin.metadata.utils.elasticsearch.ElasticsearchConnector;
 import com.linkedin.metadata.utils.elasticsearch.ElasticsearchConnectorFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,17 +36,73 @@ public class ElasticSearchConfig {
   private String elasticSearchHost;
   @Value("${ELASTICSEARCH_PORT:9200}")
   private int elasticSearchPort;
+  @Value("${MAE_CONSUMER_INDEX_BUILDER_THREADS:0}")
+  private int indexBuilderThreads;
+  @Value("${ES_BULK_REQUESTS_LIMIT:10000}")
+  private int bulkRequestsLimit;
+  @Value("${ES_BULK_SIZE_BYTES:5242880}")
+  private long bulkSizeBytes;
+  @Value("${ES_BULK_FLUSH_PERIOD:1}")
+  private int bulkFlushPeriod;
+  @Value("${ES_BULK_CONCURRENT_REQUESTS:1}")
+  private int bulkConcurrentRequests;
+  @Value("${ES_BULK_INITIAL_BACKOFF_MILLIS:1000}")
+  private long bulkInitialBackoffMillis;
+  @Value("${ES_BULK_NUM_RETRIES:3}")
+  private int bulkNumRetries;
+  @Value("${ES_BULK_MAX_ITEM_RETRIES:3}")
+  private int bulkMaxItemRetries;
 
   @Bean
   public ElasticsearchConnector elasticSearchConnector() {
+    final BulkProcessorConfig bulkProcessorConfig = BulkProcessorConfig.builder()
+        .bulkRequestsLimit(bulkRequestsLimit)
+        .bulkSizeBytes(bulkSizeBytes)
+        .bulkFlushPeriodSeconds(bulkFlushPeriod)
+        .concurrentRequests(bulkConcurrentRequests)
+        .initialBackoffMillis(bulkInitialBackoffMillis)
+        .numRetries(bulkNumRetries)
+        .maxItemRetries(bulkMaxItemRetries)
+        .build();
     final ElasticsearchConnector elasticSearchConnector =
-        ElasticsearchConnectorFactory.createInstance(elasticSearchHost, elasticSearchPort);
-    log.info("ElasticSearchConnector built successfully");
+        ElasticsearchConnectorFactory.createInstance(elasticSearchHost, elasticSearchPort, bulkProcessorConfig);
+    log.info("ElasticSearchConnector built successfully with {}", bulkProcessorConfig);
     return elasticSearchConnector;
   }
 
+  /**
+   * Exposes the metrics of the Elasticsearch bulk pipeline through the actuator metrics endpoint.
+   */
+  @Bean
+  public MeterBinder elasticSearchBulkMetrics(@Nonnull ElasticsearchConnector elasticSearchConnector) {
+    final BulkMetrics metrics = elasticSearchConnector.getBulkMetrics();
+    return registry -> {
+      Gauge.builder("elasticsearch.bulk.pending", metrics, BulkMetrics::getPendingRequests)
+          .description("Requests added to the bulk pipeline and not acknowledged by Elasticsearch yet")
+          .register(registry);
+      FunctionTimer.builder("elasticsearch.bulk.requests", metrics, BulkMetrics::getBulkRequests,
+          BulkMetrics::getBulkTimeMillis, TimeUnit.MILLISECONDS)
+          .description("Bulk requests executed against Elasticsearch")
+          .register(registry);
+      registerCounter(registry, "elasticsearch.bulk.retries", metrics, BulkMetrics::getBulkRetries);
+      registerCounter(registry, "elasticsearch.bulk.failures", metrics, BulkMetrics::getFailedBulkRequests);
+      registerCounter(registry, "elasticsearch.bulk.items.succeeded", metrics, BulkMetrics::getSucceededItems);
+      registerCounter(registry, "elasticsearch.bulk.items.failed", metrics, BulkMetrics::getFailedItems);
+      registerCounter(registry, "elasticsearch.bulk.items.requeued", metrics, BulkMetrics::getRequeuedItems);
+      registerCounter(registry, "elasticsearch.bulk.items.deadlettered", metrics, BulkMetrics::getDeadLetteredItems);
+    };
+  }
+
+  private static void registerCounter(@Nonnull MeterRegistry registry,
+      @Nonnull String name, @Nonnull BulkMetrics metrics, @Nonnull ToDoubleFunction<BulkMetrics> count) {
+    FunctionCounter.builder(name, metrics, count).register(registry);
+  }
+
   @Bean
   public SnapshotProcessor snapshotProcessor(@Nonnull Set<BaseIndexBuilder<? extends RecordTemplate>> indexBuilders) {
-    return new SnapshotProcessor(indexBuilders);
+    // Builders run on their own pool rather than the common fork join pool shared by the whole JVM
+    final ExecutorService builderExecutor = indexBuilderThreads > 0 ? Executors.newFixedThreadPool(indexBuilderThreads,
+        InstrumentedThreadPoolExecutor.newDaemonThreadFactory("index-builder")) : null;
+    return new SnapshotProcessor(indexBuilders, builderExecutor);
   }
 }
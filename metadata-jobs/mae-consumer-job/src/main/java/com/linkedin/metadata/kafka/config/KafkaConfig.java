@@ -15,6 +15,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.SeekToCurrentBatchErrorHandler;
 
 
 @Slf4j
@@ -24,17 +26,55 @@ public class KafkaConfig {
   private String kafkaBootstrapServer;
   @Value("${KAFKA_SCHEMAREGISTRY_URL:http://localhost:8081}")
   private String kafkaSchemaRegistryUrl;
+  @Value("${MAE_CONSUMER_BATCH_MAX_POLL_RECORDS:500}")
+  private int batchMaxPollRecords;
 
   @Bean
   public KafkaListenerContainerFactory<?> kafkaListenerContainerFactory(KafkaProperties properties) {
+    Map<String, Object> props = buildConsumerProperties(properties);
+    // Records will be flushed every 10 seconds.
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+    props.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, (int) Duration.ofSeconds(10).toMillis());
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+
+    log.info("KafkaListenerContainerFactory built successfully");
+
+    return factory;
+  }
+
+  /**
+   * Listener container factory for consuming a whole poll of records at once.
+   *
+   * <p>Offsets are committed manually by the listener once the batch has been written to all sinks. If the listener
+   * fails, the consumer seeks back to the start of the batch so that it is redelivered.
+   */
+  @Bean
+  public KafkaListenerContainerFactory<?> batchKafkaListenerContainerFactory(KafkaProperties properties) {
+    Map<String, Object> props = buildConsumerProperties(properties);
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+    factory.setBatchListener(true);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+    factory.setBatchErrorHandler(new SeekToCurrentBatchErrorHandler());
+
+    log.info("Batch KafkaListenerContainerFactory built successfully");
+
+    return factory;
+  }
+
+  private Map<String, Object> buildConsumerProperties(KafkaProperties properties) {
     KafkaProperties.Consumer consumerProps = properties.getConsumer();
 
     // Specify (de)serializers for record keys and for record values.
     consumerProps.setKeyDeserializer(StringDeserializer.class);
     consumerProps.setValueDeserializer(KafkaAvroDeserializer.class);
-    // Records will be flushed every 10 seconds.
-    consumerProps.setEnableAutoCommit(true);
-    consumerProps.setAutoCommitInterval(Duration.ofSeconds(10));
 
     Map<String, Object> props = properties.buildConsumerProperties();
 
@@ -44,13 +84,6 @@ public class KafkaConfig {
     } // else we rely on KafkaProperties which defaults to localhost:9092
 
     props.put(AbstractKafkaAvroSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, kafkaSchemaRegistryUrl);
-
-    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
-        new ConcurrentKafkaListenerContainerFactory<>();
-    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
-
-    log.info("KafkaListenerContainerFactory built successfully");
-
-    return factory;
+    return props;
   }
 }
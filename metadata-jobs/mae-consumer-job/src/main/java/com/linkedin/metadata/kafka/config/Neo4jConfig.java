@@ -1,11 +1,13 @@
 package com.linkedin.metadata.kafka.config;
 
 import org.neo4j.driver.Driver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 import com.linkedin.gms.factory.common.Neo4jDriverFactory;
+import com.linkedin.metadata.kafka.BufferedGraphWriter;
 import com.linkedin.metadata.dao.internal.BaseGraphWriterDAO;
 import com.linkedin.metadata.dao.internal.Neo4jGraphWriterDAO;
 
@@ -21,6 +23,9 @@ public class Neo4jConfig {
 
   private final Driver neo4jDriver;
 
+  @Value("${MAE_CONSUMER_GRAPH_BUFFER_SIZE:1000}")
+  private int graphBufferSize;
+
   @Bean
   public BaseGraphWriterDAO graphWriterDAO() {
     BaseGraphWriterDAO graphWriterDAO;
@@ -33,4 +38,9 @@ public class Neo4jConfig {
 
     return graphWriterDAO;
   }
-}
\ No newline at end of file
+
+  @Bean
+  public BufferedGraphWriter bufferedGraphWriter(BaseGraphWriterDAO graphWriterDAO) {
+    return new BufferedGraphWriter(graphWriterDAO, graphBufferSize);
+  }
+}
@@ -0,0 +1,159 @@
+package com.linkedin.metadata.kafka;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.builders.graph.GraphBuilder;
+import com.linkedin.metadata.dao.internal.BaseGraphWriterDAO;
+import com.linkedin.metadata.entity.DatasetEntity;
+import com.linkedin.metadata.relationship.DownstreamOf;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.annotation.Nonnull;
+import org.mockito.InOrder;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.dao.internal.BaseGraphWriterDAO.RemovalOption.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class BufferedGraphWriterTest {
+
+  private static final DatasetUrn A = makeUrn("a");
+  private static final DatasetUrn B = makeUrn("b");
+  private static final DatasetUrn C = makeUrn("c");
+  private static final DatasetUrn D = makeUrn("d");
+
+  private BaseGraphWriterDAO _graphWriterDAO;
+  private BufferedGraphWriter _writer;
+
+  @BeforeMethod
+  public void setup() {
+    _graphWriterDAO = mock(BaseGraphWriterDAO.class);
+    _writer = new BufferedGraphWriter(_graphWriterDAO, 100);
+  }
+
+  @Test
+  public void testNetsAddedAndRemovedRelationships() {
+    _writer.add(relationships(
+        new GraphBuilder.RelationshipUpdates(Collections.singletonList(downstreamOf(A, B)), NONE)));
+    _writer.add(relationships(new GraphBuilder.RelationshipUpdates(Collections.emptyList(), NONE,
+        Arrays.asList(downstreamOf(A, B), downstreamOf(A, C)))));
+    _writer.add(relationships(
+        new GraphBuilder.RelationshipUpdates(Collections.singletonList(downstreamOf(A, C)), NONE)));
+
+    _writer.flush();
+
+    InOrder inOrder = inOrder(_graphWriterDAO);
+    inOrder.verify(_graphWriterDAO).removeRelationships(Collections.singletonList(downstreamOf(A, B)));
+    inOrder.verify(_graphWriterDAO).addRelationships(Collections.singletonList(downstreamOf(A, C)), NONE);
+    verifyNoMoreInteractions(_graphWriterDAO);
+  }
+
+  @Test
+  public void testReplacementAbsorbsLaterChanges() {
+    _writer.add(relationships(
+        new GraphBuilder.RelationshipUpdates(Collections.singletonList(downstreamOf(A, B)), NONE)));
+    _writer.add(relationships(new GraphBuilder.RelationshipUpdates(Collections.singletonList(downstreamOf(A, C)),
+        REMOVE_ALL_EDGES_FROM_SOURCE)));
+    _writer.add(relationships(new GraphBuilder.RelationshipUpdates(Collections.singletonList(downstreamOf(A, D)), NONE,
+        Collections.singletonList(downstreamOf(A, C)))));
+
+    _writer.flush();
+
+    verify(_graphWriterDAO).addRelationships(Collections.singletonList(downstreamOf(A, D)),
+        REMOVE_ALL_EDGES_FROM_SOURCE);
+    verifyNoMoreInteractions(_graphWriterDAO);
+  }
+
+  @Test
+  public void testSplitsReplacementPerSource() {
+    _writer.add(relationships(new GraphBuilder.RelationshipUpdates(
+        Arrays.asList(downstreamOf(A, B), downstreamOf(C, D), downstreamOf(A, D)), REMOVE_ALL_EDGES_FROM_SOURCE)));
+
+    _writer.flush();
+
+    verify(_graphWriterDAO).addRelationships(Arrays.asList(downstreamOf(A, B), downstreamOf(A, D)),
+        REMOVE_ALL_EDGES_FROM_SOURCE);
+    verify(_graphWriterDAO).addRelationships(Collections.singletonList(downstreamOf(C, D)),
+        REMOVE_ALL_EDGES_FROM_SOURCE);
+    verifyNoMoreInteractions(_graphWriterDAO);
+  }
+
+  @Test
+  public void testWritesLatestValueOfEntity() {
+    _writer.add(entities(entity(A, "first"), entity(B, "b")));
+    _writer.add(entities(entity(A, "second")));
+
+    _writer.flush();
+
+    verify(_graphWriterDAO).addEntities(Arrays.asList(entity(A, "second"), entity(B, "b")));
+    verifyNoMoreInteractions(_graphWriterDAO);
+  }
+
+  @Test
+  public void testFlushesWhenFull() {
+    _writer = new BufferedGraphWriter(_graphWriterDAO, 2);
+
+    _writer.add(entities(entity(A, "a")));
+    verifyZeroInteractions(_graphWriterDAO);
+
+    _writer.add(entities(entity(B, "b")));
+    verify(_graphWriterDAO).addEntities(Arrays.asList(entity(A, "a"), entity(B, "b")));
+  }
+
+  @Test
+  public void testFlushAttemptsAllWritesAndRethrowsFirstFailure() {
+    RuntimeException first = new RuntimeException("entities");
+    RuntimeException second = new RuntimeException("removed relationships");
+    doThrow(first).when(_graphWriterDAO).addEntities(anyList());
+    doThrow(second).when(_graphWriterDAO).removeRelationships(anyList());
+
+    _writer.add(new GraphBuilder.GraphUpdates(Collections.singletonList(entity(A, "a")), Collections.singletonList(
+        new GraphBuilder.RelationshipUpdates(Collections.singletonList(downstreamOf(A, B)), NONE,
+            Collections.singletonList(downstreamOf(A, C))))));
+
+    try {
+      _writer.flush();
+      fail("Flush did not fail");
+    } catch (RuntimeException e) {
+      assertSame(e, first);
+      assertEquals(Arrays.asList(e.getSuppressed()), Collections.singletonList(second));
+    }
+    verify(_graphWriterDAO).addRelationships(Collections.singletonList(downstreamOf(A, B)), NONE);
+
+    // Failed updates are not kept
+    _writer.flush();
+    verify(_graphWriterDAO).addEntities(anyList());
+    verify(_graphWriterDAO).removeRelationships(anyList());
+    verifyNoMoreInteractions(_graphWriterDAO);
+  }
+
+  @Nonnull
+  private static GraphBuilder.GraphUpdates entities(@Nonnull RecordTemplate... entities) {
+    return new GraphBuilder.GraphUpdates(Arrays.asList(entities), Collections.emptyList());
+  }
+
+  @Nonnull
+  private static GraphBuilder.GraphUpdates relationships(@Nonnull GraphBuilder.RelationshipUpdates updates) {
+    return new GraphBuilder.GraphUpdates(Collections.emptyList(), Collections.singletonList(updates));
+  }
+
+  @Nonnull
+  private static DatasetEntity entity(@Nonnull DatasetUrn urn, @Nonnull String name) {
+    return new DatasetEntity().setUrn(urn).setName(name);
+  }
+
+  @Nonnull
+  private static DownstreamOf downstreamOf(@Nonnull DatasetUrn source, @Nonnull DatasetUrn destination) {
+    return new DownstreamOf().setSource(source).setDestination(destination);
+  }
+
+  @Nonnull
+  private static DatasetUrn makeUrn(@Nonnull String name) {
+    return new DatasetUrn(new DataPlatformUrn("hdfs"), name, FabricType.PROD);
+  }
+}
@@ -0,0 +1,82 @@
+package com.linkedin.metadata.kafka;
+
+/**
+ * Limits the number of concurrent calls to a service, adapting the limit to how the service copes with the load.
+ *
+ * <p>The limit follows an additive increase, multiplicative decrease (AIMD) policy: every call completing within
+ * {@code latencyThresholdMillis} raises the limit by {@code 1 / limit}, i.e. by one once a full limit of calls
+ * succeeded, while a call that is slower or overloaded the service multiplies it by {@code backoffRatio}. The limit
+ * always stays between {@code minLimit} and {@code maxLimit}.
+ *
+ * <p>The limit decreases at most once per round trip: only a call acquired after the last decrease can decrease it
+ * again, so that the calls already in flight when the service got overloaded, which typically all fail or slow down
+ * together, count as a single congestion signal.
+ */
+public class AimdConcurrencyLimiter {
+
+  private final int _minLimit;
+  private final int _maxLimit;
+  private final long _latencyThresholdMillis;
+  private final double _backoffRatio;
+
+  private double _limit;
+  private int _inFlight = 0;
+  // Number of decreases of the limit so far, handed out as the ticket of the calls acquired since the last one
+  private long _decreases = 0;
+
+  public AimdConcurrencyLimiter(int minLimit, int maxLimit, long latencyThresholdMillis, double backoffRatio) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Limits must be positive, with the minimum limit below the maximum one");
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("The backoff ratio must be between 0 and 1");
+    }
+    _minLimit = minLimit;
+    _maxLimit = maxLimit;
+    _latencyThresholdMillis = latencyThresholdMillis;
+    _backoffRatio = backoffRatio;
+    _limit = maxLimit;
+  }
+
+  /**
+   * Waits until a call can be made under the current limit.
+   *
+   * @return the ticket of the call, to pass to {@link #release(long, long, boolean)}
+   */
+  public synchronized long acquire() throws InterruptedException {
+    while (_inFlight >= (int) _limit) {
+      wait();
+    }
+    _inFlight++;
+    return _decreases;
+  }
+
+  /**
+   * Reports the outcome of a call made after {@link #acquire()}.
+   *
+   * @param ticket ticket returned by {@link #acquire()} for the call
+   * @param latencyMillis time taken by the call
+   * @param overloaded whether the call failed because the service is overloaded
+   */
+  public synchronized void release(long ticket, long latencyMillis, boolean overloaded) {
+    _inFlight--;
+    if (overloaded || latencyMillis > _latencyThresholdMillis) {
+      // Calls acquired before the last decrease were made under the previous limit
+      if (ticket == _decreases) {
+        _limit = Math.max(_minLimit, _limit * _backoffRatio);
+        _decreases++;
+      }
+    } else {
+      _limit = Math.min(_maxLimit, _limit + 1 / _limit);
+    }
+    notifyAll();
+  }
+
+  public synchronized int getLimit() {
+    return (int) _limit;
+  }
+
+  public synchronized int getInFlight() {
+    return _inFlight;
+  }
+}
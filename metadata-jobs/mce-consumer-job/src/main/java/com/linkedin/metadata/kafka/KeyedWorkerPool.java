@@ -0,0 +1,66 @@
+package com.linkedin.metadata.kafka;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Runs tasks on a fixed set of single-threaded workers, picking the worker from the key of each task.
+ *
+ * <p>Tasks with the same key therefore run one after the other in the order they were submitted, while tasks with
+ * different keys may run concurrently. The number of tasks submitted but not completed yet is bounded: once the bound
+ * is reached, {@link #submit(Object, Runnable)} blocks until a task completes.
+ */
+public class KeyedWorkerPool implements Closeable {
+
+  private final ExecutorService[] _workers;
+  private final Semaphore _inFlight;
+
+  public KeyedWorkerPool(int workers, int maxInFlight) {
+    if (workers < 1 || maxInFlight < 1) {
+      throw new IllegalArgumentException("The number of workers and of tasks in flight must be positive");
+    }
+    _workers = new ExecutorService[workers];
+    for (int i = 0; i < workers; i++) {
+      final String name = "mce-worker-" + i;
+      _workers[i] = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    _inFlight = new Semaphore(maxInFlight);
+  }
+
+  /**
+   * Submits a task to the worker of its key.
+   *
+   * @param key key ordering the task relative to other tasks
+   * @param task task to run
+   * @return a future completed once the task has run
+   * @throws InterruptedException if interrupted while waiting for a task to complete
+   */
+  @Nonnull
+  public CompletableFuture<Void> submit(@Nonnull Object key, @Nonnull Runnable task) throws InterruptedException {
+    _inFlight.acquire();
+    try {
+      return CompletableFuture.runAsync(task, _workers[Math.floorMod(key.hashCode(), _workers.length)])
+          .whenComplete((result, throwable) -> _inFlight.release());
+    } catch (RejectedExecutionException e) {
+      _inFlight.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() {
+    for (ExecutorService worker : _workers) {
+      worker.shutdown();
+    }
+  }
+}
@@ -7,12 +7,18 @@ import com.linkedin.metadata.dao.internal.BaseRemoteWriterDAO;
 import com.linkedin.metadata.dao.utils.ModelUtils;
 import com.linkedin.metadata.dao.utils.RecordUtils;
 import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.mxe.MetadataChangeEventCoalescer;
 import com.linkedin.mxe.FailedMetadataChangeEvent;
 import com.linkedin.mxe.MetadataChangeEvent;
 import com.linkedin.mxe.Topics;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -20,7 +26,9 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 
@@ -29,36 +37,172 @@ import org.springframework.stereotype.Component;
 @EnableKafka
 public class MetadataChangeEventsProcessor {
 
+  private static final String LISTENER_ID = "mce-consumer-job-client";
+  private static final String PARALLEL_LISTENER_ID = "mce-consumer-job-parallel-client";
+  private static final String PROPOSED_SNAPSHOT_FIELD = "proposedSnapshot";
+  private static final String URN_FIELD = "urn";
+
   private BaseRemoteWriterDAO remoteWriterDAO;
   private KafkaTemplate<String, GenericRecord> kafkaTemplate;
+  private KeyedWorkerPool workerPool;
+  private WriteBackPressure backPressure;
+  private KafkaListenerEndpointRegistry registry;
 
   @Value("${KAFKA_FMCE_TOPIC_NAME:" + Topics.FAILED_METADATA_CHANGE_EVENT + "}")
   private String fmceTopicName;
+  @Value("${MCE_CONSUMER_PARALLEL_ENABLED:false}")
+  private boolean parallelEnabled;
+  @Value("${MCE_CONSUMER_COALESCE_ENABLED:false}")
+  private boolean coalesceEnabled;
 
   public MetadataChangeEventsProcessor(BaseRemoteWriterDAO remoteWriterDAO,
-      KafkaTemplate<String, GenericRecord> kafkaTemplate) {
+      KafkaTemplate<String, GenericRecord> kafkaTemplate, KeyedWorkerPool workerPool, WriteBackPressure backPressure,
+      KafkaListenerEndpointRegistry registry) {
     this.remoteWriterDAO = remoteWriterDAO;
     this.kafkaTemplate = kafkaTemplate;
+    this.workerPool = workerPool;
+    this.backPressure = backPressure;
+    this.registry = registry;
+  }
+
+  @PostConstruct
+  void warnIfCoalescingIgnored() {
+    if (coalesceEnabled && !parallelEnabled) {
+      log.warn("MCE_CONSUMER_COALESCE_ENABLED is ignored as MCEs are only coalesced when MCE_CONSUMER_PARALLEL_ENABLED "
+          + "is true");
+    }
   }
 
-  @KafkaListener(id = "mce-consumer-job-client",
-      topics = "${KAFKA_MCE_TOPIC_NAME:" + Topics.METADATA_CHANGE_EVENT + "}")
+  @KafkaListener(id = LISTENER_ID,
+      topics = "${KAFKA_MCE_TOPIC_NAME:" + Topics.METADATA_CHANGE_EVENT + "}",
+      autoStartup = "#{!${MCE_CONSUMER_PARALLEL_ENABLED:false}}")
   public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
+    processRecord(consumerRecord);
+    backPressure.afterBatch(registry.getListenerContainer(LISTENER_ID));
+  }
+
+  private void processRecord(@Nonnull ConsumerRecord<String, GenericRecord> consumerRecord) {
+    final MetadataChangeEvent event = toEvent(consumerRecord.value());
+    if (event != null) {
+      process(event);
+    }
+  }
+
+  /**
+   * Consumes all MCEs returned by a single poll concurrently.
+   *
+   * <p>Each MCE is processed as in {@link #consume(ConsumerRecord)} by the worker picked from the urn of its snapshot,
+   * so that the MCEs of an entity are written in the order they were received while those of different entities are
+   * written concurrently. Offsets are only acknowledged once every MCE of the batch has been written or sent to the
+   * failed MCE topic.
+   *
+   * <p>The poll is a barrier: the next poll only starts once its slowest MCE completes, so a slow entity holds back the
+   * workers which are done with the other entities of the poll. Committing offsets as each partition's records
+   * complete would lift it, at the cost of tracking completions across polls; the barrier keeps offsets committed once
+   * per poll, from the consumer thread, like the other listeners. If the batch fails, it is redelivered as a whole by
+   * the error handler of the container.
+   *
+   * <p>If coalescing is enabled, the MCEs of the batch proposing changes to the same entity are first collapsed into a
+   * single MCE, see {@link MetadataChangeEventCoalescer}.
+   *
+   * @param consumerRecords records returned by the poll
+   * @param acknowledgment used to commit the offsets of the batch
+   */
+  @KafkaListener(id = PARALLEL_LISTENER_ID, groupId = "mce-consumer-job-client",
+      topics = "${KAFKA_MCE_TOPIC_NAME:" + Topics.METADATA_CHANGE_EVENT + "}",
+      containerFactory = "parallelKafkaListenerContainerFactory",
+      autoStartup = "${MCE_CONSUMER_PARALLEL_ENABLED:false}")
+  public void consumeParallel(final List<ConsumerRecord<String, GenericRecord>> consumerRecords,
+      final Acknowledgment acknowledgment) throws InterruptedException {
+    log.debug("Got {} MCEs", consumerRecords.size());
+
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(consumerRecords.size());
+    if (coalesceEnabled) {
+      final List<MetadataChangeEvent> events = new ArrayList<>(consumerRecords.size());
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        final MetadataChangeEvent event = toEvent(consumerRecord.value());
+        if (event != null) {
+          events.add(event);
+        }
+      }
+      final List<MetadataChangeEvent> coalescedEvents = MetadataChangeEventCoalescer.coalesce(events);
+      log.debug("Coalesced {} MCEs into {}", events.size(), coalescedEvents.size());
+      for (MetadataChangeEvent event : coalescedEvents) {
+        futures.add(workerPool.submit(getOrderingKey(event), () -> process(event)));
+      }
+    } else {
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        futures.add(workerPool.submit(getOrderingKey(consumerRecord), () -> processRecord(consumerRecord)));
+      }
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    acknowledgment.acknowledge();
+    backPressure.afterBatch(registry.getListenerContainer(PARALLEL_LISTENER_ID));
+  }
+
+  /**
+   * Gets the key ordering the processing of a record, which is the urn of its proposed snapshot read straight from the
+   * Avro record. Records without one are ordered by partition.
+   */
+  @Nonnull
+  private static Object getOrderingKey(@Nonnull ConsumerRecord<String, GenericRecord> consumerRecord) {
     final GenericRecord record = consumerRecord.value();
+    final Object snapshot = record == null ? null : record.get(PROPOSED_SNAPSHOT_FIELD);
+    if (snapshot instanceof GenericRecord) {
+      final Object urn = ((GenericRecord) snapshot).get(URN_FIELD);
+      if (urn != null) {
+        return urn.toString();
+      }
+    }
+    return consumerRecord.partition();
+  }
+
+  /**
+   * Gets the key ordering the processing of an MCE, which is the urn of its proposed snapshot.
+   */
+  @Nonnull
+  private static Object getOrderingKey(@Nonnull MetadataChangeEvent event) {
+    if (event.hasProposedSnapshot()) {
+      final Object urn =
+          RecordUtils.getSelectedRecordTemplateFromUnion(event.getProposedSnapshot()).data().get(URN_FIELD);
+      if (urn != null) {
+        return urn;
+      }
+    }
+    return "";
+  }
+
+  /**
+   * Converts an Avro MCE to its Pegasus counterpart, sending a failed MCE if it cannot be converted.
+   *
+   * @return the converted MCE, or null if it could not be converted
+   */
+  @Nullable
+  private MetadataChangeEvent toEvent(@Nullable GenericRecord record) {
     log.debug("Got MCE");
     log.debug("Record ", record);
 
-    MetadataChangeEvent event = new MetadataChangeEvent();
-
     try {
-      event = EventUtils.avroToPegasusMCE(record);
+      final MetadataChangeEvent event = EventUtils.avroToPegasusMCE(record);
       log.debug("MetadataChangeEvent {}", event);
+      return event;
+    } catch (Throwable throwable) {
+      log.error("MCE Processor Error", throwable);
+      log.error("Message: {}", record);
+      sendFailedMCE(new MetadataChangeEvent(), throwable);
+      return null;
+    }
+  }
+
+  private void process(@Nonnull MetadataChangeEvent event) {
+    try {
       if (event.hasProposedSnapshot()) {
         processProposedSnapshot(event);
       }
     } catch (Throwable throwable) {
       log.error("MCE Processor Error", throwable);
-      log.error("Message: {}", record);
+      log.error("Message: {}", event);
       sendFailedMCE(event, throwable);
     }
   }
@@ -102,6 +246,11 @@ public class MetadataChangeEventsProcessor {
     Snapshot snapshotUnion = metadataChangeEvent.getProposedSnapshot();
     final RecordTemplate snapshot = RecordUtils.getSelectedRecordTemplateFromUnion(snapshotUnion);
     final Urn urn = ModelUtils.getUrnFromSnapshotUnion(snapshotUnion);
-    remoteWriterDAO.create(urn, snapshot);
+    try {
+      backPressure.write(() -> remoteWriterDAO.create(urn, snapshot));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while writing to GMS", e);
+    }
   }
 }
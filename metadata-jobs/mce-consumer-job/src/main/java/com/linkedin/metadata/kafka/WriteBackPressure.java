@@ -0,0 +1,161 @@
+package com.linkedin.metadata.kafka;
+
+import com.linkedin.restli.client.RestLiResponseException;
+import com.linkedin.restli.common.HttpStatus;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+
+/**
+ * Applies back-pressure from GMS to the consumption of MCEs.
+ *
+ * <p>Writes go through an {@link AimdConcurrencyLimiter}. A write failing because GMS is overloaded, i.e. timing out
+ * or rejected with a 429, 502, 503 or 504 status, is retried instead of failing, as long as GMS has been overloaded for
+ * less than {@code maxOverloadMillis}. Past that, writes fail as usual until one succeeds. The delay before a retry
+ * starts at {@code initialBackoffMillis} and doubles on every attempt up to {@code maxBackoffMillis}. This is the only
+ * place writes are retried, so that the limiter sees the outcome of every attempt: the writer must not retry them.
+ *
+ * <p>After each batch of MCEs during which GMS was overloaded, the listener container is paused so that no more MCEs
+ * are fetched for a while, starting at {@code initialPauseMillis} and doubling on every consecutive overloaded batch up
+ * to {@code maxPauseMillis}. A batch overloaded while the container is paused postpones its resumption. The container
+ * keeps polling while paused, so the consumer stays in its group.
+ */
+@Slf4j
+public class WriteBackPressure implements Closeable {
+
+  private static final Set<Integer> OVERLOADED_STATUSES = Collections.unmodifiableSet(new HashSet<>(
+      Arrays.asList(HttpStatus.S_429_TOO_MANY_REQUESTS.getCode(), HttpStatus.S_502_BAD_GATEWAY.getCode(),
+          HttpStatus.S_503_SERVICE_UNAVAILABLE.getCode(), HttpStatus.S_504_GATEWAY_TIMEOUT.getCode())));
+
+  private final AimdConcurrencyLimiter _limiter;
+  private final long _maxOverloadMillis;
+  private final long _initialBackoffMillis;
+  private final long _maxBackoffMillis;
+  private final long _initialPauseMillis;
+  private final long _maxPauseMillis;
+  private final ScheduledExecutorService _resumeScheduler;
+
+  // Time GMS was first seen overloaded since the last successful write, 0 if it was not
+  private volatile long _overloadedSince = 0;
+  // Whether GMS was seen overloaded since the last batch
+  private volatile boolean _overloadedDuringBatch = false;
+  private long _pauseMillis;
+  private ScheduledFuture<?> _pendingResume;
+
+  public WriteBackPressure(@Nonnull AimdConcurrencyLimiter limiter, long maxOverloadMillis, long initialBackoffMillis,
+      long maxBackoffMillis, long initialPauseMillis, long maxPauseMillis) {
+    this(limiter, maxOverloadMillis, initialBackoffMillis, maxBackoffMillis, initialPauseMillis, maxPauseMillis,
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+          final Thread thread = new Thread(runnable, "mce-consumer-resume");
+          thread.setDaemon(true);
+          return thread;
+        }));
+  }
+
+  WriteBackPressure(@Nonnull AimdConcurrencyLimiter limiter, long maxOverloadMillis, long initialBackoffMillis,
+      long maxBackoffMillis, long initialPauseMillis, long maxPauseMillis,
+      @Nonnull ScheduledExecutorService resumeScheduler) {
+    _limiter = limiter;
+    _maxOverloadMillis = maxOverloadMillis;
+    _initialBackoffMillis = initialBackoffMillis;
+    _maxBackoffMillis = maxBackoffMillis;
+    _initialPauseMillis = initialPauseMillis;
+    _maxPauseMillis = maxPauseMillis;
+    _pauseMillis = initialPauseMillis;
+    _resumeScheduler = resumeScheduler;
+  }
+
+  /**
+   * Runs a write to GMS under the concurrency limit, retrying it while GMS is overloaded.
+   *
+   * @throws RuntimeException thrown by the last attempt of the write
+   */
+  public void write(@Nonnull Runnable write) throws InterruptedException {
+    long backoffMillis = _initialBackoffMillis;
+    while (true) {
+      final long ticket = _limiter.acquire();
+      final long start = System.currentTimeMillis();
+      boolean overloaded = false;
+      try {
+        write.run();
+        _overloadedSince = 0;
+        return;
+      } catch (RuntimeException e) {
+        overloaded = isOverloaded(e);
+        if (!overloaded) {
+          throw e;
+        }
+        _overloadedDuringBatch = true;
+        final long now = System.currentTimeMillis();
+        if (_overloadedSince == 0) {
+          _overloadedSince = now;
+        } else if (now - _overloadedSince >= _maxOverloadMillis) {
+          throw e;
+        }
+      } finally {
+        _limiter.release(ticket, System.currentTimeMillis() - start, overloaded);
+      }
+
+      log.debug("GMS is overloaded, retrying write in {} ms", backoffMillis);
+      Thread.sleep(backoffMillis);
+      backoffMillis = Math.min(backoffMillis * 2, _maxBackoffMillis);
+    }
+  }
+
+  /**
+   * Pauses the container if GMS was overloaded while processing the last batch of MCEs.
+   *
+   * <p>Must be called by the listener once it has processed a batch.
+   */
+  public synchronized void afterBatch(@Nonnull MessageListenerContainer container) {
+    if (!_overloadedDuringBatch) {
+      _pauseMillis = _initialPauseMillis;
+      return;
+    }
+    _overloadedDuringBatch = false;
+
+    log.warn("GMS is overloaded, pausing consumption for {} ms with a concurrency limit of {}", _pauseMillis,
+        _limiter.getLimit());
+    // Only the latest pause may resume the container
+    if (_pendingResume != null) {
+      _pendingResume.cancel(false);
+    }
+    container.pause();
+    _pendingResume = _resumeScheduler.schedule(container::resume, _pauseMillis, TimeUnit.MILLISECONDS);
+    _pauseMillis = Math.min(_pauseMillis * 2, _maxPauseMillis);
+  }
+
+  @Nonnull
+  public AimdConcurrencyLimiter getLimiter() {
+    return _limiter;
+  }
+
+  private static boolean isOverloaded(@Nonnull Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TimeoutException) {
+        return true;
+      }
+      if (cause instanceof RestLiResponseException
+          && OVERLOADED_STATUSES.contains(((RestLiResponseException) cause).getStatus())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void close() {
+    _resumeScheduler.shutdownNow();
+  }
+}
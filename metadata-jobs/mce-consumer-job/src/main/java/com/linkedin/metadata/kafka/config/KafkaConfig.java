@@ -1,5 +1,6 @@
 package com.linkedin.metadata.kafka.config;
 
+import com.linkedin.metadata.kafka.KeyedWorkerPool;
 import io.confluent.kafka.serializers.AbstractKafkaAvroSerDeConfig;
 import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
@@ -8,6 +9,7 @@ import java.util.Arrays;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,7 +21,9 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.ErrorHandler;
+import org.springframework.kafka.listener.SeekToCurrentBatchErrorHandler;
 
 
 @Slf4j
@@ -29,35 +33,70 @@ public class KafkaConfig {
   private String kafkaBootstrapServers;
   @Value("${KAFKA_SCHEMAREGISTRY_URL:http://localhost:8081}")
   private String kafkaSchemaRegistryUrl;
+  @Value("${MCE_CONSUMER_PARALLEL_MAX_POLL_RECORDS:500}")
+  private int parallelMaxPollRecords;
+  @Value("${MCE_CONSUMER_PARALLEL_WORKERS:8}")
+  private int parallelWorkers;
+  @Value("${MCE_CONSUMER_PARALLEL_MAX_IN_FLIGHT:64}")
+  private int parallelMaxInFlight;
+  @Value("${MCE_CONSUMER_COALESCE_ENABLED:false}")
+  private boolean coalesceEnabled;
+  @Value("${MCE_CONSUMER_COALESCE_WINDOW_MS:1000}")
+  private int coalesceWindowMs;
+  @Value("${MCE_CONSUMER_COALESCE_MIN_BYTES:1048576}")
+  private int coalesceMinBytes;
 
   @Bean
   public KafkaListenerContainerFactory<?> kafkaListenerContainerFactory(KafkaProperties properties) {
-    KafkaProperties.Consumer consumerProps = properties.getConsumer();
-
-    // Specify (de)serializers for record keys and for record values.
-    consumerProps.setKeyDeserializer(StringDeserializer.class);
-    consumerProps.setValueDeserializer(KafkaAvroDeserializer.class);
+    Map<String, Object> props = buildConsumerProperties(properties);
     // Records will be flushed every 10 seconds.
-    consumerProps.setEnableAutoCommit(true);
-    consumerProps.setAutoCommitInterval(Duration.ofSeconds(10));
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+    props.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, (int) Duration.ofSeconds(10).toMillis());
 
-    // KAFKA_BOOTSTRAP_SERVER has precedence over SPRING_KAFKA_BOOTSTRAP_SERVERS
-    if (kafkaBootstrapServers != null && kafkaBootstrapServers.length() > 0) {
-      consumerProps.setBootstrapServers(Arrays.asList(kafkaBootstrapServers.split(",")));
-    } // else we rely on KafkaProperties which defaults to localhost:9092
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
 
-    Map<String, Object> props = properties.buildConsumerProperties();
-    props.put(AbstractKafkaAvroSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, kafkaSchemaRegistryUrl);
+    log.info("KafkaListenerContainerFactory built successfully");
+
+    return factory;
+  }
+
+  /**
+   * Listener container factory for consuming a whole poll of records at once and processing them concurrently.
+   *
+   * <p>Offsets are committed manually by the listener once all records of the poll have been processed. If the listener
+   * fails, the consumer seeks back to the start of the poll so that all of its records are redelivered.
+   */
+  @Bean
+  public KafkaListenerContainerFactory<?> parallelKafkaListenerContainerFactory(KafkaProperties properties) {
+    Map<String, Object> props = buildConsumerProperties(properties);
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, parallelMaxPollRecords);
+    if (coalesceEnabled) {
+      // Let the broker hold fetches until enough MCEs are available, so that each poll covers a larger window to
+      // coalesce MCEs over
+      props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, coalesceMinBytes);
+      props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, coalesceWindowMs);
+    }
 
     ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
         new ConcurrentKafkaListenerContainerFactory<>();
     factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+    factory.setBatchListener(true);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+    factory.setBatchErrorHandler(new SeekToCurrentBatchErrorHandler());
 
-    log.info("KafkaListenerContainerFactory built successfully");
+    log.info("Parallel KafkaListenerContainerFactory built successfully");
 
     return factory;
   }
 
+  @Bean
+  public KeyedWorkerPool mceWorkerPool() {
+    return new KeyedWorkerPool(parallelWorkers, parallelMaxInFlight);
+  }
+
   @Bean
   public KafkaTemplate<String, GenericRecord> kafkaTemplate(KafkaProperties properties) {
     KafkaProperties.Producer producerProps = properties.getProducer();
@@ -81,6 +120,23 @@ public class KafkaConfig {
     return template;
   }
 
+  private Map<String, Object> buildConsumerProperties(KafkaProperties properties) {
+    KafkaProperties.Consumer consumerProps = properties.getConsumer();
+
+    // Specify (de)serializers for record keys and for record values.
+    consumerProps.setKeyDeserializer(StringDeserializer.class);
+    consumerProps.setValueDeserializer(KafkaAvroDeserializer.class);
+
+    // KAFKA_BOOTSTRAP_SERVER has precedence over SPRING_KAFKA_BOOTSTRAP_SERVERS
+    if (kafkaBootstrapServers != null && kafkaBootstrapServers.length() > 0) {
+      consumerProps.setBootstrapServers(Arrays.asList(kafkaBootstrapServers.split(",")));
+    } // else we rely on KafkaProperties which defaults to localhost:9092
+
+    Map<String, Object> props = properties.buildConsumerProperties();
+    props.put(AbstractKafkaAvroSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, kafkaSchemaRegistryUrl);
+    return props;
+  }
+
   @Bean
   public ErrorHandler errorHandler() {
     return (e, r) -> log.error("Exception caught during Deserialization, topic: {}, partition: {},  offset: {}",
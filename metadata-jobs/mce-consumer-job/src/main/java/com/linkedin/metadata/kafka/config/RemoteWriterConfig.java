@@ -1,11 +1,15 @@
 package com.linkedin.metadata.kafka.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.linkedin.metadata.dao.internal.AsyncRestliRemoteWriterDAO;
 import com.linkedin.metadata.dao.internal.BaseRemoteWriterDAO;
-import com.linkedin.metadata.dao.internal.RestliRemoteWriterDAO;
+import com.linkedin.metadata.kafka.AimdConcurrencyLimiter;
+import com.linkedin.metadata.kafka.WriteBackPressure;
 import com.linkedin.metadata.restli.DefaultRestliClientFactory;
 import com.linkedin.restli.client.Client;
 
@@ -16,10 +20,57 @@ public class RemoteWriterConfig {
     private String gmsHost;
     @Value("${GMS_PORT:8080}")
     private int gmsPort;
+    @Value("${GMS_WRITER_MAX_CONCURRENT_REQUESTS:64}")
+    private int maxConcurrentRequests;
+    @Value("${GMS_WRITER_INITIAL_BACKOFF_MILLIS:100}")
+    private long initialBackoffMillis;
+    @Value("${GMS_WRITER_MAX_BACKOFF_MILLIS:5000}")
+    private long maxBackoffMillis;
+    @Value("${GMS_WRITER_CLOSE_TIMEOUT_MILLIS:30000}")
+    private long closeTimeoutMillis;
+    @Value("${GMS_WRITER_MIN_CONCURRENCY_LIMIT:1}")
+    private int minConcurrencyLimit;
+    @Value("${GMS_WRITER_LATENCY_THRESHOLD_MILLIS:2000}")
+    private long latencyThresholdMillis;
+    @Value("${GMS_WRITER_BACKOFF_RATIO:0.5}")
+    private double backoffRatio;
+    @Value("${GMS_WRITER_MAX_OVERLOAD_MILLIS:60000}")
+    private long maxOverloadMillis;
+    @Value("${MCE_CONSUMER_INITIAL_PAUSE_MILLIS:1000}")
+    private long initialPauseMillis;
+    @Value("${MCE_CONSUMER_MAX_PAUSE_MILLIS:60000}")
+    private long maxPauseMillis;
 
-    @Bean
+    /**
+     * Writer to GMS, which waits for outstanding writes to complete when the application shuts down.
+     *
+     * <p>The writer does not retry writes itself, {@link WriteBackPressure} does.
+     */
+    @Bean(destroyMethod = "close")
     public BaseRemoteWriterDAO remoteWriterDAO() {
         Client restClient = DefaultRestliClientFactory.getRestLiClient(gmsHost, gmsPort);
-        return new RestliRemoteWriterDAO(restClient);
+        return new AsyncRestliRemoteWriterDAO(restClient, maxConcurrentRequests, 0, initialBackoffMillis,
+            maxBackoffMillis, closeTimeoutMillis);
+    }
+
+    @Bean(destroyMethod = "close")
+    public WriteBackPressure writeBackPressure() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(minConcurrencyLimit, maxConcurrentRequests,
+            latencyThresholdMillis, backoffRatio);
+        return new WriteBackPressure(limiter, maxOverloadMillis, initialBackoffMillis, maxBackoffMillis,
+            initialPauseMillis, maxPauseMillis);
+    }
+
+    @Bean
+    public MeterBinder writeBackPressureMetrics(WriteBackPressure writeBackPressure) {
+        AimdConcurrencyLimiter limiter = writeBackPressure.getLimiter();
+        return registry -> {
+            Gauge.builder("gms.writer.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .description("Current limit of concurrent writes to GMS")
+                .register(registry);
+            Gauge.builder("gms.writer.in.flight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .description("Writes to GMS in flight")
+                .register(registry);
+        };
     }
 }
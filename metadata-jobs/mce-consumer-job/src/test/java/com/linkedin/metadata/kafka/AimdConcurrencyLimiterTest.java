@@ -0,0 +1,104 @@
+package com.linkedin.metadata.kafka;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class AimdConcurrencyLimiterTest {
+
+  private static final long THRESHOLD_MILLIS = 100;
+
+  @Test
+  public void testStartsAtMaxLimit() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 8, THRESHOLD_MILLIS, 0.5);
+
+    assertEquals(limiter.getLimit(), 8);
+    assertEquals(limiter.getInFlight(), 0);
+  }
+
+  @Test
+  public void testDecreasesOncePerRoundTrip() throws InterruptedException {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 8, THRESHOLD_MILLIS, 0.5);
+    long[] tickets = new long[4];
+    for (int i = 0; i < tickets.length; i++) {
+      tickets[i] = limiter.acquire();
+    }
+    assertEquals(limiter.getInFlight(), 4);
+
+    // Calls in flight together count as a single overload
+    for (long ticket : tickets) {
+      limiter.release(ticket, 0, true);
+    }
+    assertEquals(limiter.getLimit(), 4);
+    assertEquals(limiter.getInFlight(), 0);
+
+    // A call acquired after the decrease decreases the limit again
+    limiter.release(limiter.acquire(), 0, true);
+    assertEquals(limiter.getLimit(), 2);
+  }
+
+  @Test
+  public void testSlowCallDecreasesLimit() throws InterruptedException {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 8, THRESHOLD_MILLIS, 0.5);
+
+    limiter.release(limiter.acquire(), THRESHOLD_MILLIS + 1, false);
+
+    assertEquals(limiter.getLimit(), 4);
+  }
+
+  @Test
+  public void testIncreasesByOneAfterFullLimitOfFastCalls() throws InterruptedException {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 8, THRESHOLD_MILLIS, 0.5);
+    limiter.release(limiter.acquire(), 0, true);
+    assertEquals(limiter.getLimit(), 4);
+
+    for (int i = 0; i < 3; i++) {
+      limiter.release(limiter.acquire(), THRESHOLD_MILLIS, false);
+    }
+    assertEquals(limiter.getLimit(), 4);
+    limiter.release(limiter.acquire(), THRESHOLD_MILLIS, false);
+    assertEquals(limiter.getLimit(), 5);
+  }
+
+  @Test
+  public void testStaysWithinLimits() throws InterruptedException {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 4, THRESHOLD_MILLIS, 0.1);
+
+    limiter.release(limiter.acquire(), 0, true);
+    assertEquals(limiter.getLimit(), 2);
+
+    for (int i = 0; i < 20; i++) {
+      limiter.release(limiter.acquire(), 0, false);
+    }
+    assertEquals(limiter.getLimit(), 4);
+  }
+
+  @Test
+  public void testAcquireWaitsForRelease() throws InterruptedException {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, THRESHOLD_MILLIS, 0.5);
+    long ticket = limiter.acquire();
+    CountDownLatch acquired = new CountDownLatch(1);
+    Thread waiter = new Thread(() -> {
+      try {
+        limiter.acquire();
+        acquired.countDown();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    waiter.start();
+
+    assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+    limiter.release(ticket, 0, false);
+    assertTrue(acquired.await(10, TimeUnit.SECONDS));
+    waiter.join();
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsInvalidBackoffRatio() {
+    new AimdConcurrencyLimiter(1, 8, THRESHOLD_MILLIS, 1);
+  }
+}
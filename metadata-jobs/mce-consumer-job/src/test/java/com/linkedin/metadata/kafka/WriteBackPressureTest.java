@@ -0,0 +1,154 @@
+package com.linkedin.metadata.kafka;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class WriteBackPressureTest {
+
+  private static final long INITIAL_PAUSE_MILLIS = 10;
+  private static final long MAX_PAUSE_MILLIS = 25;
+
+  private AimdConcurrencyLimiter _limiter;
+  private ScheduledExecutorService _scheduler;
+  private ScheduledFuture<?> _pendingResume;
+  private MessageListenerContainer _container;
+  private WriteBackPressure _backPressure;
+
+  @BeforeMethod
+  public void setup() {
+    _limiter = new AimdConcurrencyLimiter(1, 8, 10_000, 0.5);
+    _scheduler = mock(ScheduledExecutorService.class);
+    _pendingResume = mock(ScheduledFuture.class);
+    doReturn(_pendingResume).when(_scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    _container = mock(MessageListenerContainer.class);
+    _backPressure = new WriteBackPressure(_limiter, 60_000, 0, 0, INITIAL_PAUSE_MILLIS, MAX_PAUSE_MILLIS, _scheduler);
+  }
+
+  @Test
+  public void testRetriesOverloadedWrite() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+
+    _backPressure.write(() -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw overloaded();
+      }
+    });
+
+    assertEquals(attempts.get(), 3);
+    assertEquals(_limiter.getInFlight(), 0);
+    assertEquals(_limiter.getLimit(), 2);
+  }
+
+  @Test
+  public void testDoesNotRetryOtherFailures() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+    IllegalStateException failure = new IllegalStateException();
+
+    try {
+      _backPressure.write(() -> {
+        attempts.incrementAndGet();
+        throw failure;
+      });
+      fail("Write should have failed");
+    } catch (IllegalStateException e) {
+      assertSame(e, failure);
+    }
+
+    assertEquals(attempts.get(), 1);
+    assertEquals(_limiter.getLimit(), 8);
+  }
+
+  @Test
+  public void testFailsOnceOverloadedForTooLong() throws InterruptedException {
+    WriteBackPressure backPressure =
+        new WriteBackPressure(_limiter, 0, 0, 0, INITIAL_PAUSE_MILLIS, MAX_PAUSE_MILLIS, _scheduler);
+    AtomicInteger attempts = new AtomicInteger();
+
+    try {
+      backPressure.write(() -> {
+        attempts.incrementAndGet();
+        throw overloaded();
+      });
+      fail("Write should have failed");
+    } catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof TimeoutException);
+    }
+
+    assertEquals(attempts.get(), 2);
+  }
+
+  @Test
+  public void testDoesNotPauseWithoutOverload() {
+    _backPressure.afterBatch(_container);
+
+    verifyZeroInteractions(_container, _scheduler);
+  }
+
+  @Test
+  public void testPausesAndResumesAfterOverloadedBatch() throws InterruptedException {
+    writeOverloaded();
+
+    _backPressure.afterBatch(_container);
+
+    verify(_container).pause();
+    ArgumentCaptor<Runnable> resume = ArgumentCaptor.forClass(Runnable.class);
+    verify(_scheduler).schedule(resume.capture(), eq(INITIAL_PAUSE_MILLIS), eq(TimeUnit.MILLISECONDS));
+    resume.getValue().run();
+    verify(_container).resume();
+
+    // The next batch was not overloaded
+    _backPressure.afterBatch(_container);
+    verifyNoMoreInteractions(_container, _scheduler);
+  }
+
+  @Test
+  public void testOverloadedBatchPostponesPendingResume() throws InterruptedException {
+    writeOverloaded();
+    _backPressure.afterBatch(_container);
+    writeOverloaded();
+    _backPressure.afterBatch(_container);
+    writeOverloaded();
+    _backPressure.afterBatch(_container);
+
+    verify(_pendingResume, times(2)).cancel(false);
+    verify(_container, times(3)).pause();
+    verify(_scheduler).schedule(any(Runnable.class), eq(INITIAL_PAUSE_MILLIS), eq(TimeUnit.MILLISECONDS));
+    verify(_scheduler).schedule(any(Runnable.class), eq(2 * INITIAL_PAUSE_MILLIS), eq(TimeUnit.MILLISECONDS));
+    verify(_scheduler).schedule(any(Runnable.class), eq(MAX_PAUSE_MILLIS), eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testPauseIsResetAfterBatchWithoutOverload() throws InterruptedException {
+    writeOverloaded();
+    _backPressure.afterBatch(_container);
+    _backPressure.afterBatch(_container);
+    writeOverloaded();
+    _backPressure.afterBatch(_container);
+
+    verify(_scheduler, times(2)).schedule(any(Runnable.class), eq(INITIAL_PAUSE_MILLIS), eq(TimeUnit.MILLISECONDS));
+  }
+
+  private void writeOverloaded() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+    _backPressure.write(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw overloaded();
+      }
+    });
+  }
+
+  private static RuntimeException overloaded() {
+    return new RuntimeException(new TimeoutException());
+  }
+}
@@ -0,0 +1,122 @@
+package com.linkedin.metadata.utils.elasticsearch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Counters of the bulk pipeline of an {@link ElasticsearchConnector}. All counts are cumulative since the connector was
+ * created, except {@link #getPendingRequests()}.
+ */
+public class BulkMetrics {
+
+  private final AtomicLong _pendingRequests = new AtomicLong();
+  private final LongAdder _bulkRequests = new LongAdder();
+  private final LongAdder _bulkTimeMillis = new LongAdder();
+  private final LongAdder _bulkRetries = new LongAdder();
+  private final LongAdder _failedBulkRequests = new LongAdder();
+  private final LongAdder _succeededItems = new LongAdder();
+  private final LongAdder _failedItems = new LongAdder();
+  private final LongAdder _requeuedItems = new LongAdder();
+  private final LongAdder _deadLetteredItems = new LongAdder();
+
+  /**
+   * Number of requests added to the bulk processor that have not been acknowledged by Elasticsearch yet.
+   */
+  public long getPendingRequests() {
+    return _pendingRequests.get();
+  }
+
+  /**
+   * Number of bulk requests completed, successfully or not.
+   */
+  public long getBulkRequests() {
+    return _bulkRequests.sum();
+  }
+
+  /**
+   * Total time in milliseconds spent on completed bulk requests, including retries.
+   */
+  public long getBulkTimeMillis() {
+    return _bulkTimeMillis.sum();
+  }
+
+  /**
+   * Number of times a bulk request was retried after being rejected by Elasticsearch.
+   */
+  public long getBulkRetries() {
+    return _bulkRetries.sum();
+  }
+
+  /**
+   * Number of bulk requests that failed as a whole.
+   */
+  public long getFailedBulkRequests() {
+    return _failedBulkRequests.sum();
+  }
+
+  /**
+   * Number of individual requests accepted by Elasticsearch.
+   */
+  public long getSucceededItems() {
+    return _succeededItems.sum();
+  }
+
+  /**
+   * Number of individual requests that failed, whether they were re-queued or dead-lettered afterwards.
+   */
+  public long getFailedItems() {
+    return _failedItems.sum();
+  }
+
+  /**
+   * Number of individual requests that were re-queued after failing.
+   */
+  public long getRequeuedItems() {
+    return _requeuedItems.sum();
+  }
+
+  /**
+   * Number of individual requests that were given up on.
+   */
+  public long getDeadLetteredItems() {
+    return _deadLetteredItems.sum();
+  }
+
+  void onRequestsAdded(int count) {
+    _pendingRequests.addAndGet(count);
+  }
+
+  void onRequestsCompleted(int count) {
+    _pendingRequests.addAndGet(-count);
+  }
+
+  void onBulkCompleted(long tookMillis) {
+    _bulkRequests.increment();
+    _bulkTimeMillis.add(tookMillis);
+  }
+
+  void onBulkRetried() {
+    _bulkRetries.increment();
+  }
+
+  void onBulkFailed() {
+    _failedBulkRequests.increment();
+  }
+
+  void onItemsSucceeded(int count) {
+    _succeededItems.add(count);
+  }
+
+  void onItemFailed() {
+    _failedItems.increment();
+  }
+
+  void onItemRequeued() {
+    _requeuedItems.increment();
+  }
+
+  void onItemDeadLettered() {
+    _deadLetteredItems.increment();
+  }
+}
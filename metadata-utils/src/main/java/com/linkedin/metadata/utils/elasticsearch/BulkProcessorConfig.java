@@ -0,0 +1,56 @@
+package com.linkedin.metadata.utils.elasticsearch;
+
+import lombok.Builder;
+import lombok.Value;
+
+
+/**
+ * Settings of the bulk pipeline of an {@link ElasticsearchConnector}.
+ */
+@Value
+@Builder
+public class BulkProcessorConfig {
+
+  /**
+   * Number of requests that triggers a flush.
+   */
+  @Builder.Default
+  int bulkRequestsLimit = 10000;
+
+  /**
+   * Estimated size in bytes of the requests that triggers a flush, -1 to disable.
+   */
+  @Builder.Default
+  long bulkSizeBytes = 5 * 1024 * 1024;
+
+  /**
+   * Interval in seconds after which pending requests are flushed.
+   */
+  @Builder.Default
+  int bulkFlushPeriodSeconds = 1;
+
+  /**
+   * Number of bulk requests that may be in flight while new requests are accumulated, 0 to send synchronously.
+   */
+  @Builder.Default
+  int concurrentRequests = 1;
+
+  /**
+   * Delay before the first retry of a bulk request rejected by Elasticsearch, doubled on every following retry.
+   */
+  @Builder.Default
+  long initialBackoffMillis = 1000;
+
+  /**
+   * Number of times a bulk request rejected by Elasticsearch is retried.
+   */
+  @Builder.Default
+  int numRetries = 3;
+
+  /**
+   * Number of times an individual request that was still rejected after all retries of its bulk request is re-queued
+   * before it is dead-lettered.
+   */
+  @Builder.Default
+  int maxItemRetries = 3;
+}
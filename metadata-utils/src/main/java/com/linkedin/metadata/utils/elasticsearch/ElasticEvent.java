@@ -1,7 +1,9 @@
 package com.linkedin.metadata.utils.elasticsearch;
 
 import com.linkedin.events.metadata.ChangeType;
+import javax.annotation.Nullable;
 import lombok.Data;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 
 @Data
@@ -15,4 +17,16 @@ public abstract class ElasticEvent {
   public XContentBuilder buildJson() {
     return null;
   }
-}
\ No newline at end of file
+
+  /**
+   * Serializes the document as JSON, ready to be used as the body of a request. The returned bytes are shared by all
+   * parts of the request and must not be modified.
+   *
+   * @return the JSON document, or null if it could not be built
+   */
+  @Nullable
+  public byte[] buildSource() {
+    final XContentBuilder builder = buildJson();
+    return builder == null ? null : BytesReference.toBytes(builder.bytes());
+  }
+}
@@ -4,7 +4,9 @@ import com.linkedin.events.metadata.ChangeType;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
@@ -15,15 +17,44 @@ import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.threadpool.ThreadPool;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class ElasticsearchConnector {
 
+  /**
+   * Receives the requests that the connector has given up on.
+   */
+  public interface DeadLetterHandler {
+    void handle(@Nonnull DocWriteRequest request, @Nonnull String reason);
+  }
+
+  private static final DeadLetterHandler LOGGING_DEAD_LETTER_HANDLER =
+      (request, reason) -> log.error("Dropping {} request for document {} of index {}: {}", request.opType(),
+          request.id(), request.index(), reason);
+
+  // Retried items are delayed by at most initialBackoffMillis * 2^MAX_BACKOFF_EXPONENT.
+  private static final int MAX_BACKOFF_EXPONENT = 6;
+
   private RestClient _restClient;
   private RestHighLevelClient _client;
 
@@ -32,24 +63,54 @@ public class ElasticsearchConnector {
   private Integer _threadCount;
 
   private BulkProcessor _bulkProcessor;
-  private Integer _bulkRequestsLimit;
-  private Integer _bulkFlushPeriod;
-  private static final int DEFAULT_NUMBER_OF_RETRIES = 3; // TODO: Test and also add these into config
-  private static final long DEFAULT_RETRY_INTERVAL = 1L;
+  private final BulkProcessorConfig _bulkProcessorConfig;
+  private final BulkMetrics _bulkMetrics = new BulkMetrics();
+  private final Map<Long, Long> _bulkStartNanos = new ConcurrentHashMap<>();
+  // Number of times each re-queued request has been re-queued, keyed by identity.
+  private final Map<DocWriteRequest, Integer> _requeueCounts = Collections.synchronizedMap(new IdentityHashMap<>());
+  private final ScheduledExecutorService _requeueScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "elasticsearch-bulk-requeue");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private volatile DeadLetterHandler _deadLetterHandler = LOGGING_DEAD_LETTER_HANDLER;
 
   public ElasticsearchConnector(List<String> hosts, Integer port, Integer threadCount, Integer bulkRequestsLimit,
       Integer bulkFlushPeriod) {
+    this(hosts, port, threadCount, BulkProcessorConfig.builder()
+        .bulkRequestsLimit(bulkRequestsLimit)
+        .bulkFlushPeriodSeconds(bulkFlushPeriod)
+        .build());
+  }
+
+  public ElasticsearchConnector(List<String> hosts, Integer port, Integer threadCount,
+      @Nonnull BulkProcessorConfig bulkProcessorConfig) {
 
     _esPort = port;
     _esHosts = hosts.toArray(new String[0]);
     _threadCount = threadCount;
-    _bulkRequestsLimit = bulkRequestsLimit;
-    _bulkFlushPeriod = bulkFlushPeriod;
+    _bulkProcessorConfig = bulkProcessorConfig;
 
     initClient();
     initBulkProcessor();
   }
 
+  /**
+   * Gets the metrics of the bulk pipeline.
+   */
+  @Nonnull
+  public BulkMetrics getBulkMetrics() {
+    return _bulkMetrics;
+  }
+
+  /**
+   * Sets the handler receiving the requests that failed permanently or were still rejected after being re-queued
+   * {@link BulkProcessorConfig#getMaxItemRetries()} times. Defaults to logging them.
+   */
+  public void setDeadLetterHandler(@Nonnull DeadLetterHandler deadLetterHandler) {
+    _deadLetterHandler = deadLetterHandler;
+  }
+
   private void initClient() {
     try {
       _restClient = loadRestHttpClient(_esHosts, _esPort, _threadCount);
@@ -63,43 +124,222 @@ public class ElasticsearchConnector {
     BulkProcessor.Listener listener = new BulkProcessor.Listener() {
       @Override
       public void beforeBulk(long executionId, BulkRequest request) {
-
+        _bulkStartNanos.put(executionId, System.nanoTime());
       }
 
       @Override
       public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
-        log.info("Successfully feeded bulk request. Number of events: " + response.getItems().length + " Took time ms: "
-            + response.getTookInMillis());
+        onBulkCompleted(executionId);
+        log.debug("Fed bulk request. Number of events: {} Took time ms: {}", response.getItems().length,
+            response.getTookInMillis());
+        if (response.hasFailures()) {
+          handleFailedItems(request, response);
+        } else {
+          _bulkMetrics.onItemsSucceeded(request.numberOfActions());
+          forgetRequeued(request.requests());
+        }
+        _bulkMetrics.onRequestsCompleted(request.numberOfActions());
       }
 
       @Override
       public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
-        log.info("Error feeding bulk request. No retries left", failure);
+        onBulkCompleted(executionId);
+        _bulkMetrics.onBulkFailed();
+        log.error("Error feeding bulk request of {} events", request.numberOfActions(), failure);
+        for (DocWriteRequest itemRequest : request.requests()) {
+          _bulkMetrics.onItemFailed();
+          requeueOrDeadLetter(itemRequest, failure.toString());
+        }
+        _bulkMetrics.onRequestsCompleted(request.numberOfActions());
       }
     };
 
+    final BackoffPolicy backoffPolicy = BackoffPolicy.wrap(
+        BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(_bulkProcessorConfig.getInitialBackoffMillis()),
+            _bulkProcessorConfig.getNumRetries()), _bulkMetrics::onBulkRetried);
+
     ThreadPool threadPool = new ThreadPool(Settings.builder().put(Settings.EMPTY).build());
-    _bulkProcessor =
-        new BulkProcessor.Builder(_client::bulkAsync, listener, threadPool).setBulkActions(_bulkRequestsLimit)
-            .setFlushInterval(TimeValue.timeValueSeconds(_bulkFlushPeriod))
-            .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(DEFAULT_RETRY_INTERVAL),
-                DEFAULT_NUMBER_OF_RETRIES))
-            .build();
+    _bulkProcessor = new BulkProcessor.Builder(_client::bulkAsync, listener, threadPool)
+        .setBulkActions(_bulkProcessorConfig.getBulkRequestsLimit())
+        .setBulkSize(new ByteSizeValue(_bulkProcessorConfig.getBulkSizeBytes()))
+        .setConcurrentRequests(_bulkProcessorConfig.getConcurrentRequests())
+        .setFlushInterval(TimeValue.timeValueSeconds(_bulkProcessorConfig.getBulkFlushPeriodSeconds()))
+        .setBackoffPolicy(backoffPolicy)
+        .build();
   }
 
   public void feedElasticEvent(@Nonnull ElasticEvent event) {
+    final DocWriteRequest request = createRequest(event);
+    if (request != null) {
+      _bulkMetrics.onRequestsAdded(1);
+      _bulkProcessor.add(request);
+    }
+  }
+
+  /**
+   * Sends a list of events to Elasticsearch as a single bulk request and waits for the response.
+   *
+   * <p>Unlike {@link #feedElasticEvent(ElasticEvent)}, this bypasses the bulk processor so that callers know the
+   * events have been accepted by Elasticsearch once this method returns. Requests that failed permanently are
+   * dead-lettered, while requests rejected because Elasticsearch is overloaded make this method throw, so that the
+   * caller can retry the whole list later.
+   *
+   * @param events list of events to be written
+   * @return the {@link BulkResponse} for the request
+   * @throws IOException if the bulk request could not be executed or some of its requests were rejected
+   */
+  @Nonnull
+  public BulkResponse feedElasticEventsSync(@Nonnull List<? extends ElasticEvent> events) throws IOException {
+    final BulkRequest bulkRequest = new BulkRequest();
+    for (ElasticEvent event : events) {
+      final DocWriteRequest request = createRequest(event);
+      if (request != null) {
+        bulkRequest.add(request);
+      }
+    }
+
+    final long startNanos = System.nanoTime();
+    final BulkResponse response;
+    try {
+      response = _client.bulk(bulkRequest);
+    } catch (IOException e) {
+      _bulkMetrics.onBulkFailed();
+      throw e;
+    } finally {
+      _bulkMetrics.onBulkCompleted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    if (!response.hasFailures()) {
+      _bulkMetrics.onItemsSucceeded(bulkRequest.numberOfActions());
+      return response;
+    }
+
+    int rejected = 0;
+    for (BulkItemResponse item : response.getItems()) {
+      if (!item.isFailed()) {
+        _bulkMetrics.onItemsSucceeded(1);
+        continue;
+      }
+      _bulkMetrics.onItemFailed();
+      if (isRetryable(item.getFailure())) {
+        rejected++;
+      } else {
+        deadLetter(bulkRequest.requests().get(item.getItemId()), item.getFailureMessage());
+      }
+    }
+    if (rejected > 0) {
+      throw new IOException(String.format("Elasticsearch rejected %d of %d requests: %s", rejected,
+          bulkRequest.numberOfActions(), response.buildFailureMessage()));
+    }
+    return response;
+  }
+
+  private void onBulkCompleted(long executionId) {
+    final Long startNanos = _bulkStartNanos.remove(executionId);
+    if (startNanos != null) {
+      _bulkMetrics.onBulkCompleted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+  }
+
+  /**
+   * Re-queues or dead-letters the failed items of a bulk request sent by the bulk processor.
+   *
+   * <p>The bulk processor retries the items rejected by Elasticsearch before calling its listener, which renumbers the
+   * items of the response. Items are therefore matched back to their requests by document: each item of a document
+   * takes the next request of that document, in the order they were added.
+   */
+  void handleFailedItems(@Nonnull BulkRequest request, @Nonnull BulkResponse response) {
+    final Map<String, Deque<DocWriteRequest>> requestsByDocument = new HashMap<>();
+    for (DocWriteRequest itemRequest : request.requests()) {
+      requestsByDocument.computeIfAbsent(documentKey(itemRequest.index(), itemRequest.type(), itemRequest.id()),
+          key -> new ArrayDeque<>()).add(itemRequest);
+    }
+
+    for (BulkItemResponse item : response.getItems()) {
+      final Deque<DocWriteRequest> itemRequests =
+          requestsByDocument.get(documentKey(item.getIndex(), item.getType(), item.getId()));
+      final DocWriteRequest itemRequest = itemRequests == null ? null : itemRequests.poll();
+      if (itemRequest == null) {
+        log.warn("No request matches the {} response item for document {} of index {}", item.getOpType(),
+            item.getId(), item.getIndex());
+        continue;
+      }
+      if (!item.isFailed()) {
+        _bulkMetrics.onItemsSucceeded(1);
+        _requeueCounts.remove(itemRequest);
+        continue;
+      }
+      _bulkMetrics.onItemFailed();
+      if (isRetryable(item.getFailure())) {
+        requeueOrDeadLetter(itemRequest, item.getFailureMessage());
+      } else {
+        _requeueCounts.remove(itemRequest);
+        deadLetter(itemRequest, item.getFailureMessage());
+      }
+    }
+  }
+
+  private void requeueOrDeadLetter(@Nonnull DocWriteRequest request, @Nonnull String reason) {
+    final int requeueCount = _requeueCounts.getOrDefault(request, 0);
+    if (requeueCount >= _bulkProcessorConfig.getMaxItemRetries()) {
+      _requeueCounts.remove(request);
+      deadLetter(request, reason);
+      return;
+    }
+
+    _requeueCounts.put(request, requeueCount + 1);
+    _bulkMetrics.onItemRequeued();
+    _bulkMetrics.onRequestsAdded(1);
+    final long delayMillis =
+        _bulkProcessorConfig.getInitialBackoffMillis() << Math.min(requeueCount, MAX_BACKOFF_EXPONENT);
+    // Never add from the listener itself, it may hold the last permit of the bulk processor's concurrent requests
+    _requeueScheduler.schedule(() -> _bulkProcessor.add(request), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void deadLetter(@Nonnull DocWriteRequest request, @Nonnull String reason) {
+    _bulkMetrics.onItemDeadLettered();
+    try {
+      _deadLetterHandler.handle(request, reason);
+    } catch (Exception e) {
+      log.error("Dead letter handler failed", e);
+    }
+  }
+
+  private void forgetRequeued(@Nonnull List<DocWriteRequest> requests) {
+    if (!_requeueCounts.isEmpty()) {
+      requests.forEach(_requeueCounts::remove);
+    }
+  }
+
+  private static boolean isRetryable(@Nonnull BulkItemResponse.Failure failure) {
+    return failure.getStatus() == RestStatus.TOO_MANY_REQUESTS;
+  }
+
+  @Nonnull
+  private static String documentKey(String index, String type, String id) {
+    return index + '/' + type + '/' + id;
+  }
+
+  @Nullable
+  private static DocWriteRequest createRequest(@Nonnull ElasticEvent event) {
     if (event.getActionType().equals(ChangeType.DELETE)) {
-      _bulkProcessor.add(createDeleteRequest(event));
-    } else if (event.getActionType().equals(ChangeType.CREATE)) {
-      _bulkProcessor.add(createIndexRequest(event));
+      return createDeleteRequest(event);
+    }
+
+    final byte[] source;
+    if (event.getActionType().equals(ChangeType.CREATE)) {
+      source = event.buildSource();
+      return source == null ? null : createIndexRequest(event, source);
     } else if (event.getActionType().equals(ChangeType.UPDATE)) {
-      _bulkProcessor.add(createUpsertRequest(event));
+      source = event.buildSource();
+      return source == null ? null : createUpsertRequest(event, source);
     }
+    return null;
   }
 
   @Nonnull
-  private static IndexRequest createIndexRequest(@Nonnull ElasticEvent event) {
-    return new IndexRequest(event.getIndex(), event.getType(), event.getId()).source(event.buildJson());
+  private static IndexRequest createIndexRequest(@Nonnull ElasticEvent event, @Nonnull byte[] source) {
+    return new IndexRequest(event.getIndex(), event.getType(), event.getId()).source(source, XContentType.JSON);
   }
 
   @Nonnull
@@ -107,11 +347,16 @@ public class ElasticsearchConnector {
     return new DeleteRequest(event.getIndex(), event.getType(), event.getId());
   }
 
+  /**
+   * Creates an upsert request whose doc and upsert parts share the same serialized document.
+   */
   @Nonnull
-  private static UpdateRequest createUpsertRequest(@Nonnull ElasticEvent event) {
-    IndexRequest indexRequest = new IndexRequest(event.getIndex(), event.getType(), event.getId()).source(event.buildJson());
-    return new UpdateRequest(event.getIndex(), event.getType(),
-        event.getId()).doc(event.buildJson()).detectNoop(false).upsert(indexRequest).retryOnConflict(3);
+  private static UpdateRequest createUpsertRequest(@Nonnull ElasticEvent event, @Nonnull byte[] source) {
+    return new UpdateRequest(event.getIndex(), event.getType(), event.getId())
+        .doc(source, XContentType.JSON)
+        .detectNoop(false)
+        .upsert(source, XContentType.JSON)
+        .retryOnConflict(3);
   }
 
   @Nonnull
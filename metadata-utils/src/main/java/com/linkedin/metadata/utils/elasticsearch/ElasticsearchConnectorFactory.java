@@ -22,4 +22,9 @@ public class ElasticsearchConnectorFactory {
         DEFAULT_ES_BULK_REQUESTS_LIMIT,
         DEFAULT_ES_BULK_FLUSH_PERIOD);
   }
+
+  public static ElasticsearchConnector createInstance(@Nonnull String host, @Nonnull int port,
+      @Nonnull BulkProcessorConfig bulkProcessorConfig) {
+    return new ElasticsearchConnector(Arrays.asList(host), port, DEFAULT_ES_THREAD_COUNT, bulkProcessorConfig);
+  }
 }
\ No newline at end of file
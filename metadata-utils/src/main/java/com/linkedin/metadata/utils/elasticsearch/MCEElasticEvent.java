@@ -1,18 +1,22 @@
 package com.linkedin.metadata.utils.elasticsearch;
 
+import com.linkedin.data.codec.JacksonDataCodec;
 import com.linkedin.data.template.RecordTemplate;
-import org.elasticsearch.common.xcontent.NamedXContentRegistry;
-import org.elasticsearch.common.xcontent.XContentBuilder;
-import com.linkedin.metadata.dao.utils.RecordUtils;
 import java.io.IOException;
 import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.common.xcontent.NamedXContentRegistry;
+import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
 import org.elasticsearch.common.xcontent.XContentParser;
 import org.elasticsearch.common.xcontent.XContentType;
 
 
+@Slf4j
 public class MCEElasticEvent extends ElasticEvent {
 
+  private static final JacksonDataCodec DATA_CODEC = new JacksonDataCodec();
+
   private final RecordTemplate _doc;
 
   public MCEElasticEvent(RecordTemplate doc) {
@@ -22,15 +26,30 @@ public class MCEElasticEvent extends ElasticEvent {
   @Override
   @Nullable
   public XContentBuilder buildJson() {
-    XContentBuilder builder = null;
+    final byte[] source = buildSource();
+    if (source == null) {
+      return null;
+    }
+    try (XContentParser parser = XContentFactory.xContent(XContentType.JSON)
+        .createParser(NamedXContentRegistry.EMPTY, source)) {
+      return XContentFactory.jsonBuilder().copyCurrentStructure(parser);
+    } catch (IOException e) {
+      log.error("Failed to build the JSON of document {}", getId(), e);
+      return null;
+    }
+  }
+
+  /**
+   * Serializes the data map of the document straight to compact JSON, without any intermediate string.
+   */
+  @Override
+  @Nullable
+  public byte[] buildSource() {
     try {
-      String jsonString = RecordUtils.toJsonString(this._doc);
-      builder = XContentFactory.jsonBuilder().prettyPrint();
-      XContentParser parser = XContentFactory.xContent(XContentType.JSON).createParser(NamedXContentRegistry.EMPTY, jsonString);
-      builder.copyCurrentStructure(parser);
+      return DATA_CODEC.mapToBytes(_doc.data());
     } catch (IOException e) {
-      e.printStackTrace();
+      log.error("Failed to serialize document {}", getId(), e);
+      return null;
     }
-    return builder;
   }
-}
\ No newline at end of file
+}
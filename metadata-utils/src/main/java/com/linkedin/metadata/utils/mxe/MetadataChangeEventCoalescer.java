@@ -0,0 +1,108 @@
+package com.linkedin.metadata.utils.mxe;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.mxe.MetadataChangeEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import lombok.Value;
+
+
+/**
+ * Collapses the MCEs proposing changes to the same entity into a single MCE.
+ *
+ * <p>MCEs are grouped by the type and the urn of their proposed snapshot. The MCE of a group carries the union of the
+ * aspects of its snapshots, keeping for each aspect the value of the latest MCE proposing it, and the audit header of
+ * the latest MCE of the group. MCEs without a proposed snapshot are kept as they are.
+ */
+public final class MetadataChangeEventCoalescer {
+
+  private static final String URN_FIELD = "urn";
+  private static final String ASPECTS_FIELD = "aspects";
+
+  private MetadataChangeEventCoalescer() {
+    // Util class
+  }
+
+  /**
+   * Coalesces MCEs, given in the order they were produced.
+   *
+   * @return one MCE per entity, in the order each entity was first seen
+   */
+  @Nonnull
+  public static List<MetadataChangeEvent> coalesce(@Nonnull List<MetadataChangeEvent> events) {
+    final Map<Object, PendingSnapshot> snapshots = new LinkedHashMap<>();
+    int unkeyed = 0;
+    for (MetadataChangeEvent event : events) {
+      final DataMap union = event.hasProposedSnapshot() ? (DataMap) event.getProposedSnapshot().data() : null;
+      if (union == null || union.size() != 1) {
+        snapshots.put(unkeyed++, new PendingSnapshot(event, null));
+        continue;
+      }
+
+      final String snapshotType = union.keySet().iterator().next();
+      final DataMap snapshot = union.getDataMap(snapshotType);
+      final EntityKey key = new EntityKey(snapshotType, snapshot.getString(URN_FIELD));
+      snapshots.computeIfAbsent(key, k -> new PendingSnapshot(event, snapshotType)).merge(event, snapshot);
+    }
+
+    final List<MetadataChangeEvent> coalesced = new ArrayList<>(snapshots.size());
+    snapshots.values().forEach(pending -> coalesced.add(pending.toEvent()));
+    return coalesced;
+  }
+
+  @Value
+  private static class EntityKey {
+    String snapshotType;
+    String urn;
+  }
+
+  /**
+   * Latest MCE and latest value of each aspect proposed for an entity.
+   */
+  private static final class PendingSnapshot {
+    private final String _snapshotType;
+    private final Map<String, Object> _aspects = new LinkedHashMap<>();
+    private MetadataChangeEvent _latestEvent;
+    private DataMap _latestSnapshot;
+
+    PendingSnapshot(@Nonnull MetadataChangeEvent event, String snapshotType) {
+      _latestEvent = event;
+      _snapshotType = snapshotType;
+    }
+
+    void merge(@Nonnull MetadataChangeEvent event, @Nonnull DataMap snapshot) {
+      _latestEvent = event;
+      _latestSnapshot = snapshot;
+      final DataList aspects = snapshot.getDataList(ASPECTS_FIELD);
+      if (aspects == null) {
+        return;
+      }
+      for (Object aspect : aspects) {
+        // Aspects are unions, keyed by the type of the aspect
+        final DataMap aspectUnion = (DataMap) aspect;
+        final String aspectType = aspectUnion.keySet().iterator().next();
+        // Removed first so that the aspects keep the order they were last proposed in
+        _aspects.remove(aspectType);
+        _aspects.put(aspectType, aspectUnion);
+      }
+    }
+
+    @Nonnull
+    MetadataChangeEvent toEvent() {
+      if (_snapshotType == null) {
+        return _latestEvent;
+      }
+
+      final DataMap snapshot = new DataMap(_latestSnapshot);
+      snapshot.put(ASPECTS_FIELD, new DataList(new ArrayList<>(_aspects.values())));
+      final DataMap union = new DataMap();
+      union.put(_snapshotType, snapshot);
+      return _latestEvent.setProposedSnapshot(new Snapshot(union));
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.linkedin.metadata.utils.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.DocWriteResponse;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.shard.ShardId;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class ElasticsearchConnectorTest {
+
+  private static final String INDEX = "datasetdocument";
+  private static final String TYPE = "doc";
+
+  private ElasticsearchConnector _connector;
+  private List<DocWriteRequest> _deadLetters;
+
+  @BeforeMethod
+  public void setup() {
+    // No request is sent to the host, items are handed to the listener logic directly
+    _connector = new ElasticsearchConnector(Collections.singletonList("localhost"), 9200, 1,
+        BulkProcessorConfig.builder().build());
+    _deadLetters = new ArrayList<>();
+    _connector.setDeadLetterHandler((request, reason) -> _deadLetters.add(request));
+  }
+
+  @Test
+  public void testMatchesEveryItemOfADocument() {
+    UpdateRequest first = upsert("foo", "{\"name\":\"first\"}");
+    UpdateRequest second = upsert("foo", "{\"name\":\"second\"}");
+    UpdateRequest other = upsert("bar", "{\"name\":\"bar\"}");
+
+    _connector.handleFailedItems(new BulkRequest().add(first).add(other).add(second),
+        new BulkResponse(new BulkItemResponse[]{succeeded(0, "foo"), succeeded(1, "bar"), failed(2, "foo")}, 1));
+
+    assertEquals(_deadLetters.size(), 1);
+    assertSame(_deadLetters.get(0), second);
+    assertEquals(_connector.getBulkMetrics().getSucceededItems(), 2);
+    assertEquals(_connector.getBulkMetrics().getFailedItems(), 1);
+    assertEquals(_connector.getBulkMetrics().getDeadLetteredItems(), 1);
+  }
+
+  @Test
+  public void testFailedFirstItemOnlyDeadLettersItsRequest() {
+    UpdateRequest first = upsert("foo", "{\"name\":\"first\"}");
+    UpdateRequest second = upsert("foo", "{\"name\":\"second\"}");
+
+    _connector.handleFailedItems(new BulkRequest().add(first).add(second),
+        new BulkResponse(new BulkItemResponse[]{failed(0, "foo"), succeeded(1, "foo")}, 1));
+
+    assertEquals(_deadLetters.size(), 1);
+    assertSame(_deadLetters.get(0), first);
+    assertEquals(_connector.getBulkMetrics().getSucceededItems(), 1);
+    assertEquals(_connector.getBulkMetrics().getFailedItems(), 1);
+  }
+
+  private static UpdateRequest upsert(String id, String source) {
+    return new UpdateRequest(INDEX, TYPE, id).doc(source, XContentType.JSON).upsert(source, XContentType.JSON);
+  }
+
+  private static BulkItemResponse succeeded(int itemId, String id) {
+    return new BulkItemResponse(itemId, DocWriteRequest.OpType.UPDATE,
+        new UpdateResponse(new ShardId(INDEX, "uuid", 0), TYPE, id, 1, DocWriteResponse.Result.UPDATED));
+  }
+
+  private static BulkItemResponse failed(int itemId, String id) {
+    // Mapping errors are not retryable
+    return new BulkItemResponse(itemId, DocWriteRequest.OpType.UPDATE,
+        new BulkItemResponse.Failure(INDEX, TYPE, id, new IllegalArgumentException("mapper_parsing_exception")));
+  }
+}
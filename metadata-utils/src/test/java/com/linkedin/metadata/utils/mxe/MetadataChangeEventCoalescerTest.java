@@ -0,0 +1,94 @@
+package com.linkedin.metadata.utils.mxe;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.InstitutionalMemory;
+import com.linkedin.common.InstitutionalMemoryMetadataArray;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.mxe.MetadataChangeEvent;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class MetadataChangeEventCoalescerTest {
+
+  private static final DatasetUrn FOO = new DatasetUrn(new DataPlatformUrn("hive"), "foo", FabricType.PROD);
+  private static final DatasetUrn BAR = new DatasetUrn(new DataPlatformUrn("hive"), "bar", FabricType.PROD);
+
+  @Test
+  public void testCoalesceKeepsLatestValueOfEachAspect() {
+    InstitutionalMemory memory = new InstitutionalMemory().setElements(new InstitutionalMemoryMetadataArray());
+    MetadataChangeEvent foo1 = makeEvent(FOO, new Status().setRemoved(true), memory);
+    MetadataChangeEvent bar = makeEvent(BAR, new Status().setRemoved(true));
+    MetadataChangeEvent foo2 = makeEvent(FOO, new Status().setRemoved(false));
+
+    List<MetadataChangeEvent> coalesced = MetadataChangeEventCoalescer.coalesce(ImmutableList.of(foo1, bar, foo2));
+
+    assertEquals(coalesced.size(), 2);
+    assertEquals(coalesced.get(0).getProposedSnapshot().getDatasetSnapshot(),
+        makeSnapshot(FOO, memory, new Status().setRemoved(false)));
+    assertEquals(coalesced.get(1), bar);
+  }
+
+  @Test
+  public void testCoalesceKeepsEventsWithoutSnapshot() {
+    MetadataChangeEvent empty = new MetadataChangeEvent();
+    MetadataChangeEvent foo = makeEvent(FOO, new Status().setRemoved(true));
+
+    List<MetadataChangeEvent> coalesced =
+        MetadataChangeEventCoalescer.coalesce(ImmutableList.of(empty, foo, new MetadataChangeEvent()));
+
+    assertEquals(coalesced.size(), 3);
+    assertEquals(coalesced.get(1), foo);
+  }
+
+  @Test
+  public void testCoalesceKeepsAspectsNotProposedAgain() {
+    InstitutionalMemory memory = new InstitutionalMemory().setElements(new InstitutionalMemoryMetadataArray());
+    MetadataChangeEvent foo1 = makeEvent(FOO, new Status().setRemoved(true), memory);
+    MetadataChangeEvent foo2 = makeEvent(FOO);
+
+    List<MetadataChangeEvent> coalesced = MetadataChangeEventCoalescer.coalesce(ImmutableList.of(foo1, foo2));
+
+    assertEquals(coalesced.size(), 1);
+    assertEquals(coalesced.get(0).getProposedSnapshot().getDatasetSnapshot(),
+        makeSnapshot(FOO, new Status().setRemoved(true), memory));
+  }
+
+  @Test
+  public void testCoalesceLeavesDistinctEntitiesUnchanged() {
+    MetadataChangeEvent foo = makeEvent(FOO, new Status().setRemoved(true));
+    MetadataChangeEvent bar = makeEvent(BAR, new Status().setRemoved(false));
+
+    List<MetadataChangeEvent> coalesced = MetadataChangeEventCoalescer.coalesce(ImmutableList.of(foo, bar));
+
+    assertEquals(coalesced, ImmutableList.of(makeEvent(FOO, new Status().setRemoved(true)),
+        makeEvent(BAR, new Status().setRemoved(false))));
+  }
+
+  @Test
+  public void testCoalesceNoEvents() {
+    assertTrue(MetadataChangeEventCoalescer.coalesce(ImmutableList.of()).isEmpty());
+  }
+
+  private static MetadataChangeEvent makeEvent(DatasetUrn urn, RecordTemplate... aspects) {
+    return new MetadataChangeEvent().setProposedSnapshot(Snapshot.create(makeSnapshot(urn, aspects)));
+  }
+
+  private static DatasetSnapshot makeSnapshot(DatasetUrn urn, RecordTemplate... aspects) {
+    ImmutableList.Builder<DatasetAspect> unions = ImmutableList.builder();
+    for (RecordTemplate aspect : aspects) {
+      unions.add(ModelUtils.newAspectUnion(DatasetAspect.class, aspect));
+    }
+    return ModelUtils.newSnapshot(DatasetSnapshot.class, urn, unions.build());
+  }
+}